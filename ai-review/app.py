@@ -37,6 +37,14 @@ MAX_LEN = 80
 class ReviewRequest(BaseModel):
     reviews: list[str]
 
+# 여러 상품의 리뷰를 한 번에 분석하는 배치 요청
+class ProductReviews(BaseModel):
+    product_id: int
+    reviews: list[str]
+
+class BatchReviewRequest(BaseModel):
+    items: list[ProductReviews]
+
 # ==============================
 # 전처리 함수
 # ==============================
@@ -49,6 +57,33 @@ def preprocess(text):
     pad = pad_sequences(seq, maxlen=MAX_LEN)
     return pad
 
+# 리뷰 목록 전체를 하나의 행렬로 만들어 predict 1회로 점수 계산
+def predict_scores(texts):
+    if not texts:
+        return []
+    token_lists = []
+    for text in texts:
+        text = re.sub(r"[^ㄱ-ㅎㅏ-ㅣ가-힣 ]", "", text)
+        tokens = [t for t in mecab.morphs(text) if t not in stopwords]
+        token_lists.append(tokens)
+
+    seq = tokenizer.texts_to_sequences(token_lists)
+    x = pad_sequences(seq, maxlen=MAX_LEN)
+    return [float(s) for s in model.predict(x, batch_size=256, verbose=0).reshape(-1)]
+
+def summarize(scores):
+    pos = sum(1 for s in scores if s > 0.5)
+    neg = len(scores) - pos
+    total = pos + neg
+
+    return {
+        "total_reviews": total,
+        "positive_percent": round(pos / total * 100, 2) if total else 0.0,
+        "negative_percent": round(neg / total * 100, 2) if total else 0.0,
+        "positive_count": pos,
+        "negative_count": neg
+    }
+
 # ==============================
 # 감정 분석 API
 # ==============================
@@ -78,6 +113,29 @@ def analyze(request: ReviewRequest):
         "negative_count": neg
     }
 
+# ==============================
+# 배치 감정 분석 API (여러 상품 합산 1회 추론)
+# ==============================
+@app.post("/analyze/batch")
+def analyze_batch(request: BatchReviewRequest):
+    texts = []
+    offsets = []
+    for item in request.items:
+        offsets.append((item.product_id, len(texts), len(texts) + len(item.reviews)))
+        texts.extend(item.reviews)
+
+    scores = predict_scores(texts)
+
+    results = []
+    for product_id, start, end in offsets:
+        result = summarize(scores[start:end])
+        result["product_id"] = product_id
+        # 리뷰별 분류 결과 (요청 순서와 동일) - 백엔드가 리뷰 단위로 저장해 증분 분석에 사용
+        result["labels"] = ["POSITIVE" if s > 0.5 else "NEGATIVE" for s in scores[start:end]]
+        results.append(result)
+
+    return {"results": results}
+
 # ==============================
 # 서버 상태 체크
 # ==============================
@@ -1,11 +1,14 @@
 from fastapi import FastAPI, HTTPException
 from dotenv import load_dotenv
 from typing import List
+from collections import OrderedDict
 import json
 
 from openai import OpenAI
 
 from app.models import (
+    CandidateProduct,
+    CandidateSnapshot,
     RecommendRequest,
     RecommendResponse,
 )
@@ -30,17 +33,28 @@ app = FastAPI(
 )
 
 # --------------------------------
-# GPT 추천 로직
+# 후보 상품 스냅샷 저장소 (버전 -> (후보 목록, 프롬프트용 요약))
+# 여러 백엔드 인스턴스가 잠시 다른 버전을 쓸 수 있으므로 최근 몇 개만 보관
 # --------------------------------
-def recommend_with_gpt(req: RecommendRequest) -> List[int]:
-    # 후보 상품 요약 (토큰 절약)
+MAX_SNAPSHOTS = 5
+snapshots: "OrderedDict[str, tuple]" = OrderedDict()
+
+
+# 후보 상품 요약 (토큰 절약)
+def summarize_candidates(candidates: List[CandidateProduct]) -> str:
     candidates_text = ""
-    for p in req.candidates:
+    for p in candidates:
         candidates_text += (
             f"- ID {p.id}: {p.name} "
             f"(효능: {', '.join(p.benefits) if p.benefits else '없음'}, "
             f"알러지: {', '.join(p.allergens) if p.allergens else '없음'})\n"
         )
+    return candidates_text
+
+# --------------------------------
+# GPT 추천 로직
+# --------------------------------
+def recommend_with_gpt(req: RecommendRequest, candidates_text: str) -> List[int]:
 
     prompt = f"""
 너는 헬스케어 쇼핑몰의 추천 AI다.
@@ -114,9 +128,34 @@ def recommend_with_gpt(req: RecommendRequest) -> List[int]:
 # --------------------------------
 # API 엔드포인트
 # --------------------------------
+@app.put("/candidates/snapshot")
+def put_candidate_snapshot(snapshot: CandidateSnapshot):
+    snapshots[snapshot.version] = (snapshot.candidates, summarize_candidates(snapshot.candidates))
+    snapshots.move_to_end(snapshot.version)
+    while len(snapshots) > MAX_SNAPSHOTS:
+        snapshots.popitem(last=False)
+    return {"version": snapshot.version, "count": len(snapshot.candidates)}
+
+
 @app.post("/recommend", response_model=RecommendResponse)
 def recommend(req: RecommendRequest):
 
+    # 0️⃣ 스냅샷 버전으로 요청한 경우 -> 저장된 후보 사용 (모르는 버전이면 409 -> 백엔드가 재등록)
+    if req.snapshot_version is not None:
+        stored = snapshots.get(req.snapshot_version)
+        if stored is None:
+            raise HTTPException(
+                status_code=409,
+                detail=f"등록되지 않은 후보 스냅샷 버전입니다: {req.snapshot_version}"
+            )
+        candidates, candidates_text = stored
+        if len(candidates) < 5:
+            raise HTTPException(
+                status_code=400,
+                detail=f"후보 상품은 최소 5개 이상 필요합니다. (전달받은 개수: {len(candidates)})"
+            )
+        return RecommendResponse(product_ids=recommend_with_gpt(req, candidates_text))
+
     # 1️⃣ 후보 상품 필드 자체가 없는 경우
     if req.candidates is None:
         raise HTTPException(
@@ -138,5 +177,5 @@ def recommend(req: RecommendRequest):
             detail=f"후보 상품은 최소 5개 이상 필요합니다. (전달받은 개수: {len(req.candidates)})"
         )
 
-    product_ids = recommend_with_gpt(req)
+    product_ids = recommend_with_gpt(req, summarize_candidates(req.candidates))
     return RecommendResponse(product_ids=product_ids)
\ No newline at end of file
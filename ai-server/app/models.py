@@ -11,12 +11,20 @@ class CandidateProduct(BaseModel):
     category: Optional[str] = None
 
 
+# 백엔드 → AI 후보 상품 스냅샷 (버전별로 한 번만 등록)
+class CandidateSnapshot(BaseModel):
+    version: str
+    candidates: List[CandidateProduct]
+
+
 # 백엔드 → AI 요청 모델
+# snapshot_version을 보내면 candidates 없이 등록된 스냅샷을 사용
 class RecommendRequest(BaseModel):
     diseases: List[str]
     allergies: List[str]
     goals: List[str]
-    candidates: List[CandidateProduct]
+    snapshot_version: Optional[str] = None
+    candidates: Optional[List[CandidateProduct]] = None
 
 
 # AI → 백엔드 응답 모델
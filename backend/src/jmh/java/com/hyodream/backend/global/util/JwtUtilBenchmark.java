@@ -0,0 +1,49 @@
+package com.hyodream.backend.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 인증이 필요한 모든 요청에서 JwtAuthenticationFilter가 실행하는 토큰 검증/파싱
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        validToken = jwtUtil.createAccessToken("user1024");
+        // 서명 중간 글자 변조 -> 검증 실패 경로 (예외 생성 비용 포함)
+        // (마지막 글자는 Base64 패딩 비트만 바뀔 수 있어 제외)
+        int index = validToken.length() - 5;
+        char target = validToken.charAt(index);
+        tamperedToken = validToken.substring(0, index) + (target == 'A' ? 'B' : 'A') + validToken.substring(index + 1);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtUtil.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return jwtUtil.getUsername(validToken);
+    }
+
+    // 필터의 실제 호출 순서 (검증 후 아이디 추출)
+    @Benchmark
+    public String validateThenGetUsername() {
+        return jwtUtil.validateToken(validToken) ? jwtUtil.getUsername(validToken) : null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.hyodream.backend.product.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.hyodream.backend.product.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 목록 응답 비용: 엔티티 -> DTO 변환 + 페이지 JSON 직렬화
+ */
+@State(Scope.Benchmark)
+public class ProductResponseBenchmark {
+
+    @Param({ "20", "100" })
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+    private Page<ProductResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        products = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            products.add(product(i));
+        }
+        page = new PageImpl<>(toDtos(products), PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> construct() {
+        return toDtos(products);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    // 실제 목록 API 경로 (변환 + 직렬화)
+    @Benchmark
+    public byte[] constructAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(new PageImpl<>(toDtos(products), PageRequest.of(0, pageSize), 10_000));
+    }
+
+    private static List<ProductResponseDto> toDtos(List<Product> products) {
+        List<ProductResponseDto> dtos = new ArrayList<>(products.size());
+        for (Product product : products) {
+            dtos.add(new ProductResponseDto(product));
+        }
+        return dtos;
+    }
+
+    static Product product(long id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("정관장 홍삼정 에브리타임 10ml x 30포 " + id);
+        product.setPrice(89_000 + (int) id);
+        product.setImageUrl("https://shopping-phinf.pstatic.net/main_" + id + ".jpg");
+        product.setItemUrl("https://smartstore.naver.com/hyodream/products/" + id);
+        product.setBrand("정관장");
+        product.setMaker("한국인삼공사");
+        product.setCategory1("식품");
+        product.setCategory2("건강식품");
+        product.setCategory3("홍삼");
+        product.setCategory4("홍삼농축액");
+        product.setHealthBenefits(new ArrayList<>(List.of("면역력 강화", "피로 회복")));
+        product.setAllergens(new ArrayList<>(List.of("대두")));
+        product.setTotalSales(1500);
+        product.setRecentSales(120);
+        product.setReviewCount(150);
+        product.setAverageRating(4.8);
+        return product;
+    }
+}
@@ -0,0 +1,64 @@
+package com.hyodream.backend.product.naver.service;
+
+import com.hyodream.backend.product.naver.dto.NaverShopItemDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 네이버 Import 시 상품마다 실행되는 효능/알러지 태깅
+ * - 검색 1회(최대 100개 상품) Import 비용의 대부분이 문자열 스캔
+ */
+@State(Scope.Benchmark)
+public class NaverTaggingBenchmark {
+
+    private NaverShopItemDto healthItem;
+    private NaverShopItemDto foodItem;
+    private String benefitText;
+
+    @Setup
+    public void setUp() {
+        healthItem = item("<b>정관장</b> 홍삼정 에브리타임 10ml x 30포 면역력 피로회복", "정관장", "한국인삼공사", "식품");
+        foodItem = item("국산 <b>간장게장</b> 1kg 꽃게 밀 대두 함유", "여수당", "여수당", "식품");
+        benefitText = "종근당 rTG 오메가3 루테인 눈 건강 혈행 개선 60캡슐 건강식품";
+    }
+
+    @Benchmark
+    public List<String> extractBenefits() {
+        return NaverShoppingService.extractBenefits(benefitText);
+    }
+
+    @Benchmark
+    public List<String> extractAllergensHealthItem() {
+        return NaverShoppingService.extractAllergens(healthItem);
+    }
+
+    @Benchmark
+    public List<String> extractAllergensFoodItem() {
+        return NaverShoppingService.extractAllergens(foodItem);
+    }
+
+    // 카테고리명 -> 대표 효능 (이벤트/추천에서 사용)
+    @Benchmark
+    public String findPrimaryBenefitHit() {
+        return NaverShoppingService.findPrimaryBenefit("관절/뼈 건강식품");
+    }
+
+    // 매칭되는 효능이 없는 경우 (모든 키워드를 끝까지 스캔)
+    @Benchmark
+    public String findPrimaryBenefitMiss() {
+        return NaverShoppingService.findPrimaryBenefit("주방용품");
+    }
+
+    private static NaverShopItemDto item(String title, String brand, String maker, String category1) {
+        NaverShopItemDto item = new NaverShopItemDto();
+        item.setTitle(title);
+        item.setBrand(brand);
+        item.setMaker(maker);
+        item.setCategory1(category1);
+        return item;
+    }
+}
@@ -0,0 +1,55 @@
+package com.hyodream.backend.product.service;
+
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.dto.ProductResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 목록 첫 페이지: 관심사 상품 앞에 붙이기 + 중복 제거 + DTO 변환 (ProductService.getAllProducts)
+ */
+@State(Scope.Benchmark)
+public class ProductMergeBenchmark {
+
+    @Param({ "20", "100" })
+    public int pageSize;
+
+    private List<Product> interestProducts;
+    private List<Product> pageProducts;
+
+    @Setup
+    public void setUp() {
+        pageProducts = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            pageProducts.add(product(i));
+        }
+        // 관심사 상품 일부는 페이지에도 포함 (중복 제거 경로)
+        interestProducts = new ArrayList<>(List.of(product(1), product(pageSize + 1), product(3), product(pageSize + 2)));
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> mergeWithInterest() {
+        return ProductService.mergeInterestFirst(interestProducts, pageProducts, pageSize);
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> pageOnly() {
+        return ProductService.mergeInterestFirst(List.of(), pageProducts, pageSize);
+    }
+
+    private static Product product(long id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("상품 " + id);
+        product.setPrice(10_000);
+        product.setCategory1("식품");
+        product.setHealthBenefits(new ArrayList<>(List.of("면역력 강화")));
+        return product;
+    }
+}
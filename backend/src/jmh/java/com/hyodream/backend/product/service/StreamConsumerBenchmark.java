@@ -0,0 +1,70 @@
+package com.hyodream.backend.product.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+import java.util.Map;
+
+/**
+ * 관심사 이벤트 소비 경로의 애플리케이션 측 비용 (Redis 호출 제외)
+ * - 점수 엔진은 기록만 하는 Stub으로 대체 -> 이벤트 파싱/점수 계산/캐시 무효화만 측정
+ * - eventId가 없는 클라이언트 이벤트 기준 (중복 제거 SETNX 없음)
+ */
+@State(Scope.Benchmark)
+public class StreamConsumerBenchmark {
+
+    private StreamConsumer consumer;
+    private MapRecord<String, String, String> clickEvent;
+    private MapRecord<String, String, String> unknownTypeEvent;
+    private MapRecord<String, String, String> noCategoryEvent;
+
+    // 마지막으로 기록된 점수 (JIT가 호출을 제거하지 못하도록 Blackhole로 소비)
+    private static Blackhole sink;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        sink = blackhole;
+        InterestScoreEngine engine = new InterestScoreEngine(null, 12, 24, 0.1, 36) {
+            @Override
+            public void record(String userId, String member, double weight, long eventTimeMillis) {
+                sink.consume(weight);
+                sink.consume(eventTimeMillis);
+            }
+        };
+        UserInterestNearCache nearCache = new UserInterestNearCache(null, 3, 5000, 10_000);
+        consumer = new StreamConsumer(engine, nearCache, null, new SimpleMeterRegistry());
+
+        String now = String.valueOf(System.currentTimeMillis());
+        clickEvent = record(Map.of("userId", "user1024", "productId", "10", "category", "관절/뼈 건강",
+                "type", "CLICK", "timestamp", now));
+        unknownTypeEvent = record(Map.of("userId", "user1024", "productId", "10", "category", "관절/뼈 건강",
+                "type", "SHARE", "timestamp", now));
+        noCategoryEvent = record(Map.of("userId", "user1024", "productId", "10", "category", "null",
+                "type", "CLICK", "timestamp", now));
+    }
+
+    @Benchmark
+    public void onMessageClick() {
+        consumer.onMessage(clickEvent);
+    }
+
+    @Benchmark
+    public void onMessageUnknownType() {
+        consumer.onMessage(unknownTypeEvent);
+    }
+
+    @Benchmark
+    public void onMessageNoCategory() {
+        consumer.onMessage(noCategoryEvent);
+    }
+
+    private static MapRecord<String, String, String> record(Map<String, String> fields) {
+        return StreamRecords.newRecord().in(EventStreamPublisher.STREAM_KEY).ofMap(fields);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hyodream.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * [엔드포인트별 측정값] 응답 시간(μs) 전체 보관 후 종료 시 정렬하여 백분위 계산
+ * - 수 분 단위 테스트 기준 샘플 수가 수십만 건 수준이므로 원본 보관 (근사 히스토그램 불필요)
+ * - 오류는 종류별 집계: HTTP 상태 코드("503") 또는 예외 이름("HttpTimeoutException")
+ */
+public class EndpointStats {
+
+    private final String name;
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private long errors;
+    private final Map<String, Long> errorsByType = new TreeMap<>();
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public synchronized void record(long latencyMicros, String errorType) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyMicros;
+        if (errorType != null) {
+            errors++;
+            errorsByType.merge(errorType, 1L, Long::sum);
+        }
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    // 리포트용 요약 (지연 시간 단위: ms)
+    public synchronized Map<String, Object> summarize(double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("min", millis(count > 0 ? sorted[0] : 0));
+        latency.put("mean", millis(count > 0 ? (long) Arrays.stream(sorted).average().orElse(0) : 0));
+        latency.put("p50", millis(percentile(sorted, 50)));
+        latency.put("p90", millis(percentile(sorted, 90)));
+        latency.put("p95", millis(percentile(sorted, 95)));
+        latency.put("p99", millis(percentile(sorted, 99)));
+        latency.put("p999", millis(percentile(sorted, 99.9)));
+        latency.put("max", millis(count > 0 ? sorted[count - 1] : 0));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoint", name);
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("errorRate", (count > 0) ? round((double) errors / count, 4) : 0.0);
+        summary.put("throughputPerSec", (measuredSeconds > 0) ? round(count / measuredSeconds, 2) : 0.0);
+        summary.put("latencyMs", latency);
+        summary.put("errorsByType", new TreeMap<>(errorsByType));
+        return summary;
+    }
+
+    // Nearest-rank 방식
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0)
+            return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(Math.max(rank, 1), sorted.length) - 1];
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0, 2);
+    }
+
+    private static double round(double value, int scale) {
+        double factor = Math.pow(10, scale);
+        return Math.round(value * factor) / factor;
+    }
+}
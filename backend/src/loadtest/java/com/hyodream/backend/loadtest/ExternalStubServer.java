@@ -0,0 +1,342 @@
+package com.hyodream.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [외부 서비스 Stub] 백엔드가 호출하는 외부 API를 한 포트에서 흉내내는 로컬 HTTP 서버
+ * - ai      : PUT /candidates/snapshot, POST /recommend          (ai-server)
+ * - review  : POST /analyze, POST /analyze/batch                (ai-review)
+ * - crawler : POST /crawl                                       (crawler)
+ * - naver   : GET /v1/search/shop.json                          (네이버 쇼핑 검색 API)
+ * - 응답 형식은 실제 서비스와 동일 (백엔드 DTO 기준), 내용은 요청값에서 결정적으로 생성
+ *   (같은 검색어 -> 같은 상품 ID: 백엔드 Cache-Aside/중복 저장 경로가 실제와 같게 동작)
+ * - 서비스별 StubProfile로 지연/503/응답 지연(hang) 주입
+ * - 요청 처리는 Virtual Thread (hang 주입 시에도 다른 요청이 막히지 않도록)
+ */
+@Slf4j
+public class ExternalStubServer implements AutoCloseable {
+
+    private static final String[] REVIEW_TEXTS = {
+            "배송이 빠르고 좋습니다.", "효과가 있는 것 같아요.", "재구매 의사 있습니다.", "포장이 꼼꼼해요.",
+            "생각보다 별로예요.", "배송이 너무 늦어요.", "맛이 좀 이상해요.", "부모님이 좋아하십니다."
+    };
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper;
+    private final Map<String, StubProfile> profiles;
+
+    // 경로별 처리 통계 (리포트용)
+    private final Map<String, RouteCounters> routeCounters = new ConcurrentHashMap<>();
+
+    // 마지막으로 등록된 추천 후보 스냅샷 (모르는 버전으로 추천 요청 시 409 -> 백엔드 재등록 경로)
+    private volatile String snapshotVersion;
+    private volatile List<Long> snapshotCandidateIds = List.of();
+
+    private static final class RouteCounters {
+        final AtomicLong requests = new AtomicLong();
+        final AtomicLong injectedErrors = new AtomicLong();
+        final AtomicLong injectedHangs = new AtomicLong();
+    }
+
+    @FunctionalInterface
+    private interface RouteHandler {
+        Response handle(HttpExchange exchange, byte[] body) throws IOException;
+    }
+
+    private record Response(int status, Object body) {
+    }
+
+    public ExternalStubServer(int port, Map<String, StubProfile> profiles, ObjectMapper objectMapper) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.objectMapper = objectMapper;
+        this.profiles = profiles;
+
+        route("ai", "PUT", "/candidates/snapshot", this::publishSnapshot);
+        route("ai", "POST", "/recommend", this::recommend);
+        route("review", "POST", "/analyze/batch", this::analyzeBatch);
+        route("review", "POST", "/analyze", this::analyze);
+        route("crawler", "POST", "/crawl", this::crawl);
+        route("naver", "GET", "/v1/search/shop.json", this::searchShop);
+        server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+        log.info("🧪 [Stub] 외부 서비스 Stub 기동: http://localhost:{} ({})", server.getAddress().getPort(), profiles);
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    // 경로별 요청/주입 오류 수
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new TreeMap<>();
+        routeCounters.forEach((route, counters) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("requests", counters.requests.get());
+            entry.put("injectedErrors", counters.injectedErrors.get());
+            entry.put("injectedHangs", counters.injectedHangs.get());
+            stats.put(route, entry);
+        });
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // --- Routes ---
+
+    private Response publishSnapshot(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode snapshot = objectMapper.readTree(body);
+        List<Long> ids = new ArrayList<>();
+        snapshot.path("candidates").forEach(candidate -> ids.add(candidate.path("id").asLong()));
+        snapshotCandidateIds = List.copyOf(ids);
+        snapshotVersion = snapshot.path("version").asText(null);
+        return new Response(200, null);
+    }
+
+    private Response recommend(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode request = objectMapper.readTree(body);
+        List<Long> candidates;
+        if (request.hasNonNull("snapshot_version")) {
+            if (!request.path("snapshot_version").asText().equals(snapshotVersion)) {
+                return new Response(409, Map.of("detail", "unknown snapshot_version"));
+            }
+            candidates = snapshotCandidateIds;
+        } else {
+            candidates = new ArrayList<>();
+            for (JsonNode candidate : request.path("candidates")) {
+                candidates.add(candidate.path("id").asLong());
+            }
+        }
+        return new Response(200, Map.of("product_ids", pick(candidates, 3)));
+    }
+
+    private Response analyze(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode request = objectMapper.readTree(body);
+        return new Response(200, analysisOf(request.path("reviews"), null));
+    }
+
+    private Response analyzeBatch(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode request = objectMapper.readTree(body);
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (JsonNode item : request.path("items")) {
+            results.add(analysisOf(item.path("reviews"), item.path("product_id").asLong()));
+        }
+        return new Response(200, Map.of("results", results));
+    }
+
+    private Response crawl(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode request = objectMapper.readTree(body);
+        String url = request.path("url").asText("");
+        int maxPages = Math.max(1, request.path("max_pages").asInt(1));
+        long seed = Integer.toUnsignedLong(url.hashCode());
+
+        // 상품 URL마다 고정된 리뷰 ID -> 재수집 시 백엔드 중복 제거(externalReviewId) 경로 확인
+        int reviewCount = (int) (seed % 20) + maxPages * 10;
+        List<Map<String, Object>> reviews = new ArrayList<>(reviewCount);
+        for (int i = 0; i < reviewCount; i++) {
+            Map<String, Object> review = new LinkedHashMap<>();
+            review.put("id", seed + "-" + i);
+            review.put("reviewScore", 1 + (int) ((seed + i) % 5));
+            review.put("writerMemberId", "stub****");
+            review.put("productOptionContent", "기본");
+            review.put("reviewContent", REVIEW_TEXTS[(int) ((seed + i) % REVIEW_TEXTS.length)]);
+            review.put("createDate", OffsetDateTime.now(ZoneOffset.UTC).minusDays(i).toString());
+            review.put("reviewAttaches", List.of());
+            reviews.add(review);
+        }
+
+        Map<String, Object> product = new LinkedHashMap<>();
+        product.put("productNo", String.valueOf(seed));
+        product.put("name", "Stub 상품 " + seed);
+        product.put("price", 10_000 + (int) (seed % 90) * 1_000);
+        product.put("original_price", 120_000);
+        product.put("discount_rate", 10);
+        product.put("seller", "stub-store");
+        product.put("review_count", reviewCount);
+        product.put("rating", 4.5);
+        product.put("images", List.of());
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("product", product);
+        response.put("review_count", reviewCount);
+        response.put("reviews", reviews);
+        return new Response(200, response);
+    }
+
+    private Response searchShop(HttpExchange exchange, byte[] body) {
+        String query = queryParam(exchange, "query");
+        int display = Math.min(100, Math.max(1, parseIntOr(queryParam(exchange, "display"), 20)));
+        long seed = Integer.toUnsignedLong(query.hashCode());
+
+        List<Map<String, Object>> items = new ArrayList<>(display);
+        for (int i = 0; i < display; i++) {
+            String productId = "9" + (seed % 100_000_000L) + String.format("%03d", i);
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("title", "<b>" + query + "</b> 건강 상품 " + (i + 1));
+            item.put("link", "https://smartstore.naver.com/stub/products/" + productId);
+            item.put("image", "https://shopping-phinf.pstatic.net/stub/" + productId + ".jpg");
+            item.put("lprice", String.valueOf(9_900 + (int) ((seed + i) % 50) * 1_000));
+            item.put("productId", productId);
+            item.put("mallName", "효드림 Stub");
+            item.put("brand", "Stub");
+            item.put("maker", "Stub");
+            item.put("category1", "식품");
+            item.put("category2", "건강식품");
+            item.put("category3", query);
+            item.put("category4", "");
+            items.add(item);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("total", 1000);
+        response.put("start", 1);
+        response.put("display", display);
+        response.put("items", items);
+        return new Response(200, response);
+    }
+
+    // --- Private Methods ---
+
+    private void route(String service, String method, String path, RouteHandler handler) {
+        StubProfile profile = profiles.getOrDefault(service, StubProfile.NONE);
+        RouteCounters counters = routeCounters.computeIfAbsent(method + " " + path, key -> new RouteCounters());
+
+        server.createContext(path, exchange -> {
+            try (exchange) {
+                // createContext는 접두사 매칭이므로 경로 전체가 같을 때만 처리 (/analyze vs /analyze/batch)
+                if (!exchange.getRequestURI().getPath().equals(path) || !exchange.getRequestMethod().equals(method)) {
+                    send(exchange, 404, Map.of("detail", "not found"));
+                    return;
+                }
+                counters.requests.incrementAndGet();
+                byte[] body = exchange.getRequestBody().readAllBytes();
+
+                sleep(profile.sampleDelayMillis());
+                if (profile.rollHang()) {
+                    counters.injectedHangs.incrementAndGet();
+                    sleep(profile.hangMillis());
+                }
+                if (profile.rollError()) {
+                    counters.injectedErrors.incrementAndGet();
+                    send(exchange, 503, Map.of("detail", "stub injected error"));
+                    return;
+                }
+
+                Response response = handler.handle(exchange, body);
+                send(exchange, response.status(), response.body());
+            } catch (Exception e) {
+                log.warn("⚠️ [Stub] 요청 처리 실패 ({} {}): {}", method, path, e.getMessage());
+            }
+        });
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    // 리뷰 내용 기준 감성 라벨 (부정 키워드 포함 시 NEGATIVE)
+    private static Map<String, Object> analysisOf(JsonNode reviews, Long productId) {
+        List<String> labels = new ArrayList<>();
+        for (JsonNode review : reviews) {
+            String text = review.asText("");
+            boolean negative = text.contains("별로") || text.contains("늦") || text.contains("이상");
+            labels.add(negative ? "NEGATIVE" : "POSITIVE");
+        }
+        int total = labels.size();
+        int positive = (int) labels.stream().filter("POSITIVE"::equals).count();
+        int negative = total - positive;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (productId != null) {
+            result.put("product_id", productId);
+            result.put("labels", labels);
+        }
+        result.put("total_reviews", total);
+        result.put("positive_count", positive);
+        result.put("negative_count", negative);
+        result.put("positive_percent", (total > 0) ? positive * 100.0 / total : 0.0);
+        result.put("negative_percent", (total > 0) ? negative * 100.0 / total : 0.0);
+        return result;
+    }
+
+    private static List<Long> pick(List<Long> candidates, int count) {
+        if (candidates.size() <= count) {
+            return candidates;
+        }
+        List<Long> picked = new ArrayList<>(count);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (picked.size() < count) {
+            Long id = candidates.get(random.nextInt(candidates.size()));
+            if (!picked.contains(id)) {
+                picked.add(id);
+            }
+        }
+        return picked;
+    }
+
+    private static String queryParam(HttpExchange exchange, String name) {
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                String[] kv = pair.split("=", 2);
+                if (kv[0].equals(name)) {
+                    return (kv.length == 2) ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : "";
+                }
+            }
+        }
+        return "";
+    }
+
+    private static int parseIntOr(String value, int defaultValue) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.hyodream.backend.loadtest;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [부하 테스트 설정] "key=value" 인자 (Gradle: -PloadTestArgs="duration-seconds=120 concurrency=100")
+ * - 같은 키를 시스템 프로퍼티 "loadtest.<key>"로도 지정 가능 (인자가 우선)
+ */
+public record LoadTestConfig(
+        Mode mode,
+        String profile,
+        String target,
+        int stubPort,
+        int durationSeconds,
+        int warmupSeconds,
+        int concurrency,
+        int users,
+        long thinkTimeMillis,
+        long requestTimeoutMillis,
+        Map<String, Integer> mix,
+        int maxOrderItems,
+        List<String> searchKeywords,
+        Map<String, StubProfile> stubProfiles,
+        Path reportPath) {
+
+    public enum Mode {
+        ALL,   // Stub 서버 기동 + 부하 실행
+        STUBS, // Stub 서버만 기동 (종료할 때까지 대기)
+        RUN    // 부하만 실행 (Stub 서버는 별도 프로세스)
+    }
+
+    // 시나리오별 기본 가중치 (실제 트래픽 비율 근사: 목록/상세 조회 위주, 쓰기는 소수)
+    static final Map<String, Integer> DEFAULT_MIX = orderedMap(
+            "products", 30,
+            "product-detail", 15,
+            "search", 12,
+            "recommend", 10,
+            "event-view", 20,
+            "reviews-read", 5,
+            "order", 5,
+            "review", 3);
+
+    // 주문 처리량 측정용 (profile=orders): 주문 생성만 반복, 주문당 상품 여러 개 (주문 상품 Batch Insert 경로)
+    static final Map<String, Integer> ORDERS_MIX = orderedMap("order", 1);
+
+    // 외부 서비스별 기본 Stub 프로파일 (실측 응답 시간 근사)
+    static final Map<String, StubProfile> DEFAULT_STUB_PROFILES = Map.of(
+            "ai", new StubProfile(400, 200, 0.02, 0.0, 5000),
+            "review", new StubProfile(1500, 500, 0.01, 0.0, 35000),
+            "crawler", new StubProfile(3000, 1000, 0.05, 0.0, 65000),
+            "naver", new StubProfile(150, 50, 0.01, 0.0, 10000));
+
+    public static LoadTestConfig from(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        System.getProperties().forEach((key, value) -> {
+            String name = key.toString();
+            if (name.startsWith("loadtest.")) {
+                values.put(name.substring("loadtest.".length()), value.toString());
+            }
+        });
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                if (token.isEmpty())
+                    continue;
+                String[] kv = token.replaceFirst("^--", "").split("=", 2);
+                if (kv.length != 2) {
+                    throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다: " + token);
+                }
+                values.put(kv[0], kv[1]);
+            }
+        }
+
+        Map<String, StubProfile> profiles = new HashMap<>();
+        DEFAULT_STUB_PROFILES.forEach((service, defaults) ->
+                profiles.put(service, StubProfile.parse(values.get("stub." + service), defaults)));
+
+        // profile: mixed(기본, 혼합 트래픽) | orders(주문 생성만) - mix/max-order-items를 지정하면 그 값이 우선
+        String profile = values.getOrDefault("profile", "mixed");
+        boolean ordersOnly = switch (profile) {
+            case "mixed" -> false;
+            case "orders" -> true;
+            default -> throw new IllegalArgumentException("알 수 없는 profile입니다: " + profile + " (사용 가능: mixed, orders)");
+        };
+
+        LoadTestConfig config = new LoadTestConfig(
+                Mode.valueOf(values.getOrDefault("mode", "all").toUpperCase()),
+                profile,
+                stripTrailingSlash(values.getOrDefault("target", "http://localhost:8080")),
+                Integer.parseInt(values.getOrDefault("stub-port", "9090")),
+                Integer.parseInt(values.getOrDefault("duration-seconds", "60")),
+                Integer.parseInt(values.getOrDefault("warmup-seconds", "10")),
+                Integer.parseInt(values.getOrDefault("concurrency", "50")),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Long.parseLong(values.getOrDefault("think-time-ms", "0")),
+                Long.parseLong(values.getOrDefault("request-timeout-ms", "10000")),
+                parseMix(values.get("mix"), ordersOnly ? ORDERS_MIX : DEFAULT_MIX),
+                Integer.parseInt(values.getOrDefault("max-order-items", ordersOnly ? "5" : "1")),
+                List.of(values.getOrDefault("search-keywords", "관절,루테인,홍삼,유산균,오메가3,혈압계,안마기").split(",")),
+                Map.copyOf(profiles),
+                Path.of(values.getOrDefault("report", "build/reports/loadtest/report.json")));
+        config.validate();
+        return config;
+    }
+
+    private void validate() {
+        if (durationSeconds <= 0 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("duration-seconds는 1 이상, warmup-seconds는 0 이상이어야 합니다.");
+        }
+        if (concurrency <= 0 || users <= 0) {
+            throw new IllegalArgumentException("concurrency와 users는 1 이상이어야 합니다.");
+        }
+        if (maxOrderItems <= 0) {
+            throw new IllegalArgumentException("max-order-items는 1 이상이어야 합니다.");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix 가중치 합은 1 이상이어야 합니다.");
+        }
+    }
+
+    // 형식: "products:30,search:10,order:5" (지정한 시나리오만 실행)
+    private static Map<String, Integer> parseMix(String spec, Map<String, Integer> defaults) {
+        if (spec == null || spec.isBlank()) {
+            return defaults;
+        }
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String pair : spec.split(",")) {
+            String[] kv = pair.split(":", 2);
+            String scenario = kv[0].trim();
+            if (!DEFAULT_MIX.containsKey(scenario)) {
+                throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + scenario + " (사용 가능: " + DEFAULT_MIX.keySet() + ")");
+            }
+            mix.put(scenario, (kv.length == 2) ? Integer.parseInt(kv[1].trim()) : 1);
+        }
+        return mix;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static Map<String, Integer> orderedMap(Object... keyValues) {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put((String) keyValues[i], (Integer) keyValues[i + 1]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public String toString() {
+        return "mode=" + mode + ", profile=" + profile + ", target=" + target + ", stubPort=" + stubPort
+                + ", duration=" + durationSeconds + "s (warmup " + warmupSeconds + "s)"
+                + ", concurrency=" + concurrency + ", users=" + users + ", mix=" + mix + ", maxOrderItems=" + maxOrderItems
+                + ", stubs=" + stubProfiles;
+    }
+}
@@ -0,0 +1,110 @@
+package com.hyodream.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [부하 테스트 진입점]
+ * 1. 백엔드를 loadtest 프로파일로 기동 (외부 서비스 주소 -> Stub 서버)
+ *    SPRING_PROFILES_ACTIVE=loadtest ./gradlew bootRun
+ * 2. ./gradlew loadTest -PloadTestArgs="duration-seconds=120 concurrency=100"
+ *    - mode=all(기본): Stub 서버를 같은 프로세스에서 띄우고 부하 실행
+ *    - mode=stubs: Stub 서버만 기동 (./gradlew loadTestStubs, 수동 테스트/외부 부하 도구용)
+ *    - mode=run: 부하만 실행 (Stub 서버를 따로 띄운 경우)
+ *    - profile=orders: 주문 생성만 반복 (주문당 상품 1~5개) -> POST /api/orders의 req/s가 초당 주문 처리량
+ *      예) -PloadTestArgs="profile=orders duration-seconds=120 concurrency=100 users=100"
+ *    - stub.ai / stub.review / stub.crawler / stub.naver: 서비스별 지연/오류 프로파일
+ *      예) stub.ai=latency=2000,error-rate=0.3  (AI 서버 장애 상황에서 Circuit Breaker/Fallback 확인)
+ * 3. 결과: build/reports/loadtest/report.json (엔드포인트별 처리량, 지연 백분위, 오류율 + Stub 호출 통계)
+ */
+@Slf4j
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.from(args);
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+        log.info("⚙️ [LoadTest] 설정: {}", config);
+
+        switch (config.mode()) {
+            case STUBS -> {
+                ExternalStubServer stubs = new ExternalStubServer(config.stubPort(), config.stubProfiles(), objectMapper);
+                Runtime.getRuntime().addShutdownHook(new Thread(stubs::close));
+                stubs.start();
+                Thread.currentThread().join(); // 종료(Ctrl+C)할 때까지 대기
+            }
+            case ALL -> {
+                try (ExternalStubServer stubs = new ExternalStubServer(config.stubPort(), config.stubProfiles(), objectMapper)) {
+                    stubs.start();
+                    Map<String, Object> result = new LoadTestRunner(config, objectMapper).run();
+                    writeReport(config, objectMapper, result, stubs.stats());
+                }
+            }
+            case RUN -> {
+                Map<String, Object> result = new LoadTestRunner(config, objectMapper).run();
+                writeReport(config, objectMapper, result, null);
+            }
+        }
+    }
+
+    private static void writeReport(LoadTestConfig config, ObjectMapper objectMapper,
+            Map<String, Object> result, Map<String, Object> stubStats) throws Exception {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("profile", config.profile());
+        settings.put("target", config.target());
+        settings.put("durationSeconds", config.durationSeconds());
+        settings.put("warmupSeconds", config.warmupSeconds());
+        settings.put("concurrency", config.concurrency());
+        settings.put("users", config.users());
+        settings.put("thinkTimeMs", config.thinkTimeMillis());
+        settings.put("mix", config.mix());
+        settings.put("maxOrderItems", config.maxOrderItems());
+        Map<String, String> profiles = new LinkedHashMap<>();
+        config.stubProfiles().forEach((service, profile) -> profiles.put(service, profile.toString()));
+        settings.put("stubProfiles", profiles);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", OffsetDateTime.now().toString());
+        report.put("config", settings);
+        report.putAll(result);
+        if (stubStats != null) {
+            report.put("stubs", stubStats);
+        }
+
+        Path path = config.reportPath().toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        objectMapper.writeValue(path.toFile(), report);
+
+        logSummary(result);
+        log.info("📄 [LoadTest] 리포트 저장: {}", path);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void logSummary(Map<String, Object> result) {
+        List<Map<String, Object>> endpoints = (List<Map<String, Object>>) result.get("endpoints");
+        log.info(String.format("%-38s %9s %9s %8s %9s %9s %9s", "endpoint", "req/s", "requests", "err%", "p50(ms)", "p95(ms)", "p99(ms)"));
+        for (Map<String, Object> endpoint : endpoints) {
+            log.info(line(endpoint));
+        }
+        log.info(line((Map<String, Object>) result.get("total")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String line(Map<String, Object> endpoint) {
+        Map<String, Object> latency = (Map<String, Object>) endpoint.get("latencyMs");
+        return String.format("%-38s %9.1f %9d %7.2f%% %9.1f %9.1f %9.1f",
+                endpoint.get("endpoint"), endpoint.get("throughputPerSec"), endpoint.get("requests"),
+                ((Double) endpoint.get("errorRate")) * 100, latency.get("p50"), latency.get("p95"), latency.get("p99"));
+    }
+}
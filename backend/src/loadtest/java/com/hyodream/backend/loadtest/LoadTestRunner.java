@@ -0,0 +1,349 @@
+package com.hyodream.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * [부하 실행기] 가상 사용자(Virtual Thread)가 시나리오 가중치에 따라 실제 API를 반복 호출 (Closed Model)
+ * - 준비: 상품 ID 목록 조회, 테스트 계정 가입/로그인 + 건강 정보 등록 (AI 추천 경로가 실행되도록)
+ * - 워밍업 구간의 요청은 집계에서 제외 (JIT/커넥션 풀/캐시 예열)
+ * - 주문 성공 시 해당 상품을 사용자별 "리뷰 작성 가능" 목록에 추가 -> review 시나리오가 사용
+ *   (작성 가능한 상품이 없으면 주문으로 대체)
+ * - 상품 선택은 인기 상품 쪽으로 치우치게 (실제 조회 분포 근사, 캐시 적중률이 현실적으로 나오도록)
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "loadtest1234!";
+    private static final String[] DISEASES = { "당뇨", "고혈압", "고지혈증", "골다공증", "관절염" };
+    private static final String[] GOALS = { "면역력 강화", "피로 회복", "관절/뼈 건강", "눈 건강", "혈행 개선", "장 건강" };
+    private static final String[] EVENT_TYPES = { "CLICK", "CLICK", "CLICK", "LONG_VIEW", "CART" };
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final EndpointStats totalStats = new EndpointStats("ALL");
+    private final List<VirtualUser> users = new ArrayList<>();
+    private List<Long> productIds = List.of();
+    private final String[] scenarios;
+    private final int[] cumulativeWeights;
+
+    private volatile long measureFromNanos;
+
+    private static final class VirtualUser {
+        final String token;
+        final String sessionId = UUID.randomUUID().toString();
+        final ConcurrentLinkedDeque<Long> reviewable = new ConcurrentLinkedDeque<>();
+
+        VirtualUser(String token) {
+            this.token = token;
+        }
+    }
+
+    public LoadTestRunner(LoadTestConfig config, ObjectMapper objectMapper) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<String> names = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<String, Integer> entry : config.mix().entrySet()) {
+            if (entry.getValue() <= 0)
+                continue;
+            sum += entry.getValue();
+            names.add(entry.getKey());
+            weights.add(sum);
+        }
+        this.scenarios = names.toArray(String[]::new);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * 준비 -> 워밍업 -> 측정 후 결과 요약 반환
+     */
+    public Map<String, Object> run() throws Exception {
+        prepare();
+
+        long startNanos = System.nanoTime();
+        measureFromNanos = startNanos + config.warmupSeconds() * 1_000_000_000L;
+        long endNanos = measureFromNanos + config.durationSeconds() * 1_000_000_000L;
+        log.info("🚀 [LoadTest] 부하 시작: 가상 사용자 {}명, 워밍업 {}초 + 측정 {}초",
+                config.concurrency(), config.warmupSeconds(), config.durationSeconds());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < config.concurrency(); i++) {
+                VirtualUser user = users.get(i % users.size());
+                workers.add(executor.submit(() -> loop(user, endNanos)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        return summarize(config.durationSeconds());
+    }
+
+    // --- Scenario Loop ---
+
+    private void loop(VirtualUser user, long endNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < endNanos) {
+            try {
+                execute(pickScenario(random), user, random);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 요청 단위 오류는 call()에서 집계됨 (여기는 응답 파싱 실패 등)
+                log.debug("[LoadTest] 시나리오 실행 실패: {}", e.getMessage());
+            }
+            if (config.thinkTimeMillis() > 0) {
+                try {
+                    Thread.sleep(random.nextLong(config.thinkTimeMillis() / 2, config.thinkTimeMillis() * 3 / 2 + 1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void execute(String scenario, VirtualUser user, ThreadLocalRandom random) throws Exception {
+        // 조회 API는 절반을 비로그인(세션 ID)으로 호출
+        boolean anonymous = random.nextBoolean();
+        switch (scenario) {
+            case "products" -> call("GET /api/products", get("/api/products?page=" + random.nextInt(5)
+                    + "&size=20&sort=" + (random.nextBoolean() ? "latest" : "popular"), user, anonymous));
+            case "product-detail" -> call("GET /api/products/{id}", get("/api/products/" + pickProduct(random), user, anonymous));
+            case "search" -> {
+                String keyword = config.searchKeywords().get(random.nextInt(config.searchKeywords().size()));
+                call("GET /api/products/search", get("/api/products/search?keyword="
+                        + URLEncoder.encode(keyword, StandardCharsets.UTF_8) + "&size=20", user, anonymous));
+            }
+            case "recommend" -> call("GET /api/products/recommend", get("/api/products/recommend", user, anonymous));
+            // 단건 이벤트 API는 쿼리 파라미터로 받음 (본문 없음)
+            case "event-view" -> call("POST /api/events/view", authorize(HttpRequest.newBuilder(URI.create(
+                    config.target() + "/api/events/view?productId=" + pickProduct(random)
+                            + "&type=" + EVENT_TYPES[random.nextInt(EVENT_TYPES.length)]))
+                    .POST(HttpRequest.BodyPublishers.noBody()), user, anonymous).build());
+            case "reviews-read" -> call("GET /api/reviews/products/{id}/page",
+                    get("/api/reviews/products/" + pickProduct(random) + "/page?size=10", user, anonymous));
+            case "order" -> order(user, random);
+            case "review" -> {
+                Long productId = user.reviewable.pollFirst();
+                if (productId == null) {
+                    order(user, random);
+                    return;
+                }
+                call("POST /api/reviews", post("/api/reviews", Map.of(
+                        "productId", productId,
+                        "content", "부하 테스트 리뷰입니다. 배송이 빠르고 좋아요.",
+                        "score", 1 + random.nextInt(5)), user, false));
+            }
+            default -> throw new IllegalStateException("알 수 없는 시나리오: " + scenario);
+        }
+    }
+
+    // 주문당 상품 1 ~ max-order-items개 (서로 다른 상품)
+    private void order(VirtualUser user, ThreadLocalRandom random) throws Exception {
+        Set<Long> orderedIds = new LinkedHashSet<>();
+        int itemCount = 1 + random.nextInt(config.maxOrderItems());
+        for (int attempt = 0; orderedIds.size() < itemCount && attempt < itemCount * 3; attempt++) {
+            orderedIds.add(pickProduct(random));
+        }
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Long productId : orderedIds) {
+            items.add(Map.of("productId", productId, "count", 1 + random.nextInt(3)));
+        }
+
+        // 재시도 중복 방지 키 (클라이언트와 동일하게 요청마다 새로 생성)
+        HttpRequest request = postBuilder("/api/orders", items, user, false)
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .build();
+        HttpResponse<byte[]> response = call("POST /api/orders", request);
+        if (response != null && response.statusCode() == 200) {
+            orderedIds.forEach(user.reviewable::addLast);
+        }
+    }
+
+    // --- HTTP ---
+
+    private HttpRequest get(String path, VirtualUser user, boolean anonymous) {
+        return authorize(HttpRequest.newBuilder(URI.create(config.target() + path)).GET(), user, anonymous).build();
+    }
+
+    private HttpRequest post(String path, Object body, VirtualUser user, boolean anonymous) throws IOException {
+        return postBuilder(path, body, user, anonymous).build();
+    }
+
+    private HttpRequest.Builder postBuilder(String path, Object body, VirtualUser user, boolean anonymous) throws IOException {
+        return authorize(HttpRequest.newBuilder(URI.create(config.target() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))), user, anonymous);
+    }
+
+    private HttpRequest.Builder authorize(HttpRequest.Builder builder, VirtualUser user, boolean anonymous) {
+        builder.timeout(Duration.ofMillis(config.requestTimeoutMillis()));
+        return anonymous
+                ? builder.header("X-Session-Id", user.sessionId)
+                : builder.header("Authorization", "Bearer " + user.token);
+    }
+
+    // 요청 1건 실행 + 측정 구간이면 집계 (2xx 외 응답과 예외는 오류로 분류)
+    private HttpResponse<byte[]> call(String endpoint, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = null;
+        String errorType;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            errorType = (response.statusCode() / 100 == 2) ? null : String.valueOf(response.statusCode());
+        } catch (IOException e) {
+            errorType = e.getClass().getSimpleName();
+        }
+        if (start >= measureFromNanos) {
+            long micros = (System.nanoTime() - start) / 1_000;
+            stats.computeIfAbsent(endpoint, EndpointStats::new).record(micros, errorType);
+            totalStats.record(micros, errorType);
+        }
+        return response;
+    }
+
+    // --- Preparation ---
+
+    private void prepare() throws Exception {
+        productIds = fetchProductIds();
+        if (productIds.isEmpty()) {
+            throw new IllegalStateException("상품이 없습니다. 백엔드를 시드 데이터와 함께 기동했는지 확인하세요. (seed.mode=synthetic)");
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<VirtualUser>> futures = new ArrayList<>();
+            for (int i = 0; i < config.users(); i++) {
+                String username = "loadtest" + i;
+                int index = i;
+                futures.add(executor.submit(() -> registerUser(username, index)));
+            }
+            for (Future<VirtualUser> future : futures) {
+                users.add(future.get());
+            }
+        }
+        log.info("✅ [LoadTest] 준비 완료: 상품 {}개, 테스트 계정 {}명", productIds.size(), users.size());
+    }
+
+    // 인기순 상위 상품 (상세/이벤트/주문 대상)
+    private List<Long> fetchProductIds() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0; page < 5; page++) {
+            HttpResponse<byte[]> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(config.target() + "/api/products?size=100&sort=popular&page=" + page))
+                            .timeout(Duration.ofMillis(config.requestTimeoutMillis())).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("상품 목록 조회 실패 (HTTP " + response.statusCode() + ")");
+            }
+            JsonNode content = objectMapper.readTree(response.body()).path("content");
+            content.forEach(product -> ids.add(product.path("id").asLong()));
+            if (content.size() < 100)
+                break;
+        }
+        return ids.stream().distinct().toList();
+    }
+
+    // 이미 가입된 계정이면 가입 실패(400)를 무시하고 로그인
+    private VirtualUser registerUser(String username, int index) throws Exception {
+        Map<String, Object> signup = new LinkedHashMap<>();
+        signup.put("username", username);
+        signup.put("password", PASSWORD);
+        signup.put("name", "부하테스트" + index);
+        signup.put("phone", "010-0000-" + String.format("%04d", index % 10_000));
+        signup.put("birthDate", "1955-01-01");
+        signup.put("city", "서울시");
+        signup.put("street", "테스트로 " + index);
+        signup.put("zipcode", "00000");
+        send("/api/auth/signup", signup, null);
+
+        HttpResponse<byte[]> login = send("/api/auth/login", Map.of("username", username, "password", PASSWORD), null);
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("테스트 계정 로그인 실패: " + username + " (HTTP " + login.statusCode() + ")");
+        }
+        String token = objectMapper.readTree(login.body()).path("accessToken").asText();
+
+        send("/api/user/health", Map.of(
+                "diseases", List.of(DISEASES[index % DISEASES.length]),
+                "allergies", List.of(),
+                "goals", List.of(GOALS[index % GOALS.length])), token);
+        return new VirtualUser(token);
+    }
+
+    private HttpResponse<byte[]> send(String path, Object body, String token) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.target() + path))
+                .timeout(Duration.ofMillis(config.requestTimeoutMillis()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    // --- Helpers ---
+
+    private String pickScenario(ThreadLocalRandom random) {
+        int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    // 앞쪽(인기) 상품에 치우친 선택: index = n * u^2
+    private long pickProduct(ThreadLocalRandom random) {
+        double u = random.nextDouble();
+        return productIds.get((int) (productIds.size() * u * u));
+    }
+
+    private Map<String, Object> summarize(double measuredSeconds) {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        stats.values().stream()
+                .sorted((a, b) -> Long.compare(b.count(), a.count()))
+                .forEach(endpoint -> endpoints.add(endpoint.summarize(measuredSeconds)));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("measuredSeconds", measuredSeconds);
+        summary.put("total", totalStats.summarize(measuredSeconds));
+        summary.put("endpoints", endpoints);
+        return summary;
+    }
+}
@@ -0,0 +1,187 @@
+package com.hyodream.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [판매량 집계 벤치마크] 최근 N일 상품별 판매량: 주문 이력 Scan vs 일자별 Rollup
+ * - scan  : order_items JOIN orders 전체에서 기간/상태 필터 후 GROUP BY (Rollup 도입 전 countSalesByProductSince)
+ * - rollup: product_daily_sales의 N일치 행만 GROUP BY (ProductRepository.refreshRecentSalesNative의 집계 부분)
+ * - 읽기 전용 (UPDATE 없음), 두 결과가 같은지도 함께 확인
+ *
+ * 데이터 준비 (주문 상품 약 1,000만 건: 주문당 평균 2개 x 500만 주문, 180일 분포)
+ *   SEED_SYNTHETIC_ORDERS=5000000 SPRING_PROFILES_ACTIVE=loadtest ./gradlew bootRun
+ *   (기동 완료 로그 후 SalesRollupService가 Rollup 초기 적재까지 마친 뒤 실행)
+ * 실행: ./gradlew salesAggregationBenchmark -PbenchmarkArgs="jdbc-url=jdbc:mysql://localhost:3306/hyodream_db"
+ * 결과: build/reports/loadtest/sales-aggregation.json
+ */
+@Slf4j
+public class SalesAggregationBenchmark {
+
+    private static final String SCAN_SQL = """
+            SELECT oi.product_id, SUM(oi.count)
+            FROM order_items oi JOIN orders o ON o.id = oi.order_id
+            WHERE o.order_date >= ? AND o.status = 'ORDER'
+            GROUP BY oi.product_id
+            """;
+    private static final String ROLLUP_SQL = """
+            SELECT product_id, SUM(quantity)
+            FROM product_daily_sales
+            WHERE sales_date >= ?
+            GROUP BY product_id
+            """;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String jdbcUrl = options.getOrDefault("jdbc-url", "jdbc:mysql://localhost:3306/hyodream_db");
+        int days = Integer.parseInt(options.getOrDefault("days", "30"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "2"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "10"));
+        Path reportPath = Path.of(options.getOrDefault("report", "build/reports/loadtest/sales-aggregation.json"));
+        LocalDate since = LocalDate.now().minusDays(days); // ProductScheduler.updateRecentSales와 같은 기준
+
+        try (Connection connection = DriverManager.getConnection(jdbcUrl,
+                options.getOrDefault("user", "root"), options.getOrDefault("password", "root"))) {
+            long orderItems = count(connection, "SELECT COUNT(*) FROM order_items");
+            long rollupRows = count(connection, "SELECT COUNT(*) FROM product_daily_sales");
+            log.info("⚙️ [Benchmark] order_items {}건, product_daily_sales {}건, 기간 {}일 (since {})",
+                    orderItems, rollupRows, days, since);
+            if (rollupRows == 0) {
+                throw new IllegalStateException("Rollup이 비어 있습니다. 백엔드 기동 후 초기 적재가 끝났는지 확인하세요.");
+            }
+
+            EndpointStats scan = new EndpointStats("scan (order_items JOIN orders)");
+            EndpointStats rollup = new EndpointStats("rollup (product_daily_sales)");
+            Map<Long, Long> scanResult = Map.of();
+            Map<Long, Long> rollupResult = Map.of();
+
+            // 교대로 실행 (버퍼 풀 캐시 상태가 한쪽에만 유리하지 않도록), 워밍업 구간은 집계 제외
+            for (int i = 0; i < warmup + iterations; i++) {
+                long start = System.nanoTime();
+                scanResult = aggregate(connection, SCAN_SQL, Timestamp.valueOf(since.atStartOfDay()));
+                long scanMicros = (System.nanoTime() - start) / 1_000;
+
+                start = System.nanoTime();
+                rollupResult = aggregate(connection, ROLLUP_SQL, Date.valueOf(since));
+                long rollupMicros = (System.nanoTime() - start) / 1_000;
+
+                if (i >= warmup) {
+                    scan.record(scanMicros, null);
+                    rollup.record(rollupMicros, null);
+                }
+            }
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("generatedAt", OffsetDateTime.now().toString());
+            report.put("orderItems", orderItems);
+            report.put("rollupRows", rollupRows);
+            report.put("days", days);
+            report.put("iterations", iterations);
+            report.put("scan", withPlan(scan.summarize(0), explainRows(connection, SCAN_SQL, Timestamp.valueOf(since.atStartOfDay()))));
+            report.put("rollup", withPlan(rollup.summarize(0), explainRows(connection, ROLLUP_SQL, Date.valueOf(since))));
+            report.put("products", rollupResult.size());
+            report.put("resultsMatch", scanResult.equals(rollupResult));
+
+            ObjectMapper objectMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+            Path path = reportPath.toAbsolutePath();
+            Files.createDirectories(path.getParent());
+            objectMapper.writeValue(path.toFile(), report);
+
+            log.info(String.format("%-34s %9s %9s %9s %14s", "query", "p50(ms)", "p95(ms)", "max(ms)", "plan rows"));
+            log.info(line(report, "scan"));
+            log.info(line(report, "rollup"));
+            if (!scanResult.equals(rollupResult)) {
+                log.warn("⚠️ [Benchmark] 두 집계 결과가 다릅니다. (오늘 주문이 있거나 Rollup 초기 적재 전인지 확인)");
+            }
+            log.info("📄 [Benchmark] 리포트 저장: {}", path);
+        }
+    }
+
+    // 상품별 판매량 (row: [productId, quantity])
+    private static Map<Long, Long> aggregate(Connection connection, String sql, Object since) throws SQLException {
+        Map<Long, Long> result = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setObject(1, since);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long quantity = rs.getLong(2);
+                    if (quantity != 0) {
+                        result.put(rs.getLong(1), quantity);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // 실행 계획의 예상 읽기 행 수 합 (EXPLAIN rows)
+    private static long explainRows(Connection connection, String sql, Object since) throws SQLException {
+        long rows = 0;
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            ps.setObject(1, since);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows += rs.getLong("rows");
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql); ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static Map<String, Object> withPlan(Map<String, Object> summary, long planRows) {
+        summary.remove("errors");
+        summary.remove("errorRate");
+        summary.remove("errorsByType");
+        summary.remove("throughputPerSec");
+        summary.put("planRows", planRows);
+        return summary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String line(Map<String, Object> report, String key) {
+        Map<String, Object> summary = (Map<String, Object>) report.get(key);
+        Map<String, Object> latency = (Map<String, Object>) summary.get("latencyMs");
+        return String.format("%-34s %9.1f %9.1f %9.1f %14d", summary.get("endpoint"),
+                latency.get("p50"), latency.get("p95"), latency.get("max"), summary.get("planRows"));
+    }
+
+    // "key=value" 인자 (LoadTestConfig와 같은 형식)
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                if (token.isEmpty())
+                    continue;
+                String[] kv = token.replaceFirst("^--", "").split("=", 2);
+                if (kv.length != 2) {
+                    throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다: " + token);
+                }
+                options.put(kv[0], kv[1]);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,80 @@
+package com.hyodream.backend.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * [Stub 응답 특성] 외부 서비스 Stub의 지연/오류 주입 설정
+ * - 형식: "latency=400,jitter=200,error-rate=0.02,hang-rate=0.01,hang-ms=5000"
+ *   - latency/jitter: 응답 지연 (latency ± jitter ms, 균등 분포)
+ *   - error-rate: 503 응답 비율
+ *   - hang-rate/hang-ms: 응답을 hang-ms 동안 붙잡는 비율 (백엔드 Feign read-timeout / Circuit Breaker 확인용)
+ * - 생략한 항목은 기본 프로파일 값을 그대로 사용
+ */
+public record StubProfile(long latencyMillis, long jitterMillis, double errorRate, double hangRate, long hangMillis) {
+
+    public static final StubProfile NONE = new StubProfile(0, 0, 0.0, 0.0, 0);
+
+    public StubProfile {
+        if (latencyMillis < 0 || jitterMillis < 0 || hangMillis < 0) {
+            throw new IllegalArgumentException("지연 시간은 0 이상이어야 합니다.");
+        }
+        if (errorRate < 0 || errorRate > 1 || hangRate < 0 || hangRate > 1) {
+            throw new IllegalArgumentException("비율은 0~1 사이여야 합니다.");
+        }
+    }
+
+    public static StubProfile parse(String spec, StubProfile defaults) {
+        if (spec == null || spec.isBlank()) {
+            return defaults;
+        }
+        Map<String, String> values = new HashMap<>();
+        for (String pair : spec.split(",")) {
+            String[] kv = pair.split("=", 2);
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Stub 프로파일 형식이 올바르지 않습니다: " + spec);
+            }
+            values.put(kv[0].trim(), kv[1].trim());
+        }
+        return new StubProfile(
+                longOf(values, "latency", defaults.latencyMillis()),
+                longOf(values, "jitter", defaults.jitterMillis()),
+                doubleOf(values, "error-rate", defaults.errorRate()),
+                doubleOf(values, "hang-rate", defaults.hangRate()),
+                longOf(values, "hang-ms", defaults.hangMillis()));
+    }
+
+    // 이번 요청의 지연 시간 (ms)
+    public long sampleDelayMillis() {
+        if (jitterMillis == 0) {
+            return latencyMillis;
+        }
+        long delay = latencyMillis + ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1);
+        return Math.max(0, delay);
+    }
+
+    public boolean rollError() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    public boolean rollHang() {
+        return hangRate > 0 && ThreadLocalRandom.current().nextDouble() < hangRate;
+    }
+
+    @Override
+    public String toString() {
+        return "latency=" + latencyMillis + ",jitter=" + jitterMillis + ",error-rate=" + errorRate
+                + ",hang-rate=" + hangRate + ",hang-ms=" + hangMillis;
+    }
+
+    private static long longOf(Map<String, String> values, String key, long defaultValue) {
+        String value = values.get(key);
+        return (value != null) ? Long.parseLong(value) : defaultValue;
+    }
+
+    private static double doubleOf(Map<String, String> values, String key, double defaultValue) {
+        String value = values.get(key);
+        return (value != null) ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hyodream.backend.analytics.controller;
+
+import com.hyodream.backend.analytics.domain.ExportDataset;
+import com.hyodream.backend.analytics.domain.ExportFormat;
+import com.hyodream.backend.analytics.service.OrderExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@Tag(name = "Admin Export API", description = "관리자용 주문/결제 대량 내보내기 API (정산 대사용)")
+@RestController
+@RequestMapping("/api/admin/exports")
+@RequiredArgsConstructor
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    @Operation(summary = "주문/주문 상품/결제 내보내기", description = """
+            기간 내 데이터를 GZIP 압축된 CSV 또는 NDJSON 파일로 내려받습니다. (관리자 전용)
+            
+            **[대상 (`dataset`)]**
+            - `orders`: 주문 (order_id, user_id, order_date, status)
+            - `order-items`: 주문 상품 (주문 일자/상태, 상품 ID, 수량, 주문 당시 가격, 금액)
+            - `payments`: 결제 (금액, 결제 수단, 결제 일시, 상태)
+            
+            **[기간]**
+            - `from`, `to`: yyyy-MM-dd, 양 끝 날짜 포함 (생략 시 최근 30일), 최대 366일
+            - 주문/주문 상품은 주문 일시, 결제는 결제 일시 기준
+            
+            **[형식 (`format`)]**
+            - `csv` (기본): 헤더 포함, UTF-8 BOM (엑셀에서 바로 열림)
+            - `ndjson`: 한 줄에 JSON 객체 1개
+            - 날짜/시간 값은 두 형식 모두 `yyyy-MM-dd'T'HH:mm:ss` (예: `2025-01-01T10:00:00`)
+            
+            **[참고]**
+            - 행 수와 관계없이 서버 메모리를 일정하게 사용하며, 조회되는 대로 바로 전송됩니다.
+            - 동시에 진행할 수 있는 내보내기 수가 제한되어 있습니다. 초과 시 400을 반환합니다.
+            """)
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "orders | order-items | payments") @PathVariable String dataset,
+            @Parameter(description = "csv | ndjson") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "시작일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ExportDataset exportDataset = ExportDataset.fromPath(dataset);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusDays(29);
+
+        StreamingResponseBody body = orderExportService.export(exportDataset, exportFormat, start, end);
+
+        String filename = exportDataset.getPath() + "_" + start + "_" + end + "." + exportFormat.getExtension() + ".gz";
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .body(body);
+    }
+}
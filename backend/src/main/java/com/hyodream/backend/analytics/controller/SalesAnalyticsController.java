@@ -0,0 +1,80 @@
+package com.hyodream.backend.analytics.controller;
+
+import com.hyodream.backend.analytics.dto.CategorySalesDto;
+import com.hyodream.backend.analytics.dto.DailySalesDto;
+import com.hyodream.backend.analytics.dto.ProductSalesRankDto;
+import com.hyodream.backend.analytics.service.SalesAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "Admin Analytics API", description = "관리자용 판매 통계 API (일자별 Rollup 기반)")
+@RestController
+@RequestMapping("/api/admin/analytics/sales")
+@RequiredArgsConstructor
+public class SalesAnalyticsController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    @Operation(summary = "일자별 판매 추이", description = """
+            기간 내 일자별 전체 판매 수량과 매출을 조회합니다. (관리자 전용)
+            
+            **[기간]**
+            - `from`, `to`: yyyy-MM-dd, 양 끝 날짜 포함 (생략 시 최근 30일)
+            - 최대 366일까지 조회할 수 있습니다.
+            
+            **[집계 기준]**
+            - 주문 완료 시 더해지고, 취소 시 **원 주문 일자**에서 차감됩니다.
+            - 주문 후 반영까지 보통 1초 이내의 지연이 있습니다. (Outbox 릴레이)
+            - 판매가 없는 날은 응답에 포함되지 않습니다.
+            """)
+    @GetMapping("/daily")
+    public ResponseEntity<List<DailySalesDto>> getDailySales(
+            @Parameter(description = "시작일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusDays(29);
+        return ResponseEntity.ok(salesAnalyticsService.getDailySales(start, end));
+    }
+
+    @Operation(summary = "상품 판매 순위", description = """
+            기간 내 판매 수량 기준 상품 순위를 조회합니다. (관리자 전용)
+            - `limit`: 최대 100
+            - 기간 규칙은 일자별 판매 추이와 동일합니다.
+            """)
+    @GetMapping("/products")
+    public ResponseEntity<List<ProductSalesRankDto>> getTopProducts(
+            @Parameter(description = "시작일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "조회할 순위 수 (최대 100)") @RequestParam(defaultValue = "20") int limit) {
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusDays(29);
+        return ResponseEntity.ok(salesAnalyticsService.getTopProducts(start, end, limit));
+    }
+
+    @Operation(summary = "카테고리별 판매 현황", description = """
+            기간 내 대분류(`category1`)별 판매 수량과 매출을 판매 수량 순으로 조회합니다. (관리자 전용)
+            - 카테고리가 없는 상품은 `기타`로 집계됩니다.
+            """)
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategorySalesDto>> getCategorySales(
+            @Parameter(description = "시작일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusDays(29);
+        return ResponseEntity.ok(salesAnalyticsService.getCategorySales(start, end));
+    }
+}
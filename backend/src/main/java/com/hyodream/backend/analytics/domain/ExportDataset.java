@@ -0,0 +1,57 @@
+package com.hyodream.backend.analytics.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 관리자 내보내기 대상
+ * - sql: 기간 [from, to) 파라미터 2개를 받는 forward-only 조회 (PK 순서 = 인덱스 순서로 읽어 정렬 버퍼 없음)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportDataset {
+
+    ORDERS("orders",
+            List.of("order_id", "user_id", "order_date", "status"),
+            """
+            SELECT o.id, o.user_id, o.order_date, o.status
+            FROM orders o
+            WHERE o.order_date >= ? AND o.order_date < ?
+            ORDER BY o.id
+            """),
+
+    ORDER_ITEMS("order-items",
+            List.of("order_item_id", "order_id", "order_date", "order_status", "product_id", "count", "order_price", "amount"),
+            """
+            SELECT oi.id, oi.order_id, o.order_date, o.status, oi.product_id, oi.count, oi.order_price,
+                   oi.order_price * oi.count
+            FROM orders o
+            JOIN order_items oi ON oi.order_id = o.id
+            WHERE o.order_date >= ? AND o.order_date < ?
+            ORDER BY o.id, oi.id
+            """),
+
+    PAYMENTS("payments",
+            List.of("payment_id", "order_id", "amount", "payment_method", "payment_date", "status"),
+            """
+            SELECT p.id, p.order_id, p.amount, p.payment_method, p.payment_date, p.status
+            FROM payments p
+            WHERE p.payment_date >= ? AND p.payment_date < ?
+            ORDER BY p.id
+            """);
+
+    private final String path;
+    private final List<String> columns;
+    private final String sql;
+
+    public static ExportDataset fromPath(String path) {
+        for (ExportDataset dataset : values()) {
+            if (dataset.path.equalsIgnoreCase(path)) {
+                return dataset;
+            }
+        }
+        throw new RuntimeException("지원하지 않는 내보내기 대상입니다. (orders, order-items, payments)");
+    }
+}
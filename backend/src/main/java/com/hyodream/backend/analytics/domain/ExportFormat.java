@@ -0,0 +1,22 @@
+package com.hyodream.backend.analytics.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new RuntimeException("지원하지 않는 형식입니다. (csv, ndjson)");
+    }
+}
@@ -0,0 +1,18 @@
+package com.hyodream.backend.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategorySalesDto {
+    @Schema(description = "대분류 (없으면 '기타')", example = "식품")
+    private String category;
+
+    @Schema(description = "판매 수량", example = "320")
+    private long quantity;
+
+    @Schema(description = "매출", example = "9120000")
+    private long revenue;
+}
@@ -0,0 +1,20 @@
+package com.hyodream.backend.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class DailySalesDto {
+    @Schema(description = "판매 일자", example = "2025-12-10")
+    private LocalDate date;
+
+    @Schema(description = "판매 수량 (취소 차감)", example = "152")
+    private long quantity;
+
+    @Schema(description = "매출 (주문 당시 가격 기준)", example = "4830000")
+    private long revenue;
+}
@@ -0,0 +1,24 @@
+package com.hyodream.backend.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductSalesRankDto {
+    @Schema(description = "순위", example = "1")
+    private int rank;
+
+    @Schema(description = "상품 ID", example = "10")
+    private Long productId;
+
+    @Schema(description = "상품명", example = "정관장 홍삼정")
+    private String productName;
+
+    @Schema(description = "판매 수량", example = "48")
+    private long quantity;
+
+    @Schema(description = "매출", example = "4704000")
+    private long revenue;
+}
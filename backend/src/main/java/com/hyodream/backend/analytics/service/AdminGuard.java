@@ -0,0 +1,27 @@
+package com.hyodream.backend.analytics.service;
+
+import com.hyodream.backend.user.domain.User;
+import com.hyodream.backend.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * [관리자 확인] 서비스 계층 이중 확인
+ * - /api/admin/**는 SecurityConfig에서 토큰의 ADMIN 권한으로 먼저 차단
+ * - 토큰 발급 후 권한이 회수된 경우까지 막기 위해 DB의 현재 권한(users.role)을 다시 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminGuard {
+
+    private final UserService userService;
+
+    // 관리자가 아니면 예외
+    public User checkAdmin() {
+        User user = userService.getCurrentUser();
+        if (!user.isAdmin()) {
+            throw new RuntimeException("관리자만 접근할 수 있습니다.");
+        }
+        return user;
+    }
+}
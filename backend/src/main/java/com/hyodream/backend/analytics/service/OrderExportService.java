@@ -0,0 +1,235 @@
+package com.hyodream.backend.analytics.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyodream.backend.analytics.domain.ExportDataset;
+import com.hyodream.backend.analytics.domain.ExportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * [관리자 내보내기] 주문/주문 상품/결제 대량 Export (정산 대사용)
+ * - 목록 API처럼 결과를 메모리에 모으지 않고, DB에서 한 행 읽을 때마다 바로 응답 스트림에 기록
+ *   1. MySQL 스트리밍 조회: forward-only + read-only + fetchSize=Integer.MIN_VALUE -> 드라이버가 행을 1개씩만 보유
+ *   2. 행마다 CSV/NDJSON 한 줄을 GZIP 스트림에 기록 (버퍼 크기만큼만 메모리 사용)
+ *   -> 수백만 행을 내보내도 힙 사용량은 일정
+ * - 스트리밍 중에는 DB 커넥션 1개를 계속 점유하므로 동시 내보내기 수를 max-concurrent로 제한
+ * - 날짜/시간 컬럼은 CSV/NDJSON 모두 같은 ISO 형식 (yyyy-MM-dd'T'HH:mm:ss, 초 단위 고정 - 00초도 생략하지 않음)
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String BUSY_MESSAGE = "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.";
+    // CSV/NDJSON 공용 날짜/시간 형식 (LocalDateTime.toString()은 00초를 생략하므로 직접 지정)
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AdminGuard adminGuard;
+    private final Semaphore permits;
+    private final int maxRangeDays;
+
+    public OrderExportService(JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            AdminGuard adminGuard,
+            @Value("${export.max-concurrent:2}") int maxConcurrent,
+            @Value("${export.max-range-days:366}") int maxRangeDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.adminGuard = adminGuard;
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    /**
+     * 권한/기간은 요청 스레드에서 바로 확인하고, 실제 조회와 기록은 반환된 Body 안에서 수행
+     * (Body는 MVC 비동기 스레드에서 실행되므로 SecurityContext에 의존하지 않음)
+     * - 동시 실행 Permit은 Body 안에서 획득/반납 (요청 스레드에서 획득하면 비동기 실행 거부/Timeout/연결 종료로
+     *   Body가 시작되지 않았을 때 반납되지 않음)
+     */
+    public StreamingResponseBody export(ExportDataset dataset, ExportFormat format, LocalDate from, LocalDate to) {
+        adminGuard.checkAdmin();
+        if (from.isAfter(to)) {
+            throw new RuntimeException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new RuntimeException("조회 기간은 최대 " + maxRangeDays + "일입니다.");
+        }
+        // 대부분의 초과 요청은 여기서 바로 400 (Body 안의 획득이 최종 판단)
+        if (permits.availablePermits() == 0) {
+            throw new RuntimeException(BUSY_MESSAGE);
+        }
+
+        return out -> {
+            if (!permits.tryAcquire()) {
+                // 아직 아무것도 기록하지 않았으므로 응답이 커밋되기 전에 실패
+                throw new RuntimeException(BUSY_MESSAGE);
+            }
+            long startedAt = System.currentTimeMillis();
+            try {
+                long rows = write(dataset, format, from, to, out);
+                log.info("📦 [Export] {} {}행 내보내기 완료 ({} ~ {}, {}ms)",
+                        dataset.getPath(), rows, from, to, System.currentTimeMillis() - startedAt);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    // --- Private Methods ---
+
+    private long write(ExportDataset dataset, ExportFormat format, LocalDate from, LocalDate to, OutputStream out)
+            throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, WRITE_BUFFER_SIZE);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        RowWriter rowWriter = (format == ExportFormat.CSV)
+                ? new CsvRowWriter(writer, dataset.getColumns())
+                : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(writer), dataset.getColumns());
+
+        long[] rows = { 0 };
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(dataset.getSql(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE); // MySQL Connector/J 행 단위 스트리밍
+                ps.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+                ps.setTimestamp(2, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+                return ps;
+            }, rs -> {
+                try {
+                    rowWriter.write(rs);
+                    rows[0]++;
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 -> 조회 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("⚠️ [Export] {} 내보내기 중단 ({}행 기록 후): {}", dataset.getPath(), rows[0], e.getMessage());
+            throw e.getCause();
+        }
+
+        rowWriter.close();
+        gzip.finish();
+        return rows[0];
+    }
+
+    // 컬럼 값 -> 문자열 (날짜/시간은 공용 ISO 형식, 나머지는 드라이버 문자열 그대로)
+    private static String columnText(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value == null)
+            return null;
+        if (value instanceof LocalDateTime dateTime)
+            return dateTime.format(DATE_TIME_FORMAT);
+        if (value instanceof Timestamp timestamp)
+            return timestamp.toLocalDateTime().format(DATE_TIME_FORMAT);
+        if (value instanceof LocalDate date)
+            return date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        if (value instanceof java.sql.Date date)
+            return date.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
+        return rs.getString(column);
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void close() throws IOException;
+    }
+
+    // RFC 4180 CSV (엑셀 호환을 위해 UTF-8 BOM 포함)
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final int columnCount;
+
+        CsvRowWriter(Writer writer, List<String> columns) throws IOException {
+            this.writer = writer;
+            this.columnCount = columns.size();
+            writer.write('\uFEFF');
+            writer.write(String.join(",", columns));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= columnCount; i++) {
+                if (i > 1)
+                    writer.write(',');
+                String value = columnText(rs, i);
+                if (value != null) {
+                    writer.write(escape(value));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+                return value;
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    // 한 줄에 JSON 객체 1개 (숫자 컬럼은 숫자, 나머지는 문자열)
+    private static class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final List<String> columns;
+
+        NdjsonRowWriter(JsonGenerator generator, List<String> columns) {
+            // 루트 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 기록
+            this.generator = generator.setRootValueSeparator(null);
+            this.columns = columns;
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 1; i <= columns.size(); i++) {
+                Object value = rs.getObject(i);
+                generator.writeFieldName(columns.get(i - 1));
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.longValue());
+                } else {
+                    generator.writeString(columnText(rs, i));
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+        }
+    }
+}
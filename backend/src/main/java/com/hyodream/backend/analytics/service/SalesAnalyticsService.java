@@ -0,0 +1,104 @@
+package com.hyodream.backend.analytics.service;
+
+import com.hyodream.backend.analytics.dto.CategorySalesDto;
+import com.hyodream.backend.analytics.dto.DailySalesDto;
+import com.hyodream.backend.analytics.dto.ProductSalesRankDto;
+import com.hyodream.backend.product.repository.CategoryDailySalesRepository;
+import com.hyodream.backend.product.repository.ProductDailySalesRepository;
+import com.hyodream.backend.product.service.ProductLookupService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [관리자 통계] 판매 Rollup 기반 조회
+ * - 일자별 Rollup(product_daily_sales, category_daily_sales)만 읽으므로 기간이 길어도 주문 이력을 스캔하지 않음
+ * - 관리자 확인은 SecurityConfig (ADMIN 권한) + AdminGuard (users.role)
+ */
+@Service
+public class SalesAnalyticsService {
+
+    private final ProductDailySalesRepository productDailySalesRepository;
+    private final CategoryDailySalesRepository categoryDailySalesRepository;
+    private final ProductLookupService productLookupService;
+    private final AdminGuard adminGuard;
+    private final int maxRangeDays;
+
+    public SalesAnalyticsService(ProductDailySalesRepository productDailySalesRepository,
+            CategoryDailySalesRepository categoryDailySalesRepository,
+            ProductLookupService productLookupService,
+            AdminGuard adminGuard,
+            @Value("${sales.analytics.max-range-days:366}") int maxRangeDays) {
+        this.productDailySalesRepository = productDailySalesRepository;
+        this.categoryDailySalesRepository = categoryDailySalesRepository;
+        this.productLookupService = productLookupService;
+        this.adminGuard = adminGuard;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    // 일자별 판매량/매출
+    @Transactional(readOnly = true)
+    public List<DailySalesDto> getDailySales(LocalDate from, LocalDate to) {
+        adminGuard.checkAdmin();
+        checkRange(from, to);
+
+        List<DailySalesDto> dtos = new ArrayList<>();
+        for (Object[] row : productDailySalesRepository.sumByDate(from, to)) {
+            dtos.add(new DailySalesDto((LocalDate) row[0], toLong(row[1]), toLong(row[2])));
+        }
+        return dtos;
+    }
+
+    // 기간 내 상품 판매 순위
+    @Transactional(readOnly = true)
+    public List<ProductSalesRankDto> getTopProducts(LocalDate from, LocalDate to, int limit) {
+        adminGuard.checkAdmin();
+        checkRange(from, to);
+
+        List<Object[]> rows = productDailySalesRepository.findTopProducts(from, to, Math.max(1, Math.min(limit, 100)));
+        Map<Long, String> names = productLookupService.getNames(rows.stream().map(row -> toLong(row[0])).toList());
+
+        List<ProductSalesRankDto> dtos = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long productId = toLong(row[0]);
+            dtos.add(new ProductSalesRankDto(dtos.size() + 1, productId,
+                    names.getOrDefault(productId, "삭제된 상품"), toLong(row[1]), toLong(row[2])));
+        }
+        return dtos;
+    }
+
+    // 기간 내 대분류별 판매량/매출
+    @Transactional(readOnly = true)
+    public List<CategorySalesDto> getCategorySales(LocalDate from, LocalDate to) {
+        adminGuard.checkAdmin();
+        checkRange(from, to);
+
+        List<CategorySalesDto> dtos = new ArrayList<>();
+        for (Object[] row : categoryDailySalesRepository.sumByCategory(from, to)) {
+            dtos.add(new CategorySalesDto((String) row[0], toLong(row[1]), toLong(row[2])));
+        }
+        return dtos;
+    }
+
+    // --- Private Methods ---
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new RuntimeException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new RuntimeException("조회 기간은 최대 " + maxRangeDays + "일입니다.");
+        }
+    }
+
+    // 네이티브/JPQL 집계 결과 타입(Long, BigDecimal 등)을 long으로 통일
+    private static long toLong(Object value) {
+        return (value instanceof Number number) ? number.longValue() : 0L;
+    }
+}
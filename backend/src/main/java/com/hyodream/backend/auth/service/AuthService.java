@@ -63,7 +63,7 @@ public class AuthService {
         }
 
         // 토큰 발급
-        String accessToken = jwtUtil.createAccessToken(user.getUsername());
+        String accessToken = jwtUtil.createAccessToken(user.getUsername(), user.getRole());
         String refreshToken = jwtUtil.createRefreshToken(user.getUsername());
 
         // Redis에 Refresh Token 저장 (Key: username, Value: refreshToken)
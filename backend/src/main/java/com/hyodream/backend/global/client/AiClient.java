@@ -1,9 +1,11 @@
 package com.hyodream.backend.global.client;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.hyodream.backend.product.dto.AiCandidateSnapshotDto;
 import com.hyodream.backend.product.dto.AiRecommendationRequestDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.List;
@@ -15,6 +17,10 @@ public interface AiClient {
     @PostMapping("/recommend")
     AiRecommendResponse getRecommendations(@RequestBody AiRecommendationRequestDto request);
 
+    // 추천 후보 상품 스냅샷 등록 (모르는 snapshot_version으로 추천 요청 시 409 응답)
+    @PutMapping("/candidates/snapshot")
+    void publishCandidateSnapshot(@RequestBody AiCandidateSnapshotDto snapshot);
+
     record AiRecommendResponse(@JsonProperty("product_ids") List<Long> productIds) {
     }
 }
@@ -0,0 +1,148 @@
+package com.hyodream.backend.global.client;
+
+import com.hyodream.backend.global.client.crawler.CrawlerClient;
+import com.hyodream.backend.global.client.crawler.dto.CrawlerResponseDto;
+import com.hyodream.backend.global.client.review.AiReviewClient;
+import com.hyodream.backend.global.client.review.dto.ReviewBatchAnalysisRequestDto;
+import com.hyodream.backend.global.client.review.dto.ReviewBatchAnalysisResponseDto;
+import com.hyodream.backend.product.dto.AiCandidateSnapshotDto;
+import com.hyodream.backend.product.dto.AiRecommendationRequestDto;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.annotation.CircuitBreaker;
+import org.springframework.retry.annotation.Recover;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * [Resilience] 외부 AI/크롤러 서버 실제 호출 + Circuit Breaker (AiClientGateway 전용)
+ * - Bulkhead는 AiClientGateway가 이 빈을 호출하기 전에 확인
+ *   (동시 호출 한도 초과는 서버 장애가 아니므로 회로 실패 횟수에 포함되지 않도록 회로 밖에서 처리)
+ * - 서버 호출 결과만 ai.client.requests(outcome=success|error)로 기록, Fallback은 ai.client.fallbacks
+ */
+@Slf4j
+@Component
+public class AiClientCircuitBreaker {
+
+    private final AiClient aiClient;
+    private final AiReviewClient aiReviewClient;
+    private final CrawlerClient crawlerClient;
+    private final MeterRegistry meterRegistry;
+
+    // 마지막으로 AI 서버에 등록한 후보 스냅샷 버전
+    private volatile String publishedSnapshotVersion;
+
+    public AiClientCircuitBreaker(AiClient aiClient,
+            AiReviewClient aiReviewClient,
+            CrawlerClient crawlerClient,
+            MeterRegistry meterRegistry) {
+        this.aiClient = aiClient;
+        this.aiReviewClient = aiReviewClient;
+        this.crawlerClient = crawlerClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // --- 추천 (ai-server) ---
+
+    @CircuitBreaker(label = "ai-recommend", recover = "recommendFallback",
+            maxAttemptsExpression = "${ai.resilience.circuit.failure-threshold:5}",
+            openTimeoutExpression = "${ai.resilience.circuit.open-timeout-ms:10000}",
+            resetTimeoutExpression = "${ai.resilience.circuit.reset-timeout-ms:30000}")
+    public List<Long> recommend(AiRecommendationRequestDto request, AiCandidateSnapshotDto snapshot) {
+        AiClient.AiRecommendResponse response = timed("recommend", () -> {
+            // 이 버전을 아직 등록하지 않았으면 먼저 등록
+            if (!snapshot.getVersion().equals(publishedSnapshotVersion)) {
+                publishSnapshot(snapshot);
+            }
+            try {
+                return aiClient.getRecommendations(request);
+            } catch (FeignException.Conflict e) {
+                // AI 서버가 버전을 모름 (재시작 등) -> 재등록 후 1회 재시도
+                log.info("🔁 [AI 추천] 후보 스냅샷 재등록: {}", snapshot.getVersion());
+                publishSnapshot(snapshot);
+                return aiClient.getRecommendations(request);
+            }
+        });
+        return (response != null && response.productIds() != null) ? response.productIds() : List.of();
+    }
+
+    @Recover
+    public List<Long> recommendFallback(Throwable e, AiRecommendationRequestDto request, AiCandidateSnapshotDto snapshot) {
+        recordFallback("recommend", e);
+        return List.of();
+    }
+
+    // --- 리뷰 감성 분석 (ai-review) ---
+
+    @CircuitBreaker(label = "ai-review", recover = "analyzeReviewsBatchFallback",
+            maxAttemptsExpression = "${ai.resilience.circuit.failure-threshold:5}",
+            openTimeoutExpression = "${ai.resilience.circuit.open-timeout-ms:10000}",
+            resetTimeoutExpression = "${ai.resilience.circuit.reset-timeout-ms:30000}")
+    public ReviewBatchAnalysisResponseDto analyzeReviewsBatch(ReviewBatchAnalysisRequestDto request) {
+        return timed("review", () -> aiReviewClient.analyzeReviewsBatch(request));
+    }
+
+    @Recover
+    public ReviewBatchAnalysisResponseDto analyzeReviewsBatchFallback(Throwable e, ReviewBatchAnalysisRequestDto request) {
+        recordFallback("review", e);
+        throw new RuntimeException("AI 리뷰 분석 서버를 사용할 수 없습니다: " + e.getMessage(), e);
+    }
+
+    // --- 리뷰 크롤링 (crawler) ---
+
+    @CircuitBreaker(label = "crawler", recover = "crawlProductFallback",
+            maxAttemptsExpression = "${ai.resilience.circuit.failure-threshold:5}",
+            openTimeoutExpression = "${ai.resilience.circuit.open-timeout-ms:10000}",
+            resetTimeoutExpression = "${ai.resilience.circuit.reset-timeout-ms:30000}")
+    public CrawlerResponseDto crawlProduct(CrawlerClient.CrawlRequest request) {
+        return timed("crawler", () -> crawlerClient.crawlProduct(request));
+    }
+
+    @Recover
+    public CrawlerResponseDto crawlProductFallback(Throwable e, CrawlerClient.CrawlRequest request) {
+        recordFallback("crawler", e);
+        throw new RuntimeException("크롤러 서버를 사용할 수 없습니다: " + e.getMessage(), e);
+    }
+
+    // --- Metrics (AiClientGateway와 공용) ---
+
+    public void recordRequest(String client, String outcome, long nanos) {
+        Timer.builder("ai.client.requests")
+                .tag("client", client)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFallback(String client, Throwable e) {
+        Counter.builder("ai.client.fallbacks").tag("client", client).register(meterRegistry).increment();
+        log.warn("⚠️ [Resilience] {} call failed or circuit open, fallback applied: {}", client, e.getMessage());
+    }
+
+    // --- Private Methods ---
+
+    private void publishSnapshot(AiCandidateSnapshotDto snapshot) {
+        aiClient.publishCandidateSnapshot(snapshot);
+        publishedSnapshotVersion = snapshot.getVersion();
+    }
+
+    private <T> T timed(String client, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return supplier.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            recordRequest(client, outcome, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.hyodream.backend.global.client;
+
+import com.hyodream.backend.global.client.crawler.CrawlerClient;
+import com.hyodream.backend.global.client.crawler.dto.CrawlerResponseDto;
+import com.hyodream.backend.global.client.review.dto.ReviewBatchAnalysisRequestDto;
+import com.hyodream.backend.global.client.review.dto.ReviewBatchAnalysisResponseDto;
+import com.hyodream.backend.product.dto.AiCandidateSnapshotDto;
+import com.hyodream.backend.product.dto.AiRecommendationRequestDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * [Resilience] 외부 AI/크롤러 서버 호출 게이트웨이
+ * - Timeout: Feign 클라이언트별 connect/read timeout (spring.cloud.openfeign.client.config.*)
+ * - Circuit Breaker: 일정 시간 내 연속 실패 시 회로를 열어 즉시 Fallback (AiClientCircuitBreaker, spring-retry @CircuitBreaker)
+ * - Bulkhead: 클라이언트별 동시 호출 수 제한 (Semaphore) -> 느린 AI 서버가 요청 스레드를 모두 점유하지 못하게 함
+ *   회로 밖에서 먼저 확인 -> 순간적인 동시 요청 폭주로 한도를 넘어도 회로가 열리지 않음 (서버 장애만 회로에 반영)
+ * - Metrics: ai.client.requests (client, outcome 태그, 지연 시간 히스토그램), ai.client.fallbacks
+ * - 추천 후보 스냅샷: 버전이 바뀌면 1회 등록, AI 서버가 409(모르는 버전)를 주면 재등록 후 재시도
+ *
+ * 추천은 빈 목록으로 대체(비AI 섹션만 응답), 리뷰 분석/크롤링은 예외를 던져 호출 측 실패 처리 로직을 따름
+ */
+@Component
+public class AiClientGateway {
+
+    private final AiClientCircuitBreaker circuitBreaker;
+
+    private final Semaphore recommendBulkhead;
+    private final Semaphore reviewBulkhead;
+    private final Semaphore crawlerBulkhead;
+    private final long bulkheadWaitMillis;
+
+    public AiClientGateway(AiClientCircuitBreaker circuitBreaker,
+            @Value("${ai.resilience.bulkhead.recommend:10}") int recommendLimit,
+            @Value("${ai.resilience.bulkhead.review:4}") int reviewLimit,
+            @Value("${ai.resilience.bulkhead.crawler:2}") int crawlerLimit,
+            @Value("${ai.resilience.bulkhead.max-wait-ms:50}") long bulkheadWaitMillis) {
+        this.circuitBreaker = circuitBreaker;
+        this.recommendBulkhead = new Semaphore(recommendLimit);
+        this.reviewBulkhead = new Semaphore(reviewLimit);
+        this.crawlerBulkhead = new Semaphore(crawlerLimit);
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+    }
+
+    // --- 추천 (ai-server) ---
+
+    public List<Long> recommend(AiRecommendationRequestDto request, AiCandidateSnapshotDto snapshot) {
+        try {
+            return withBulkhead("recommend", recommendBulkhead, () -> circuitBreaker.recommend(request, snapshot));
+        } catch (BulkheadFullException e) {
+            // 한도 초과도 AI 섹션만 생략 (회로 Fallback과 같은 결과)
+            circuitBreaker.recordFallback("recommend", e);
+            return List.of();
+        }
+    }
+
+    // --- 리뷰 감성 분석 (ai-review) ---
+
+    public ReviewBatchAnalysisResponseDto analyzeReviewsBatch(ReviewBatchAnalysisRequestDto request) {
+        return withBulkhead("review", reviewBulkhead, () -> circuitBreaker.analyzeReviewsBatch(request));
+    }
+
+    // --- 리뷰 크롤링 (crawler) ---
+
+    public CrawlerResponseDto crawlProduct(CrawlerClient.CrawlRequest request) {
+        return withBulkhead("crawler", crawlerBulkhead, () -> circuitBreaker.crawlProduct(request));
+    }
+
+    // --- Private Methods ---
+
+    private <T> T withBulkhead(String client, Semaphore bulkhead, Supplier<T> supplier) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 호출 대기 중 인터럽트되었습니다.", e);
+        }
+        if (!acquired) {
+            circuitBreaker.recordRequest(client, "bulkhead_full", 0);
+            throw new BulkheadFullException(client);
+        }
+
+        try {
+            return supplier.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // 동시 호출 한도 초과 (회로 실패로 집계되지 않음)
+    public static class BulkheadFullException extends RuntimeException {
+        public BulkheadFullException(String client) {
+            super("동시 호출 한도를 초과했습니다: " + client);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.hyodream.backend.global.client.review;
 
 import com.hyodream.backend.global.client.review.dto.ReviewAnalysisRequestDto;
 import com.hyodream.backend.global.client.review.dto.ReviewAnalysisResponseDto;
+import com.hyodream.backend.global.client.review.dto.ReviewBatchAnalysisRequestDto;
+import com.hyodream.backend.global.client.review.dto.ReviewBatchAnalysisResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,4 +13,8 @@ public interface AiReviewClient {
 
     @PostMapping("/analyze")
     ReviewAnalysisResponseDto analyzeReviews(@RequestBody ReviewAnalysisRequestDto request);
+
+    // 여러 상품의 리뷰를 한 번의 요청/추론으로 분석
+    @PostMapping("/analyze/batch")
+    ReviewBatchAnalysisResponseDto analyzeReviewsBatch(@RequestBody ReviewBatchAnalysisRequestDto request);
 }
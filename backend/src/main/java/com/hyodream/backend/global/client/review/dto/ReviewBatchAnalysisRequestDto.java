@@ -0,0 +1,26 @@
+package com.hyodream.backend.global.client.review.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewBatchAnalysisRequestDto {
+    private List<Item> items;
+
+    // 상품 1개 분량의 리뷰 묶음
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        @JsonProperty("product_id")
+        private Long productId;
+
+        private List<String> reviews;
+    }
+}
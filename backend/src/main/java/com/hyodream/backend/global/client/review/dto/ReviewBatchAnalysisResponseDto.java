@@ -0,0 +1,24 @@
+package com.hyodream.backend.global.client.review.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ReviewBatchAnalysisResponseDto {
+    private List<Result> results = new ArrayList<>();
+
+    // 상품별 분석 결과 (단건 응답 필드 + product_id + 리뷰별 분류)
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Result extends ReviewAnalysisResponseDto {
+        @JsonProperty("product_id")
+        private Long productId;
+
+        // 요청한 리뷰 순서대로 "POSITIVE" / "NEGATIVE"
+        private List<String> labels = new ArrayList<>();
+    }
+}
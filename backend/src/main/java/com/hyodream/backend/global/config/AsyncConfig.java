@@ -0,0 +1,131 @@
+package com.hyodream.backend.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [비동기 실행 계층] 작업 종류별 전용 스레드 풀
+ * - aiAnalysisExecutor: 리뷰 AI 분석 배치 (ReviewAnalysisScheduler)
+ * - importExecutor: 네이버 상품 Import (검색어 최신화 등)
+ * - crawlExecutor: 리뷰 크롤링
+ * - taskExecutor: 그 외 @Async 기본 실행기
+ *
+ * 모든 풀은 큐 크기가 제한되어 있고 포화 시 거절 정책이 적용됨 (한 작업 종류가 폭주해도 다른 풀은 영향 없음)
+ * 풀 크기/큐 크기/거절 정책은 async.executors.<이름>.* 로 설정
+ *
+ * [Metrics]
+ * - executor.active / executor.queued / executor.pool.size 등: Actuator가 ThreadPoolTaskExecutor 빈마다 자동 등록
+ * - async.task.wait / async.task.execution: 큐 대기 시간 / 실행 시간 (TaskDecorator에서 측정)
+ * - async.task.rejected: 거절된 작업 수
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Bean(name = "aiAnalysisExecutor")
+    public ThreadPoolTaskExecutor aiAnalysisExecutor() {
+        return buildExecutor("ai-analysis", 2, 4, 100, "abort");
+    }
+
+    @Bean(name = "importExecutor")
+    public ThreadPoolTaskExecutor importExecutor() {
+        return buildExecutor("import", 2, 2, 500, "caller-runs");
+    }
+
+    @Bean(name = "crawlExecutor")
+    public ThreadPoolTaskExecutor crawlExecutor() {
+        return buildExecutor("crawl", 2, 4, 200, "abort");
+    }
+
+    @Bean(name = "taskExecutor")
+    public ThreadPoolTaskExecutor taskExecutor() {
+        return buildExecutor("default", 4, 8, 1000, "caller-runs");
+    }
+
+    // @Async에 실행기 이름을 지정하지 않으면 기본 풀 사용 (무제한 큐 SimpleAsyncTaskExecutor 대신)
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("⚠️ [Async] Uncaught exception in {}: {}", method.getName(), ex.getMessage(), ex);
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(String name, int coreSize, int maxSize, int queueCapacity,
+            String rejectionPolicy) {
+        String prefix = "async.executors." + name + ".";
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(environment.getProperty(prefix + "core-size", Integer.class, coreSize));
+        executor.setMaxPoolSize(environment.getProperty(prefix + "max-size", Integer.class, maxSize));
+        executor.setQueueCapacity(environment.getProperty(prefix + "queue-capacity", Integer.class, queueCapacity));
+        executor.setRejectedExecutionHandler(rejectionHandler(name,
+                environment.getProperty(prefix + "rejection-policy", rejectionPolicy)));
+        executor.setTaskDecorator(timingDecorator(name));
+        // 종료 시 실행 중인 작업은 마무리 (최대 30초)
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 큐 대기 시간과 실행 시간을 분리 측정 (대기 시간이 길면 풀 크기 부족 신호)
+    private TaskDecorator timingDecorator(String name) {
+        Timer waitTimer = Timer.builder("async.task.wait").tag("executor", name).register(meterRegistry);
+        Timer executionTimer = Timer.builder("async.task.execution").tag("executor", name).register(meterRegistry);
+
+        return runnable -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    runnable.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    private RejectedExecutionHandler rejectionHandler(String name, String policy) {
+        Counter rejected = Counter.builder("async.task.rejected").tag("executor", name).register(meterRegistry);
+
+        RejectedExecutionHandler delegate = switch (policy) {
+            case "caller-runs" -> new ThreadPoolExecutor.CallerRunsPolicy(); // 호출 스레드가 직접 실행 (Backpressure)
+            case "discard" -> new ThreadPoolExecutor.DiscardPolicy();         // 조용히 버림
+            case "abort" -> new ThreadPoolExecutor.AbortPolicy();             // 예외 -> 호출자가 재시도/로그 처리
+            default -> throw new IllegalArgumentException("알 수 없는 거절 정책입니다: " + policy);
+        };
+
+        return (task, executor) -> {
+            rejected.increment();
+            log.warn("⚠️ [Async] {} executor saturated (queued: {}), policy: {}",
+                    name, executor.getQueue().size(), policy);
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -1,17 +1,116 @@
 package com.hyodream.backend.global.config;
 
+import com.hyodream.backend.global.domain.SeedState;
+import com.hyodream.backend.global.repository.SeedStateRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * [초기 데이터] 기동 시 시딩
+ * - seed.mode: synthetic(합성 데이터) | snapshot(스냅샷 파일 적재) | naver(네이버 API 기반 DbSeeder) | none
+ * - 시딩 방식/설정을 fingerprint로 남기고, 다음 기동 때 같으면 PK 조회 1번으로 시딩 단계를 건너뜀
+ *   (재시작/롤링 배포 때마다 메타데이터·유저·상품을 행 단위로 확인하지 않음)
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DataInit implements CommandLineRunner {
 
+    private static final String SEED_STATE_NAME = "default";
+    // DbSeeder(네이버) 시딩 규칙이 바뀌면 올림
+    private static final String NAVER_SEED_VERSION = "naver:v1";
+
     private final DbSeeder dbSeeder;
+    private final SyntheticDataGenerator syntheticDataGenerator;
+    private final SeedSnapshotService seedSnapshotService;
+    private final SeedStateRepository seedStateRepository;
+    private final StartupTimings startupTimings;
+
+    @Value("${seed.mode:synthetic}")
+    private String seedMode;
+
+    @Value("${seed.skip-if-unchanged:true}")
+    private boolean skipIfUnchanged;
+
+    @Value("${seed.snapshot.path:./seed/seed-snapshot.ndjson.gz}")
+    private String snapshotPath;
+
+    // synthetic 모드에서 새로 생성한 데이터를 스냅샷으로 저장 (다음부터 snapshot 모드로 빠르게 적재)
+    @Value("${seed.snapshot.dump-after-generate:false}")
+    private boolean dumpAfterGenerate;
 
     @Override
     public void run(String... args) throws Exception {
-        dbSeeder.seedAll();
+        if ("none".equals(seedMode)) {
+            log.info("ℹ️ [Seed] 데이터 시딩을 건너뜁니다. (seed.mode: none)");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        String fingerprint = fingerprint();
+        if (fingerprint == null)
+            return;
+
+        SeedState state = seedStateRepository.findById(SEED_STATE_NAME).orElse(null);
+        if (skipIfUnchanged && state != null && fingerprint.equals(state.getFingerprint())) {
+            log.info("⏭️ [Seed] 변경 사항 없음, 시딩 생략 (mode: {}, 마지막 시딩: {})", seedMode, state.getSeededAt());
+            startupTimings.record("seed", System.currentTimeMillis() - startedAt);
+            return;
+        }
+
+        switch (seedMode) {
+            case "synthetic" -> {
+                boolean generated = syntheticDataGenerator.generate();
+                if (generated && dumpAfterGenerate) {
+                    seedSnapshotService.dump(Path.of(snapshotPath));
+                }
+            }
+            case "snapshot" -> loadSnapshot();
+            case "naver" -> dbSeeder.seedAll();
+            default -> throw new IllegalStateException("알 수 없는 seed.mode: " + seedMode);
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        seedStateRepository.save(SeedState.create(SEED_STATE_NAME, fingerprint, seedMode, elapsed));
+        startupTimings.record("seed", elapsed);
+    }
+
+    // --- Private Methods ---
+
+    private String fingerprint() throws Exception {
+        return switch (seedMode) {
+            case "synthetic" -> syntheticDataGenerator.fingerprint();
+            case "naver" -> NAVER_SEED_VERSION;
+            case "snapshot" -> {
+                Path path = Path.of(snapshotPath);
+                if (!Files.exists(path)) {
+                    log.error("❌ [Seed] 스냅샷 파일이 없습니다: {}", path.toAbsolutePath());
+                    yield null;
+                }
+                // 파일 내용 해시 대신 크기 + 수정 시각 (대용량 파일을 기동마다 읽지 않도록)
+                yield "snapshot:" + path.toAbsolutePath() + ":" + Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+            }
+            default -> throw new IllegalStateException("알 수 없는 seed.mode: " + seedMode);
+        };
+    }
+
+    private void loadSnapshot() {
+        // 이전 적재가 중간에 끊겨 일부만 남은 DB -> "데이터가 이미 있음"으로 보고 건너뛰면 불완전한 데이터가 굳어짐
+        if (seedSnapshotService.isLoadInterrupted()) {
+            throw new IllegalStateException("이전 스냅샷 적재가 완료되지 않았습니다. 적재된 테이블을 비우고 seed_state의 'snapshot-loading' 행을 지운 뒤 다시 기동하세요.");
+        }
+        if (!seedSnapshotService.isTargetEmpty()) {
+            log.info("ℹ️ [Seed] 상품/주문 데이터가 이미 있어 스냅샷 적재를 건너뜁니다.");
+            return;
+        }
+        seedSnapshotService.load(Path.of(snapshotPath));
+        // 스냅샷 이후 추가된 기준 데이터 보충
+        dbSeeder.seedMetadata();
     }
-}
\ No newline at end of file
+}
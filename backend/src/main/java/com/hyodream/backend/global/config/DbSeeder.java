@@ -15,6 +15,7 @@ import com.hyodream.backend.user.domain.*;
 import com.hyodream.backend.user.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -32,6 +33,10 @@ import java.util.*;
 @RequiredArgsConstructor
 public class DbSeeder {
 
+    // 관리자 계정 초기 비밀번호 (미설정이면 관리자 계정을 만들지 않음)
+    @Value("${seed.admin-password:}")
+    private String adminPassword;
+
     private final DiseaseRepository diseaseRepository;
     private final AllergyRepository allergyRepository;
     private final HealthGoalRepository healthGoalRepository;
@@ -46,6 +51,21 @@ public class DbSeeder {
     private final OrderService orderService;
     private final ReviewService reviewService;
 
+    // 리뷰 텍스트 (SyntheticDataGenerator도 사용)
+    static final String[] GOOD_COMMENTS = {
+            "배송이 빠르고 좋습니다.", "효과가 있는 것 같아요.", "재구매 의사 있습니다.",
+            "포장이 꼼꼼해요.", "가격 대비 훌륭합니다.", "선물용으로 딱입니다.",
+            "유통기한이 넉넉해서 좋아요.", "생각보다 괜찮아요.", "맛이 거부감이 없네요.",
+            "사용하기 정말 편해요.", "디자인이 고급스러워요.", "설명서가 잘 되어 있어요.",
+            "튼튼해서 오래 쓸 것 같아요.", "기대 이상입니다.", "주변에 추천하고 싶어요."
+    };
+    static final String[] BAD_COMMENTS = {
+            "생각보다 별로네요.", "배송이 조금 늦었어요.", "포장이 뜯겨서 왔네요.",
+            "효과를 잘 모르겠어요.", "가격이 좀 비싼 감이 있네요.", "사진이랑 좀 달라요.",
+            "사용법이 너무 어려워요.", "마감이 좀 거치네요.", "냄새가 좀 납니다.",
+            "생각보다 무거워요.", "광고랑 차이가 있네요."
+    };
+
     @Transactional
     public void seedAll() {
         seedMetadata();
@@ -56,7 +76,8 @@ public class DbSeeder {
         log.info("🎉 모든 데이터 시딩이 완료되었습니다.");
     }
 
-    private void seedMetadata() {
+    // 질병/알러지/건강목표 기준 데이터 (SyntheticDataGenerator도 사용)
+    public void seedMetadata() {
         String[] diseases = { "당뇨", "고혈압", "신장질환", "고지혈증", "골다공증", "백내장", "관절염" };
         for (String name : diseases) {
             if (diseaseRepository.findByName(name).isEmpty()) {
@@ -105,9 +126,11 @@ public class DbSeeder {
         Random random = new Random();
         String password = passwordEncoder.encode("1234");
 
-        // 1. Admin
-        if (userRepository.findByUsername("admin").isEmpty()) {
-            createUser(1, "admin", "관리자", password, null, null, null);
+        // 1. Admin (seed.admin-password가 설정된 경우에만, 알려진 비밀번호로 만들지 않음)
+        if (!adminPassword.isBlank() && userRepository.findByUsername("admin").isEmpty()) {
+            User admin = createUser(1, "admin", "관리자", passwordEncoder.encode(adminPassword), null, null, null);
+            admin.setRole(Role.ADMIN);
+            userRepository.save(admin);
         }
 
         // 2. Users (ID 2 ~ 500)
@@ -253,21 +276,6 @@ public class DbSeeder {
         users = users.stream().filter(u -> !u.getUsername().equals("admin")).toList();
         Random random = new Random();
 
-        // 리뷰 텍스트 다양화 (종류 2배 증가)
-        String[] goodComments = {
-                "배송이 빠르고 좋습니다.", "효과가 있는 것 같아요.", "재구매 의사 있습니다.",
-                "포장이 꼼꼼해요.", "가격 대비 훌륭합니다.", "선물용으로 딱입니다.",
-                "유통기한이 넉넉해서 좋아요.", "생각보다 괜찮아요.", "맛이 거부감이 없네요.",
-                "사용하기 정말 편해요.", "디자인이 고급스러워요.", "설명서가 잘 되어 있어요.",
-                "튼튼해서 오래 쓸 것 같아요.", "기대 이상입니다.", "주변에 추천하고 싶어요."
-        };
-        String[] badComments = {
-                "생각보다 별로네요.", "배송이 조금 늦었어요.", "포장이 뜯겨서 왔네요.",
-                "효과를 잘 모르겠어요.", "가격이 좀 비싼 감이 있네요.", "사진이랑 좀 달라요.",
-                "사용법이 너무 어려워요.", "마감이 좀 거치네요.", "냄새가 좀 납니다.",
-                "생각보다 무거워요.", "광고랑 차이가 있네요."
-        };
-
         for (User user : users) {
             setSecurityContext(user);
             List<Long> boughtProductIds = orderItemRepository.findProductIdsByUserId(user.getId());
@@ -280,10 +288,10 @@ public class DbSeeder {
 
                         // 80% 긍정, 20% 부정
                         if (random.nextDouble() < 0.8) {
-                            content = goodComments[random.nextInt(goodComments.length)];
+                            content = GOOD_COMMENTS[random.nextInt(GOOD_COMMENTS.length)];
                             score = 4 + random.nextInt(2); // 4~5점
                         } else {
-                            content = badComments[random.nextInt(badComments.length)];
+                            content = BAD_COMMENTS[random.nextInt(BAD_COMMENTS.length)];
                             score = 1 + random.nextInt(3); // 1~3점
                         }
 
@@ -336,7 +344,7 @@ public class DbSeeder {
         return copy.subList(0, Math.min(count, copy.size()));
     }
 
-    private void createUser(int id, String username, String name, String password,
+    private User createUser(int id, String username, String name, String password,
             List<Disease> diseases, List<Allergy> allergies, List<HealthGoal> goals) {
         User user = new User();
         user.setUsername(username);
@@ -360,6 +368,6 @@ public class DbSeeder {
             for (HealthGoal h : goals)
                 user.addHealthGoal(UserHealthGoal.createUserHealthGoal(h));
         }
-        userRepository.save(user);
+        return userRepository.save(user);
     }
 }
\ No newline at end of file
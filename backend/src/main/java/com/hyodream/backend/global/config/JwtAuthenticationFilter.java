@@ -7,15 +7,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.hyodream.backend.global.util.JwtUtil;
+import com.hyodream.backend.user.domain.Role;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -48,12 +50,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (isLogout == null) { // "로그아웃 기록이 없으면" (정상 토큰이면)
 
-                // 유효하면 사용자 이름 꺼내기
+                // 유효하면 사용자 이름/권한 꺼내기
                 String username = jwtUtil.getUsername(token);
+                Role role = jwtUtil.getRole(token);
 
-                // 사용자 인증 확인 (SecurityContext에 등록)
+                // 사용자 인증 확인 (SecurityContext에 등록, 권한은 ROLE_USER / ROLE_ADMIN)
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        username, null, new ArrayList<>()); // 권한은 일단 비워둠
+                        username, null, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
 
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -0,0 +1,98 @@
+package com.hyodream.backend.global.config;
+
+import com.hyodream.backend.product.service.EventStreamPublisher;
+import com.hyodream.backend.product.service.ProductInterestKeywordCache;
+import com.hyodream.backend.product.service.ProductLookupService;
+import com.hyodream.backend.product.service.UserInterestNearCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * [Metrics 공통 설정] /actuator/prometheus 로 노출 (내부 관리 포트 management.server.port)
+ * - 자동 수집: http.server.requests(엔드포인트), http.client.requests(Feign), tasks.scheduled.execution(@Scheduled),
+ *   executor.*(스레드 풀 큐 깊이), jvm/hikaricp 등
+ * - 직접 등록 (각 클래스): ai.client.*, recommendation.section, naver.*, interest.events.*, review.analysis.*,
+ *   async.task.*, outbox.events.*, sql.*
+ * - 여기서 등록: 인메모리 캐시 적중/미스, 이벤트 버퍼/스트림 상태
+ * - 백분위(Histogram)는 application.yaml의 management.metrics.distribution 에서 이름별로 지정
+ */
+@Slf4j
+@Configuration
+public class MetricsConfig {
+
+    // @Timed 어노테이션 지원 (예: 네이버 Import)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // 캐시 적중/미스: cache.gets{cache, result=hit|miss} (누적), cache.size (현재 항목 수)
+    // (검색 로그 Cache-aside는 ProductService.searchProducts에서 cache="search-log"로 직접 기록)
+    @Bean
+    public MeterBinder cacheMetrics(UserInterestNearCache userInterestNearCache,
+            ProductLookupService productLookupService,
+            ProductInterestKeywordCache interestKeywordCache) {
+        return registry -> {
+            bindCache(registry, "user-interest-near", userInterestNearCache,
+                    UserInterestNearCache::getHitCount, UserInterestNearCache::getMissCount, UserInterestNearCache::size);
+            bindCache(registry, "product-lookup", productLookupService,
+                    ProductLookupService::getHitCount, ProductLookupService::getMissCount, ProductLookupService::size);
+            bindCache(registry, "product-interest-keyword", interestKeywordCache,
+                    ProductInterestKeywordCache::getHitCount, ProductInterestKeywordCache::getMissCount, ProductInterestKeywordCache::size);
+        };
+    }
+
+    // 이벤트 버퍼(Fire-and-forget) + 관심사 스트림 길이
+    @Bean
+    public MeterBinder eventStreamMetrics(EventStreamPublisher publisher, StringRedisTemplate redisTemplate) {
+        return registry -> {
+            Gauge.builder("event.buffer.queued", publisher, p -> p.getStats().getQueued())
+                    .description("Events waiting in the in-memory buffer")
+                    .register(registry);
+            FunctionCounter.builder("event.buffer.accepted", publisher, p -> p.getStats().getAccepted()).register(registry);
+            FunctionCounter.builder("event.buffer.dropped", publisher, p -> p.getStats().getDropped()).register(registry);
+            FunctionCounter.builder("event.buffer.published", publisher, p -> p.getStats().getPublished()).register(registry);
+            FunctionCounter.builder("event.buffer.failed", publisher, p -> p.getStats().getFailed()).register(registry);
+
+            // 수집 주기마다 XLEN 1회 (Redis 장애 시 NaN -> 수집 실패로 앱이 영향받지 않도록)
+            Gauge.builder("interest.stream.length", redisTemplate, MetricsConfig::streamLength)
+                    .description("Entries in " + EventStreamPublisher.STREAM_KEY)
+                    .register(registry);
+        };
+    }
+
+    // --- Private Methods ---
+
+    private static <T> void bindCache(MeterRegistry registry, String name, T cache,
+            ToLongFunction<T> hits, ToLongFunction<T> misses, ToDoubleFunction<T> size) {
+        FunctionCounter.builder("cache.gets", cache, c -> hits.applyAsLong(c))
+                .tags("cache", name, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> misses.applyAsLong(c))
+                .tags("cache", name, "result", "miss")
+                .register(registry);
+        Gauge.builder("cache.size", cache, size)
+                .tags("cache", name)
+                .register(registry);
+    }
+
+    private static double streamLength(StringRedisTemplate redisTemplate) {
+        try {
+            Long size = redisTemplate.opsForStream().size(EventStreamPublisher.STREAM_KEY);
+            return (size != null) ? size : 0;
+        } catch (Exception e) {
+            log.debug("Stream length metric unavailable: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
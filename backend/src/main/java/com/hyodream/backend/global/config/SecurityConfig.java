@@ -47,9 +47,15 @@ public class SecurityConfig {
                                 "/error",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
-                                "/v3/api-docs/**")
+                                "/v3/api-docs/**",
+                                // Actuator는 내부 관리 포트(management.server.port)에만 열림 -> 서비스 포트로는 접근 불가
+                                "/actuator/health",
+                                "/actuator/prometheus") // Prometheus 수집 (관리 포트는 외부로 publish하지 않음)
                         .permitAll()
 
+                        // 관리자 API (판매 통계, 주문 내보내기) + 운영 정보 Actuator: 토큰의 ADMIN 권한 필요
+                        .requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")
+
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
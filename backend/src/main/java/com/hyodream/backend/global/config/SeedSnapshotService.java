@@ -0,0 +1,319 @@
+package com.hyodream.backend.global.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyodream.backend.global.domain.SeedState;
+import com.hyodream.backend.global.repository.SeedStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * [시드 스냅샷] 초기 데이터를 GZIP NDJSON 파일로 저장/적재
+ * - 합성 데이터 생성이나 네이버 시딩을 매번 반복하지 않고, 한 번 만든 데이터를 파일에서 그대로 Bulk 적재
+ * - 파일 구조 (한 줄에 JSON 1개)
+ *   {"format":"hyodream-seed-snapshot","version":1}
+ *   {"table":"users","columns":["id","username",...]}   <- 테이블 헤더
+ *   [1,"admin",...]                                       <- 행 (컬럼 순서대로)
+ * - 저장: MySQL 스트리밍 조회 (행 단위로 읽고 바로 기록)
+ * - 적재: 커넥션 1개에서 FK/Unique 검사를 끄고 batch-size 단위로 Batch Insert + Commit
+ *   batch-size마다 커밋하므로 롤백으로 되돌릴 수 있는 것은 마지막 Batch뿐
+ *   -> 적재 시작 전에 seed_state에 적재 중 표시("snapshot-loading")를 커밋하고, 끝까지 성공해야 지움
+ *   -> 중간 실패 시 이번에 채우기 시작한 테이블을 비운 뒤 표시를 지움 (비우지 못하면 표시가 남아 다음 기동이 적재를 건너뛰지 않음)
+ * - 판매 Rollup은 포함하지 않음 (기동 완료 시 SalesRollupService가 주문 이력으로 채움)
+ */
+@Slf4j
+@Service
+public class SeedSnapshotService {
+
+    private static final String FORMAT = "hyodream-seed-snapshot";
+    private static final int VERSION = 1;
+    // 적재 중 표시 (seed_state.name) - 남아 있으면 이전 적재가 중간에 끊긴 상태
+    private static final String LOADING_STATE_NAME = "snapshot-loading";
+
+    // FK 참조 순서 (적재도 이 순서)
+    private static final List<String> TABLES = List.of(
+            "diseases", "allergies", "health_goals",
+            "users", "user_diseases", "user_allergies", "user_health_goals",
+            "products", "product_benefits", "product_allergens", "review_analysis", "search_logs",
+            "orders", "order_items", "payments",
+            "reviews", "review_images");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final SeedStateRepository seedStateRepository;
+    private final int batchSize;
+
+    public SeedSnapshotService(JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            SeedStateRepository seedStateRepository,
+            @Value("${seed.snapshot.batch-size:5000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.seedStateRepository = seedStateRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 현재 DB 데이터를 스냅샷 파일로 저장
+     * @return 테이블별 행 수
+     */
+    public Map<String, Long> dump(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // 임시 파일에 쓰고 마지막에 교체 (중간 실패 시 불완전한 스냅샷이 남지 않도록)
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Map<String, Long> counts = new LinkedHashMap<>();
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024), StandardCharsets.UTF_8));
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.setRootValueSeparator(null);
+            writeLine(generator, Map.of("format", FORMAT, "version", VERSION));
+
+            for (String table : TABLES) {
+                counts.put(table, dumpTable(table, generator));
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        log.info("💾 [Snapshot] 저장 완료: {} ({})", path, counts);
+        return counts;
+    }
+
+    /**
+     * 스냅샷 파일을 빈 DB에 적재 (스키마는 JPA ddl-auto로 이미 생성된 상태)
+     * - 실패 시 이번에 채우기 시작한 테이블을 비우고 예외를 다시 던짐
+     * @return 테이블별 행 수
+     */
+    public Map<String, Long> load(Path path) {
+        // 첫 Batch 커밋 전에 적재 중 표시를 먼저 커밋
+        seedStateRepository.save(SeedState.create(LOADING_STATE_NAME, path.toAbsolutePath().toString(), "snapshot", 0));
+
+        Map<String, Long> loaded = jdbcTemplate.execute((ConnectionCallback<Map<String, Long>>) con -> {
+            boolean autoCommit = con.getAutoCommit();
+            Map<String, Long> counts = new LinkedHashMap<>();
+            try (Statement session = con.createStatement()) {
+                session.execute("SET FOREIGN_KEY_CHECKS = 0");
+                session.execute("SET UNIQUE_CHECKS = 0");
+                con.setAutoCommit(false);
+                try {
+                    loadFrom(con, path, counts);
+                    log.info("📥 [Snapshot] 적재 완료: {} ({})", path, counts);
+                    return counts;
+                } catch (IOException e) {
+                    con.rollback();
+                    truncateLoaded(con, counts.keySet());
+                    throw new UncheckedIOException(e);
+                } catch (SQLException | RuntimeException e) {
+                    // 미반영 Batch 롤백 후, 이미 커밋된 Batch는 테이블을 비워서 되돌림
+                    con.rollback();
+                    truncateLoaded(con, counts.keySet());
+                    throw e;
+                } finally {
+                    // 풀에 반환되는 커넥션이므로 세션 설정 원복
+                    con.setAutoCommit(autoCommit);
+                    session.execute("SET UNIQUE_CHECKS = 1");
+                    session.execute("SET FOREIGN_KEY_CHECKS = 1");
+                }
+            }
+        });
+        seedStateRepository.deleteById(LOADING_STATE_NAME);
+        return loaded;
+    }
+
+    // 이전 스냅샷 적재가 중간에 끊겨 일부 테이블만 채워진 상태인지 (적재 중 표시가 남아 있음)
+    public boolean isLoadInterrupted() {
+        return seedStateRepository.existsById(LOADING_STATE_NAME);
+    }
+
+    // 스냅샷 적재 대상 여부: 상품/주문이 하나도 없을 때만 (기존 데이터와 섞이지 않도록)
+    public boolean isTargetEmpty() {
+        Long products = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+        Long orders = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class);
+        return (products == null || products == 0) && (orders == null || orders == 0);
+    }
+
+    // --- Private Methods ---
+
+    private long dumpTable(String table, JsonGenerator generator) {
+        long[] rows = { 0 };
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT * FROM " + table,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE); // MySQL 행 단위 스트리밍
+            return ps;
+        }, rs -> {
+            try {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columnCount = meta.getColumnCount();
+                if (rows[0] == 0) {
+                    List<String> columns = new ArrayList<>();
+                    for (int i = 1; i <= columnCount; i++) {
+                        columns.add(meta.getColumnName(i));
+                    }
+                    writeLine(generator, Map.of("table", table, "columns", columns));
+                }
+
+                generator.writeStartArray();
+                for (int i = 1; i <= columnCount; i++) {
+                    Object value = rs.getObject(i);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+                        generator.writeNumber(((Number) value).longValue());
+                    } else if (value instanceof Number number) {
+                        generator.writeNumber(number.toString());
+                    } else if (value instanceof Boolean bool) {
+                        generator.writeBoolean(bool);
+                    } else {
+                        // 날짜/시간은 MySQL 문자열 형식 그대로 ("2025-01-01 10:00:00")
+                        generator.writeString(rs.getString(i));
+                    }
+                }
+                generator.writeEndArray();
+                generator.writeRaw('\n');
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows[0];
+    }
+
+    // counts: 적재를 시작한 테이블 -> 행 수 (실패 시 호출 측이 이 테이블들을 비움)
+    private void loadFrom(Connection con, Path path, Map<String, Long> counts) throws IOException, SQLException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path), 64 * 1024), StandardCharsets.UTF_8))) {
+
+            JsonNode header = objectMapper.readTree(reader.readLine());
+            if (header == null || !FORMAT.equals(header.path("format").asText()) || header.path("version").asInt() != VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 형식입니다: " + path);
+            }
+
+            String table = null;
+            PreparedStatement ps = null;
+            int pending = 0;
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty())
+                        continue;
+
+                    if (line.charAt(0) == '{') {
+                        // 새 테이블 시작: 이전 테이블 잔여 Batch 반영
+                        if (ps != null) {
+                            flush(con, ps, pending);
+                            ps.close();
+                            ps = null;
+                        }
+                        JsonNode tableHeader = objectMapper.readTree(line);
+                        table = tableHeader.path("table").asText();
+                        if (!TABLES.contains(table)) {
+                            throw new IOException("스냅샷에 알 수 없는 테이블이 있습니다: " + table);
+                        }
+                        // 이미 행이 있는 테이블(기준 데이터 등)은 건너뜀 (PK 충돌 방지)
+                        if (hasRows(con, table)) {
+                            log.info("ℹ️ [Snapshot] {} 테이블에 데이터가 있어 건너뜁니다.", table);
+                            continue;
+                        }
+                        List<String> columns = new ArrayList<>();
+                        tableHeader.path("columns").forEach(column -> columns.add(column.asText()));
+                        ps = con.prepareStatement(insertSql(table, columns));
+                        pending = 0;
+                        counts.put(table, 0L);
+                        continue;
+                    }
+
+                    if (ps == null)
+                        continue;
+                    Object[] values = objectMapper.readValue(line, Object[].class);
+                    for (int i = 0; i < values.length; i++) {
+                        ps.setObject(i + 1, values[i]);
+                    }
+                    ps.addBatch();
+                    counts.merge(table, 1L, Long::sum);
+                    if (++pending >= batchSize) {
+                        flush(con, ps, pending);
+                        pending = 0;
+                    }
+                }
+                if (ps != null) {
+                    flush(con, ps, pending);
+                }
+            } finally {
+                if (ps != null) {
+                    ps.close();
+                }
+            }
+        }
+    }
+
+    // 실패한 적재가 채우기 시작한 테이블 비우기 (적재 전에 비어 있던 테이블만 채우므로 기존 데이터는 건드리지 않음)
+    // 비우지 못하면 예외 로그만 남김 -> 적재 중 표시가 남아 다음 기동 때 적재를 건너뛰지 않음
+    private void truncateLoaded(Connection con, Collection<String> tables) {
+        try (Statement statement = con.createStatement()) {
+            for (String table : tables) {
+                statement.execute("TRUNCATE TABLE " + table);
+            }
+            seedStateRepository.deleteById(LOADING_STATE_NAME);
+            log.warn("🧹 [Snapshot] 적재 실패, 채우던 테이블을 비웠습니다: {}", tables);
+        } catch (Exception e) {
+            log.error("❌ [Snapshot] 적재 실패 후 테이블 정리 불가 (다음 기동 시 확인 필요): {}", e.getMessage());
+        }
+    }
+
+    private static boolean hasRows(Connection con, String table) throws SQLException {
+        try (Statement statement = con.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT 1 FROM " + table + " LIMIT 1")) {
+            return rs.next();
+        }
+    }
+
+    private static void flush(Connection con, PreparedStatement ps, int pending) throws SQLException {
+        if (pending > 0) {
+            ps.executeBatch();
+            con.commit();
+        }
+    }
+
+    private static String insertSql(String table, List<String> columns) {
+        String placeholders = String.join(", ", columns.stream().map(c -> "?").toList());
+        List<String> quoted = columns.stream().map(c -> "`" + c + "`").toList();
+        return "INSERT INTO " + table + " (" + String.join(", ", quoted) + ") VALUES (" + placeholders + ")";
+    }
+
+    private static void writeLine(JsonGenerator generator, Object value) throws IOException {
+        generator.writeObject(value);
+        generator.writeRaw('\n');
+    }
+}
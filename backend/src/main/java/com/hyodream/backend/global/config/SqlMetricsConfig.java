@@ -0,0 +1,27 @@
+package com.hyodream.backend.global.config;
+
+import com.hyodream.backend.global.sql.SqlCountingStatementInspector;
+import com.hyodream.backend.global.sql.SqlTimingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * [SQL 계측] Hibernate에 SQL 수 집계(StatementInspector) + JDBC 시간 집계(SessionEventListener) 등록
+ * - 범위 관리/기록: global.sql (SqlMetricsFilter: 요청별, ScheduledSqlMetricsAspect: 스케줄러 작업별)
+ * - 끄기: sql.metrics.enabled=false
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlMetricsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCountingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+}
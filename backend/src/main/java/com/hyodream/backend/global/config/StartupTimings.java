@@ -0,0 +1,69 @@
+package com.hyodream.backend.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * [기동 시간] 단계별 소요 시간 기록 (Time-to-Ready 추적)
+ * - context: JVM 시작 ~ 컨텍스트 초기화 완료 (빈 생성, JPA 스키마 갱신 등)
+ * - seed 등: CommandLineRunner 안의 작업 (DataInit이 기록)
+ * - ready-listeners: ApplicationReadyEvent 리스너 (Rollup 초기 적재, 관심 키워드 맵 적재 등)
+ * - 기동 완료 시 한 줄로 로그 출력 + startup.phase 타이머(phase 태그)로 등록
+ * - 빈 단위 상세 내역은 /actuator/startup (BufferingApplicationStartup)
+ */
+@Slf4j
+@Component
+public class StartupTimings {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private long readyEventAt;
+
+    public StartupTimings(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public synchronized void record(String phase, long millis) {
+        phases.put(phase, millis);
+        Timer.builder("startup.phase").tag("phase", phase).register(meterRegistry)
+                .record(Duration.ofMillis(millis));
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted(ApplicationStartedEvent event) {
+        record("context", sinceJvmStart());
+    }
+
+    // 다른 Ready 리스너보다 먼저 실행되어 시작 시각 기록
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReadyFirst() {
+        readyEventAt = System.currentTimeMillis();
+    }
+
+    // 다른 Ready 리스너 이후 실행되어 요약 출력
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReadyLast() {
+        record("ready-listeners", System.currentTimeMillis() - readyEventAt);
+        long total = sinceJvmStart();
+        record("total", total);
+        log.info("⏱️ [Startup] 기동 완료 {}ms (단계별: {})", total, phases);
+    }
+
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+}
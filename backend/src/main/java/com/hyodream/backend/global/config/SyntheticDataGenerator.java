@@ -0,0 +1,589 @@
+package com.hyodream.backend.global.config;
+
+import com.hyodream.backend.order.domain.OrderStatus;
+import com.hyodream.backend.payment.domain.PaymentStatus;
+import com.hyodream.backend.product.domain.EventType;
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.domain.ProductStatus;
+import com.hyodream.backend.product.domain.ReviewRating;
+import com.hyodream.backend.product.domain.ReviewSource;
+import com.hyodream.backend.product.naver.service.NaverShoppingService;
+import com.hyodream.backend.product.service.EventStreamPublisher;
+import com.hyodream.backend.user.domain.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * [합성 데이터] 네트워크 없이 재현 가능한 대용량 데이터 생성기 (DbSeeder 대체)
+ * - 같은 seed와 설정이면 같은 데이터 생성 (단계별로 독립된 SplittableRandom 사용, 날짜는 실행일 기준 상대값)
+ * - 네이버 API, OrderService, ReviewService를 거치지 않고 JDBC Batch Insert로 직접 적재
+ *   -> 주문마다 SecurityContext 교체, 리뷰마다 통계 재계산/AI 분석 요청이 없음
+ * - PK를 직접 지정(기존 MAX(id) 이후)하므로 주문 상품/결제/리뷰가 생성 직후 ID 조회 없이 참조 가능
+ * - 판매량/리뷰 통계는 마지막에 집계 UPDATE로 한 번에 반영, 판매 Rollup은 기동 완료 시 SalesRollupService가 채움
+ *   (주문은 어제까지의 날짜로만 생성 -> Rollup 초기 적재 범위와 일치)
+ * - 관심사 이벤트는 실제 수집 경로와 같은 Redis Stream으로 발행
+ */
+@Slf4j
+@Service
+public class SyntheticDataGenerator {
+
+    // 상품 템플릿: 카테고리 + 품목 + 브랜드 + 옵션 + 가격대 + 알러지
+    private record ProductTemplate(String category2, String category3, String[] items, String[] brands,
+            String[] options, int minPrice, int maxPrice, String[] allergens) {
+    }
+
+    private static final List<ProductTemplate> HEALTH_TEMPLATES = List.of(
+            template("건강식품", "홍삼", items("홍삼정", "홍삼스틱", "6년근 홍삼진액", "홍삼정과"),
+                    brands("정관장", "한삼인", "천지양", "풍기인삼농협"), options("30포", "60포", "240g", "10ml x 30포"),
+                    30000, 180000),
+            template("건강식품", "비타민", items("비타민C 1000", "비타민B 컴플렉스", "비타민D 2000IU", "멀티비타민"),
+                    brands("고려은단", "종근당", "솔가", "뉴트리원"), options("60정", "90정", "120정", "180정"),
+                    9000, 45000),
+            template("건강식품", "오메가3", items("rTG 오메가3", "알티지 오메가3 루테인", "식물성 오메가3"),
+                    brands("종근당건강", "뉴트리디데이", "스포츠리서치", "GNM자연의품격"), options("30캡슐", "60캡슐", "90캡슐"),
+                    15000, 60000),
+            template("건강식품", "눈건강", items("루테인 지아잔틴", "빌베리 아스타잔틴", "눈 건강 루테인"),
+                    brands("닥터린", "뉴트리원", "종근당"), options("30캡슐", "60캡슐", "3개월분"),
+                    15000, 55000),
+            template("건강식품", "유산균", items("프로바이오틱스 유산균", "장 건강 유산균", "식이섬유 프리바이오틱스"),
+                    brands("락토핏", "종근당건강", "덴마크", "듀오락"), options("30포", "60포", "50캡슐"),
+                    12000, 50000),
+            template("건강식품", "관절건강", items("MSM 관절", "글루코사민 콘드로이친", "초록입홍합", "보스웰리아"),
+                    brands("뉴트리원", "GNM자연의품격", "관절엔", "종근당"), options("60정", "90정", "120정"),
+                    15000, 70000),
+            template("건강식품", "뼈건강", items("칼슘 마그네슘 비타민D", "해조 칼슘", "마그네슘"),
+                    brands("솔가", "고려은단", "뉴트리코어"), options("90정", "120정", "180정"),
+                    10000, 40000),
+            template("건강식품", "간건강", items("밀크씨슬", "헛개 밀크씨슬", "간 건강 실리마린"),
+                    brands("닥터린", "종근당", "뉴트리원"), options("30정", "60정", "90정"),
+                    12000, 45000),
+            template("건강식품", "기억력", items("은행잎 징코", "두뇌 건강 포스파티딜세린"),
+                    brands("종근당", "뉴트리원"), options("30정", "60정"),
+                    15000, 50000),
+            template("건강식품", "혈행개선", items("코엔자임Q10", "감마리놀렌산", "혈행 개선 오메가3"),
+                    brands("종근당", "솔가", "뉴트리디데이"), options("30캡슐", "60캡슐"),
+                    15000, 50000),
+            template("건강식품", "면역", items("프로폴리스 스프레이", "아연 면역", "로얄젤리", "상황버섯 진액"),
+                    brands("내츄럴플러스", "고려은단", "한미양행"), options("30ml", "60정", "30포"),
+                    10000, 60000));
+
+    private static final List<ProductTemplate> FOOD_TEMPLATES = List.of(
+            template("축산물", "계란", items("무항생제 특란", "동물복지 유정란"), brands("풀무원", "오뚜기", "자연맛남"),
+                    options("15구", "30구"), 6000, 15000, "난류(달걀)"),
+            template("유제품", "우유", items("멸균우유", "락토프리 우유", "저지방 우유"), brands("서울우유", "매일우유", "남양"),
+                    options("200ml x 24팩", "1L x 6개"), 12000, 30000, "우유"),
+            template("면류", "국수", items("메밀국수", "봉평 메밀소바"), brands("오뚜기", "청정원"),
+                    options("400g", "1kg"), 3000, 12000, "메밀", "밀"),
+            template("음료", "두유", items("무첨가 두유", "검은콩 두유"), brands("베지밀", "삼육두유"),
+                    options("190ml x 24팩", "190ml x 48팩"), 12000, 28000, "대두"),
+            template("견과류", "땅콩", items("볶음땅콩", "국산 땅콩"), brands("머거본", "산과들에"),
+                    options("500g", "1kg"), 8000, 25000, "땅콩"),
+            template("견과류", "호두", items("미국산 호두", "하루견과 호두"), brands("산과들에", "넛츠팜"),
+                    options("500g", "1kg"), 10000, 30000, "호두"),
+            template("수산물", "고등어", items("노르웨이 순살 고등어", "안동 간고등어"), brands("대림선", "바다원"),
+                    options("10팩", "1kg"), 12000, 35000, "고등어"),
+            template("수산물", "게장", items("간장게장", "양념게장"), brands("여수당", "바다원"),
+                    options("1kg", "2kg"), 25000, 60000, "게", "대두", "밀"),
+            template("수산물", "새우", items("손질 새우", "흰다리새우"), brands("바다원", "대림선"),
+                    options("500g", "1kg"), 12000, 35000, "새우"),
+            template("수산물", "오징어", items("오징어채", "손질 오징어"), brands("바다원", "해맑은"),
+                    options("300g", "1kg"), 10000, 30000, "오징어"),
+            template("간편식", "죽", items("전복죽", "소고기 야채죽"), brands("본죽", "양반", "비비고"),
+                    options("280g x 6개", "420g x 10개"), 10000, 30000, "조개류"),
+            template("축산물", "돼지고기", items("한돈 삼겹살", "한돈 목살"), brands("도드람", "선진포크"),
+                    options("500g", "1kg"), 15000, 40000, "돼지고기"),
+            template("축산물", "소고기", items("한우 불고기", "한우 국거리"), brands("농협안심한우", "횡성한우"),
+                    options("300g", "600g"), 25000, 80000, "쇠고기", "대두"),
+            template("축산물", "닭가슴살", items("닭가슴살 스테이크", "훈제 닭가슴살"), brands("하림", "아임닭"),
+                    options("100g x 10팩", "100g x 30팩"), 12000, 40000, "닭고기"),
+            template("과일", "복숭아", items("백도 복숭아", "황도 복숭아"), brands("경산농협", "장호원"),
+                    options("2kg", "4kg"), 15000, 40000, "복숭아"),
+            template("채소", "토마토", items("대저 토마토", "방울토마토"), brands("부산대저", "농협"),
+                    options("1kg", "2.5kg"), 10000, 30000, "토마토"));
+
+    private static final List<ProductTemplate> DEVICE_TEMPLATES = List.of(
+            template("안마용품", "안마기", items("목어깨 안마기", "발 마사지기", "눈마사지기"), brands("브라더", "휴테크", "닥터웰"),
+                    options("기본형", "온열형", "무선형"), 30000, 250000),
+            template("건강관리용품", "혈압계", items("자동 전자 혈압계", "손목 혈압계"), brands("오므론", "인바디"),
+                    options("기본형", "대화면"), 30000, 120000),
+            template("건강관리용품", "찜질기", items("온열 찜질기", "배찜질기", "전기 찜질팩"), brands("한일", "보국"),
+                    options("소형", "대형"), 20000, 90000),
+            template("의료용품", "보행보조", items("접이식 지팡이", "4발 지팡이", "보행기"), brands("케어메이트", "미키"),
+                    options("기본형", "LED형"), 15000, 150000),
+            template("의료용품", "돋보기", items("휴대용 돋보기", "돋보기 안경"), brands("렌즈몰", "시력지킴"),
+                    options("+1.5", "+2.0", "+2.5"), 8000, 40000));
+
+    private static final String[] SURNAMES = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍" };
+    private static final String[] GIVEN_SYLLABLES = {
+            "영", "순", "자", "숙", "옥", "정", "희", "철", "수", "호", "광", "만", "복", "남", "동", "석", "춘", "길", "말", "분" };
+    private static final String[] CITIES = {
+            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시",
+            "경기도", "강원특별자치도", "충청북도", "전라남도", "경상북도", "제주특별자치도" };
+    private static final String[] ROADS = { "중앙로", "시장길", "은행나무길", "역전로", "학교길", "평화로" };
+    private static final String[] PAYMENT_METHODS = { "CARD", "CARD", "CARD", "KAKAO_PAY", "CASH" };
+
+    // 생성 규칙이 바뀌면 올려서 기존 fingerprint와 다르게 만듦
+    private static final int GENERATOR_VERSION = 2;
+
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (id, username, password, name, phone, birth_date, city, street, zipcode, role)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_USER_DISEASE_SQL = "INSERT INTO user_diseases (user_id, disease_id) VALUES (?, ?)";
+    private static final String INSERT_USER_ALLERGY_SQL = "INSERT INTO user_allergies (user_id, allergy_id) VALUES (?, ?)";
+    private static final String INSERT_USER_GOAL_SQL = "INSERT INTO user_health_goals (user_id, health_goal_id) VALUES (?, ?)";
+    private static final String INSERT_PRODUCT_SQL = """
+            INSERT INTO products (id, naver_product_id, name, price, status, description, brand, maker,
+                                  category1, category2, category3, interest_keyword, volume,
+                                  total_sales, recent_sales, review_count, average_rating, review_crawled_at,
+                                  created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, ?, ?, ?)
+            """;
+    private static final String INSERT_BENEFIT_SQL = "INSERT INTO product_benefits (product_id, benefit) VALUES (?, ?)";
+    private static final String INSERT_ALLERGEN_SQL = "INSERT INTO product_allergens (product_id, allergen) VALUES (?, ?)";
+    private static final String INSERT_ORDER_SQL = "INSERT INTO orders (id, user_id, order_date, status) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_items (id, order_id, product_id, order_price, count) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_PAYMENT_SQL = """
+            INSERT INTO payments (order_id, amount, payment_method, payment_date, status)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_REVIEW_SQL = """
+            INSERT INTO reviews (user_id, product_id, source, author_name, content, score, rating, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DbSeeder dbSeeder;
+    private final PasswordEncoder passwordEncoder;
+    private final EventStreamPublisher eventStreamPublisher;
+
+    private final long seed;
+    private final int userCount;
+    private final int productCount;
+    private final int orderCount;
+    private final int maxItemsPerOrder;
+    private final int days;
+    private final double cancelRatio;
+    private final double reviewRatio;
+    private final int eventCount;
+    private final int batchSize;
+    private final String adminPassword;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+            DbSeeder dbSeeder,
+            PasswordEncoder passwordEncoder,
+            EventStreamPublisher eventStreamPublisher,
+            @Value("${seed.synthetic.seed:42}") long seed,
+            @Value("${seed.synthetic.users:500}") int userCount,
+            @Value("${seed.synthetic.products:2000}") int productCount,
+            @Value("${seed.synthetic.orders:20000}") int orderCount,
+            @Value("${seed.synthetic.max-items-per-order:3}") int maxItemsPerOrder,
+            @Value("${seed.synthetic.days:180}") int days,
+            @Value("${seed.synthetic.cancel-ratio:0.05}") double cancelRatio,
+            @Value("${seed.synthetic.review-ratio:0.3}") double reviewRatio,
+            @Value("${seed.synthetic.events:20000}") int eventCount,
+            @Value("${seed.synthetic.batch-size:2000}") int batchSize,
+            @Value("${seed.admin-password:}") String adminPassword) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dbSeeder = dbSeeder;
+        this.passwordEncoder = passwordEncoder;
+        this.eventStreamPublisher = eventStreamPublisher;
+        this.seed = seed;
+        this.userCount = userCount;
+        this.productCount = productCount;
+        this.orderCount = orderCount;
+        this.maxItemsPerOrder = Math.max(1, maxItemsPerOrder);
+        this.days = Math.max(1, days);
+        this.cancelRatio = cancelRatio;
+        this.reviewRatio = reviewRatio;
+        this.eventCount = eventCount;
+        this.batchSize = batchSize;
+        this.adminPassword = adminPassword;
+    }
+
+    // 같은 값이면 같은 데이터 (DataInit이 시딩 생략 여부 판단에 사용)
+    public String fingerprint() {
+        return "synthetic:v" + GENERATOR_VERSION + ":seed=" + seed + ",users=" + userCount + ",products=" + productCount
+                + ",orders=" + orderCount + ",items=" + maxItemsPerOrder + ",days=" + days + ",cancel=" + cancelRatio
+                + ",review=" + reviewRatio + ",events=" + eventCount;
+    }
+
+    /**
+     * @return 데이터를 새로 생성했으면 true (이미 데이터가 있어 건너뛰면 false)
+     */
+    public boolean generate() {
+        dbSeeder.seedMetadata();
+
+        Long existingProducts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+        Long existingOrders = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class);
+        if ((existingProducts != null && existingProducts > 0) || (existingOrders != null && existingOrders > 0)) {
+            log.info("ℹ️ [합성 데이터] 상품/주문 데이터가 이미 있어 생성을 건너뜁니다. (빈 DB에서 실행하세요)");
+            return false;
+        }
+
+        log.info("🚀 [합성 데이터] 생성 시작 (seed: {}, 유저: {}, 상품: {}, 주문: {}, 이벤트: {})",
+                seed, userCount, productCount, orderCount, eventCount);
+        long startedAt = System.currentTimeMillis();
+
+        long userBase = seedAdmin(maxId("users"));
+        long productBase = maxId("products");
+        seedUsers(userBase);
+        String[] keywords = new String[productCount];
+        int[] prices = seedProducts(productBase, keywords);
+        seedOrders(userBase, productBase, prices);
+        refreshProductStats(productBase);
+        seedEvents(userBase, productBase, keywords);
+
+        log.info("🎉 [합성 데이터] 생성 완료 ({}ms)", System.currentTimeMillis() - startedAt);
+        return true;
+    }
+
+    // --- Phases ---
+
+    // 관리자 계정이 없으면 생성 후 다음 ID부터 일반 유저 생성
+    // - seed.admin-password가 없으면 만들지 않음 (알려진 비밀번호의 관리자 계정 방지)
+    private long seedAdmin(long userBase) {
+        if (adminPassword.isBlank()) {
+            log.info("ℹ️ [합성 데이터] seed.admin-password가 없어 관리자 계정을 만들지 않습니다.");
+            return userBase;
+        }
+        Integer admins = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username = 'admin'", Integer.class);
+        if (admins != null && admins > 0)
+            return userBase;
+        jdbcTemplate.update(INSERT_USER_SQL, userBase + 1, "admin", passwordEncoder.encode(adminPassword), "관리자",
+                "010-0000-0000", LocalDate.of(1960, 1, 1), "서울특별시", "중앙로 1", "04524", Role.ADMIN.name());
+        return userBase + 1;
+    }
+
+    private void seedUsers(long userBase) {
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5EED_0001L);
+        List<Long> diseaseIds = ids("diseases");
+        List<Long> allergyIds = ids("allergies");
+        List<Long> goalIds = ids("health_goals");
+        String password = passwordEncoder.encode("1234"); // BCrypt는 1번만
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> diseases = new ArrayList<>();
+        List<Object[]> allergies = new ArrayList<>();
+        List<Object[]> goals = new ArrayList<>();
+
+        for (int i = 1; i <= userCount; i++) {
+            long userId = userBase + i;
+            users.add(new Object[] { userId, "user" + userId, password, koreanName(random),
+                    String.format("010-%04d-%04d", random.nextInt(10000), random.nextInt(10000)),
+                    LocalDate.now().minusYears(60 + random.nextInt(31)).minusDays(random.nextInt(365)),
+                    CITIES[random.nextInt(CITIES.length)],
+                    ROADS[random.nextInt(ROADS.length)] + " " + (1 + random.nextInt(300)),
+                    String.format("%05d", random.nextInt(100000)), Role.USER.name() });
+
+            // 1~15번은 건강한 사용자, 나머지는 질병/알러지 0~3개, 건강목표 1~3개 (DbSeeder와 같은 분포)
+            if (i > 15) {
+                for (Long id : pick(random, diseaseIds, random.nextInt(4)))
+                    diseases.add(new Object[] { userId, id });
+                for (Long id : pick(random, allergyIds, random.nextInt(4)))
+                    allergies.add(new Object[] { userId, id });
+                for (Long id : pick(random, goalIds, 1 + random.nextInt(3)))
+                    goals.add(new Object[] { userId, id });
+            }
+
+            if (users.size() >= batchSize) {
+                flush(INSERT_USER_SQL, users);
+                flush(INSERT_USER_DISEASE_SQL, diseases);
+                flush(INSERT_USER_ALLERGY_SQL, allergies);
+                flush(INSERT_USER_GOAL_SQL, goals);
+            }
+        }
+        flush(INSERT_USER_SQL, users);
+        flush(INSERT_USER_DISEASE_SQL, diseases);
+        flush(INSERT_USER_ALLERGY_SQL, allergies);
+        flush(INSERT_USER_GOAL_SQL, goals);
+        log.info("✅ [합성 데이터] 유저 {}명 생성 ({}ms)", userCount, System.currentTimeMillis() - startedAt);
+    }
+
+    private int[] seedProducts(long productBase, String[] keywords) {
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5EED_0002L);
+        LocalDateTime now = LocalDateTime.now();
+        int[] prices = new int[productCount];
+
+        List<Object[]> products = new ArrayList<>();
+        List<Object[]> benefits = new ArrayList<>();
+        List<Object[]> allergens = new ArrayList<>();
+
+        for (int i = 0; i < productCount; i++) {
+            long productId = productBase + 1 + i;
+
+            // 건강식품 50%, 식품 35%, 생활/건강 15%
+            double kind = random.nextDouble();
+            List<ProductTemplate> templates = (kind < 0.5) ? HEALTH_TEMPLATES
+                    : (kind < 0.85) ? FOOD_TEMPLATES : DEVICE_TEMPLATES;
+            String category1 = (templates == DEVICE_TEMPLATES) ? "생활/건강" : "식품";
+            ProductTemplate template = templates.get(random.nextInt(templates.size()));
+
+            String brand = template.brands()[random.nextInt(template.brands().length)];
+            String item = template.items()[random.nextInt(template.items().length)];
+            String option = template.options()[random.nextInt(template.options().length)];
+            String name = brand + " " + item + " " + option;
+            // 100원 단위 가격
+            int price = (template.minPrice() + random.nextInt(template.maxPrice() - template.minPrice() + 1)) / 100 * 100;
+            prices[i] = price;
+
+            // 효능/관심 키워드는 네이버 Import와 같은 규칙으로 계산
+            Product product = new Product();
+            product.setCategory1(category1);
+            product.setCategory2(template.category2());
+            product.setCategory3(template.category3());
+            product.setHealthBenefits(NaverShoppingService.extractBenefits(name + " " + template.category3()));
+            product.setAllergens(List.of(template.allergens()));
+            keywords[i] = NaverShoppingService.resolveInterestKeyword(product).intern();
+
+            products.add(new Object[] { productId, "SYN-" + seed + "-" + productId, name, price,
+                    ProductStatus.ON_SALE.name(), item + " - " + brand + " 정품", brand, brand,
+                    category1, template.category2(), template.category3(), keywords[i], option,
+                    now, now, now });
+            for (String benefit : product.getHealthBenefits())
+                benefits.add(new Object[] { productId, benefit });
+            for (String allergen : template.allergens())
+                allergens.add(new Object[] { productId, allergen });
+
+            if (products.size() >= batchSize) {
+                flush(INSERT_PRODUCT_SQL, products);
+                flush(INSERT_BENEFIT_SQL, benefits);
+                flush(INSERT_ALLERGEN_SQL, allergens);
+            }
+        }
+        flush(INSERT_PRODUCT_SQL, products);
+        flush(INSERT_BENEFIT_SQL, benefits);
+        flush(INSERT_ALLERGEN_SQL, allergens);
+        log.info("✅ [합성 데이터] 상품 {}개 생성 ({}ms)", productCount, System.currentTimeMillis() - startedAt);
+        return prices;
+    }
+
+    // 주문 + 주문 상품 + 결제 + 리뷰 (주문 일시는 ID 순서대로 증가, 어제까지)
+    private void seedOrders(long userBase, long productBase, int[] prices) {
+        if (userCount == 0 || productCount == 0)
+            return;
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5EED_0003L);
+        long orderBase = maxId("orders");
+        long orderItemBase = maxId("order_items");
+
+        LocalDateTime start = LocalDate.now().minusDays(days).atStartOfDay();
+        LocalDateTime now = LocalDateTime.now();
+        long spanSeconds = (long) days * 24 * 3600 - 3600;
+
+        // (유저, 상품) 리뷰 작성 여부: 해시 비트셋 (충돌 시 리뷰 1개가 덜 생길 뿐, 메모리는 16MB 고정)
+        BitSet reviewed = new BitSet(1 << 27);
+
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> orderItems = new ArrayList<>();
+        List<Object[]> payments = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+        long itemId = orderItemBase;
+        long itemTotal = 0;
+        long reviewTotal = 0;
+
+        for (int o = 0; o < orderCount; o++) {
+            long orderId = orderBase + 1 + o;
+            // 자주 주문하는 유저/인기 상품에 몰리도록 멱함수 분포
+            long userId = userBase + 1 + skewed(random, userCount, 1.5);
+            LocalDateTime orderDate = start.plusSeconds((long) ((double) o / orderCount * spanSeconds) + random.nextInt(3600));
+            boolean canceled = random.nextDouble() < cancelRatio;
+            String status = canceled ? OrderStatus.CANCEL.name() : OrderStatus.ORDER.name();
+            orders.add(new Object[] { orderId, userId, orderDate, status });
+
+            Set<Integer> productIndexes = new LinkedHashSet<>();
+            int itemCount = 1 + random.nextInt(maxItemsPerOrder);
+            while (productIndexes.size() < Math.min(itemCount, productCount)) {
+                productIndexes.add(skewed(random, productCount, 2.5));
+            }
+
+            int amount = 0;
+            for (int index : productIndexes) {
+                long productId = productBase + 1 + index;
+                int count = 1 + random.nextInt(3);
+                orderItems.add(new Object[] { ++itemId, orderId, productId, prices[index], count });
+                amount += prices[index] * count;
+                itemTotal++;
+
+                if (!canceled && random.nextDouble() < reviewRatio && !reviewed.get(reviewSlot(userId, productId))) {
+                    reviewed.set(reviewSlot(userId, productId));
+                    reviews.add(review(random, userId, productId, orderDate, now));
+                    reviewTotal++;
+                }
+            }
+            payments.add(new Object[] { orderId, amount, PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)], orderDate,
+                    canceled ? PaymentStatus.CANCELED.name() : PaymentStatus.DONE.name() });
+
+            if (orders.size() >= batchSize) {
+                flushOrders(orders, orderItems, payments, reviews);
+            }
+        }
+        flushOrders(orders, orderItems, payments, reviews);
+        log.info("✅ [합성 데이터] 주문 {}건 / 주문 상품 {}건 / 리뷰 {}건 생성 ({}ms)",
+                orderCount, itemTotal, reviewTotal, System.currentTimeMillis() - startedAt);
+    }
+
+    // 누적 판매량(취소 제외) / 리뷰 수 / 평균 평점을 집계 UPDATE로 한 번에 반영
+    private void refreshProductStats(long productBase) {
+        long startedAt = System.currentTimeMillis();
+        jdbcTemplate.update("""
+                UPDATE products p
+                JOIN (
+                    SELECT oi.product_id, SUM(oi.count) AS qty
+                    FROM order_items oi
+                    JOIN orders o ON o.id = oi.order_id
+                    WHERE o.status = 'ORDER' AND oi.product_id > ?
+                    GROUP BY oi.product_id
+                ) s ON s.product_id = p.id
+                SET p.total_sales = s.qty
+                """, productBase);
+        jdbcTemplate.update("""
+                UPDATE products p
+                JOIN (
+                    SELECT product_id, COUNT(*) AS cnt, ROUND(AVG(score), 1) AS avg_score
+                    FROM reviews
+                    WHERE product_id > ?
+                    GROUP BY product_id
+                ) s ON s.product_id = p.id
+                SET p.review_count = s.cnt,
+                    p.average_rating = s.avg_score
+                """, productBase);
+        log.info("✅ [합성 데이터] 상품 판매량/리뷰 통계 반영 ({}ms)", System.currentTimeMillis() - startedAt);
+    }
+
+    // 최근 24시간 관심사 이벤트 (클릭 70%, 오래 보기 20%, 장바구니 10%)
+    private void seedEvents(long userBase, long productBase, String[] keywords) {
+        if (eventCount == 0 || userCount == 0 || productCount == 0)
+            return;
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5EED_0004L);
+        long nowMillis = LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        List<Map<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            long userId = userBase + 1 + skewed(random, userCount, 1.5);
+            int index = skewed(random, productCount, 2.0);
+            double roll = random.nextDouble();
+            EventType type = (roll < 0.7) ? EventType.CLICK : (roll < 0.9) ? EventType.LONG_VIEW : EventType.CART;
+
+            Map<String, String> fields = new HashMap<>();
+            fields.put("eventId", "synthetic:" + seed + ":" + i);
+            fields.put("userId", "user" + userId);
+            fields.put("productId", String.valueOf(productBase + 1 + index));
+            fields.put("category", keywords[index]);
+            fields.put("type", type.name());
+            fields.put("timestamp", String.valueOf(nowMillis - random.nextLong(24L * 3600 * 1000)));
+            records.add(fields);
+
+            if (records.size() >= batchSize) {
+                eventStreamPublisher.publishNow(records);
+                records.clear();
+            }
+        }
+        eventStreamPublisher.publishNow(records);
+        log.info("✅ [합성 데이터] 관심사 이벤트 {}건 발행 ({}ms)", eventCount, System.currentTimeMillis() - startedAt);
+    }
+
+    // --- Helpers ---
+
+    private static ProductTemplate template(String category2, String category3, String[] items, String[] brands,
+            String[] options, int minPrice, int maxPrice, String... allergens) {
+        return new ProductTemplate(category2, category3, items, brands, options, minPrice, maxPrice, allergens);
+    }
+
+    private static String[] items(String... values) {
+        return values;
+    }
+
+    private static String[] brands(String... values) {
+        return values;
+    }
+
+    private static String[] options(String... values) {
+        return values;
+    }
+
+    private Object[] review(SplittableRandom random, long userId, long productId, LocalDateTime orderDate, LocalDateTime now) {
+        // 80% 긍정(4~5점), 20% 부정(1~3점)
+        boolean good = random.nextDouble() < 0.8;
+        String content = good ? DbSeeder.GOOD_COMMENTS[random.nextInt(DbSeeder.GOOD_COMMENTS.length)]
+                : DbSeeder.BAD_COMMENTS[random.nextInt(DbSeeder.BAD_COMMENTS.length)];
+        int score = good ? 4 + random.nextInt(2) : 1 + random.nextInt(3);
+        LocalDateTime createdAt = orderDate.plusDays(2 + random.nextInt(12));
+        if (createdAt.isAfter(now))
+            createdAt = now;
+        return new Object[] { userId, productId, ReviewSource.HYODREAM.name(), "user" + userId, content, score,
+                ReviewRating.fromScore(score).name(), createdAt };
+    }
+
+    private void flushOrders(List<Object[]> orders, List<Object[]> orderItems, List<Object[]> payments,
+            List<Object[]> reviews) {
+        flush(INSERT_ORDER_SQL, orders);
+        flush(INSERT_ORDER_ITEM_SQL, orderItems);
+        flush(INSERT_PAYMENT_SQL, payments);
+        flush(INSERT_REVIEW_SQL, reviews);
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return (max != null) ? max : 0L;
+    }
+
+    private List<Long> ids(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class);
+    }
+
+    // 0 ~ n-1, power가 클수록 앞쪽(인기) 인덱스에 집중
+    private static int skewed(SplittableRandom random, int n, double power) {
+        return Math.min(n - 1, (int) (n * Math.pow(random.nextDouble(), power)));
+    }
+
+    private static <T> List<T> pick(SplittableRandom random, List<T> values, int count) {
+        List<T> copy = new ArrayList<>(values);
+        List<T> picked = new ArrayList<>();
+        for (int i = 0; i < Math.min(count, copy.size()); i++) {
+            picked.add(copy.remove(random.nextInt(copy.size())));
+        }
+        return picked;
+    }
+
+    private static String koreanName(SplittableRandom random) {
+        return SURNAMES[random.nextInt(SURNAMES.length)]
+                + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)]
+                + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)];
+    }
+
+    private static int reviewSlot(long userId, long productId) {
+        long h = userId * 0x9E3779B97F4A7C15L ^ productId;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) (h & ((1 << 27) - 1));
+    }
+}
@@ -0,0 +1,42 @@
+package com.hyodream.backend.global.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 초기 데이터 시딩 이력 (DataInit)
+ * - fingerprint: 시딩 방식 + 설정(또는 스냅샷 파일) 요약. 다음 기동 시 같으면 시딩 단계를 통째로 건너뜀
+ * - 판매 Rollup 초기 적재 완료 표시도 같은 테이블에 기록 (name: "rollup-backfill:<테이블>", SalesRollupService)
+ * - 스냅샷 적재 중 표시 (name: "snapshot-loading", SeedSnapshotService): 적재가 끝나야 지워짐
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "seed_state")
+public class SeedState {
+
+    @Id
+    private String name; // 시딩 대상 구분 ("default", "rollup-backfill:<테이블>", "snapshot-loading")
+
+    @Column(nullable = false, length = 512)
+    private String fingerprint;
+
+    private String mode; // synthetic, snapshot, naver, rollup-backfill
+
+    private long durationMs; // 마지막 시딩 소요 시간
+
+    private LocalDateTime seededAt;
+
+    public static SeedState create(String name, String fingerprint, String mode, long durationMs) {
+        SeedState state = new SeedState();
+        state.setName(name);
+        state.setFingerprint(fingerprint);
+        state.setMode(mode);
+        state.setDurationMs(durationMs);
+        state.setSeededAt(LocalDateTime.now());
+        return state;
+    }
+}
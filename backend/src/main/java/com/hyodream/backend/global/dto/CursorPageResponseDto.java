@@ -0,0 +1,22 @@
+package com.hyodream.backend.global.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "커서 기반 페이지 응답 (무한 스크롤용)")
+public class CursorPageResponseDto<T> {
+
+    @Schema(description = "현재 페이지 데이터")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNC0wNS0wMVQxMjozNDo1NnwxMjM")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
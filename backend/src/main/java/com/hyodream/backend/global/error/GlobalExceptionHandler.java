@@ -1,5 +1,6 @@
 package com.hyodream.backend.global.error;
 
+import com.hyodream.backend.order.service.OrderIdempotencyService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,6 +19,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    // 같은 Idempotency-Key를 다른 주문 내용으로 재사용 -> 422 (재시도해도 같은 결과이므로 400과 구분)
+    @ExceptionHandler(OrderIdempotencyService.KeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleKeyReused(OrderIdempotencyService.KeyReusedException e) {
+        ErrorResponse response = new ErrorResponse(422, e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     // 2. 그 외 알 수 없는 모든 에러 (Exception) 처리
     // 예: NullPointerException, DB 연결 실패 등 예상치 못한 에러
     @ExceptionHandler(Exception.class)
@@ -0,0 +1,7 @@
+package com.hyodream.backend.global.repository;
+
+import com.hyodream.backend.global.domain.SeedState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SeedStateRepository extends JpaRepository<SeedState, String> {
+}
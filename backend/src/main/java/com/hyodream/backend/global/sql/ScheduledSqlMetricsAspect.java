@@ -0,0 +1,34 @@
+package com.hyodream.backend.global.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * [스케줄러 작업별 SQL 집계] @Scheduled 메서드 1회 실행을 SQL 범위 1개로 감싸기
+ * - 작업 이름: "클래스.메서드" (예: ProductScheduler.updateRecentSales)
+ * - 작업이 다른 풀(@Async 등)로 넘긴 처리는 해당 스레드의 범위가 없으므로 집계되지 않음
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledSqlMetricsAspect {
+
+    private final SqlMetricsRecorder recorder;
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        SqlQueryScope scope = SqlQueryScope.open(name);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            recorder.record(SqlMetricsRecorder.TYPE_JOB, name, scope);
+        }
+    }
+}
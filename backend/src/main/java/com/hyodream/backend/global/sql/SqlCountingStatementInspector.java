@@ -0,0 +1,20 @@
+package com.hyodream.backend.global.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * [SQL 수 집계] Hibernate가 JDBC Statement를 준비할 때마다 호출 -> 현재 범위에 1건 기록
+ * - Batch Insert는 Statement 준비 1회 = 1건 (addBatch 횟수가 아니라 DB 왕복 기준에 가까움)
+ * - SQL은 변경하지 않고 그대로 반환
+ */
+public class SqlCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlQueryScope scope = SqlQueryScope.current();
+        if (scope != null) {
+            scope.recordStatement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hyodream.backend.global.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * [요청별 SQL 집계] HTTP 요청 1건을 SQL 범위 1개로 감싸기
+ * - 가장 바깥 필터 (인증 필터에서 실행되는 조회도 포함)
+ * - 종료 후 범위를 요청 속성(REQUEST_ATTRIBUTE)에 남김 -> 테스트(MockMvc)에서 쿼리 수 검증
+ * - Metrics 이름은 URL 패턴 기준 ("GET /api/products/{id}") -> ID별로 태그가 늘어나지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ATTRIBUTE = SqlQueryScope.class.getName();
+
+    private final SqlMetricsRecorder recorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlQueryScope scope = SqlQueryScope.open(request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            request.setAttribute(REQUEST_ATTRIBUTE, scope);
+            recorder.record(SqlMetricsRecorder.TYPE_HTTP, request.getMethod() + " " + patternOf(request), scope);
+        }
+    }
+
+    private static String patternOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return (pattern != null) ? pattern.toString() : "UNKNOWN";
+    }
+}
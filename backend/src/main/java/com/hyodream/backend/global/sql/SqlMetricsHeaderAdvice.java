@@ -0,0 +1,40 @@
+package com.hyodream.backend.global.sql;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * [디버그용 응답 헤더] 응답 본문을 쓰기 직전까지 실행된 SQL 수/JDBC 시간
+ * - X-SQL-Count, X-SQL-Time-Ms (debug 프로파일에서만 활성화: sql.metrics.response-headers=true)
+ * - 본문 직렬화 중 발생하는 지연 로딩은 헤더 이후라 포함되지 않음 (Metrics/테스트 검증에는 포함)
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "sql.metrics.response-headers", havingValue = "true")
+public class SqlMetricsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        SqlQueryScope scope = SqlQueryScope.current();
+        if (scope != null) {
+            response.getHeaders().set(COUNT_HEADER, String.valueOf(scope.getStatements()));
+            response.getHeaders().set(TIME_HEADER, String.valueOf(scope.getJdbcMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,56 @@
+package com.hyodream.backend.global.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [SQL Metrics 기록] 범위(HTTP 요청 / 스케줄러 작업)가 끝날 때 Micrometer에 기록
+ * - sql.statements: 범위당 SQL 수 분포 (type=http|job, name=요청 패턴 또는 작업 이름)
+ * - sql.jdbc.time: 범위당 JDBC 실행 시간
+ * - 임계값 초과 시 반복 SQL과 함께 경고 로그 (N+1 회귀 조기 발견용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsRecorder {
+
+    public static final String TYPE_HTTP = "http";
+    public static final String TYPE_JOB = "job";
+
+    private final MeterRegistry meterRegistry;
+    private final int httpWarnThreshold;
+    private final int jobWarnThreshold;
+
+    public SqlMetricsRecorder(MeterRegistry meterRegistry,
+            @Value("${sql.metrics.warn-threshold.http:30}") int httpWarnThreshold,
+            @Value("${sql.metrics.warn-threshold.job:1000}") int jobWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.httpWarnThreshold = httpWarnThreshold;
+        this.jobWarnThreshold = jobWarnThreshold;
+    }
+
+    public void record(String type, String name, SqlQueryScope scope) {
+        DistributionSummary.builder("sql.statements")
+                .description("Hibernate SQL statements per scope")
+                .tags("type", type, "name", name)
+                .register(meterRegistry)
+                .record(scope.getStatements());
+        Timer.builder("sql.jdbc.time")
+                .description("JDBC execution time per scope")
+                .tags("type", type, "name", name)
+                .register(meterRegistry)
+                .record(scope.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        int threshold = TYPE_JOB.equals(type) ? jobWarnThreshold : httpWarnThreshold;
+        if (threshold > 0 && scope.getStatements() > threshold) {
+            log.warn("🐢 [SQL] 쿼리 수 임계값({}) 초과 - {}", threshold, scope.describe(3));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.hyodream.backend.global.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [SQL 실행 범위] HTTP 요청 1건 / 스케줄러 작업 1회 동안 실행된 SQL 수와 JDBC 실행 시간
+ * - 현재 스레드에 바인딩 (ThreadLocal): Hibernate StatementInspector/SessionEventListener가 여기에 기록
+ * - 중첩 open()은 바깥 범위에 합산 (스케줄러 작업 안에서 다시 열어도 범위가 끊기지 않음)
+ * - 같은 SQL 문자열(파라미터는 ?)이 반복되면 N+1 후보 -> repeatedStatements()로 확인
+ * - JdbcTemplate으로 직접 실행한 SQL(Batch Insert, 내보내기 등)은 Hibernate를 거치지 않으므로 집계 대상 아님
+ */
+public final class SqlQueryScope implements AutoCloseable {
+
+    private static final ThreadLocal<SqlQueryScope> CURRENT = new ThreadLocal<>();
+
+    // 서로 다른 SQL 문자열 보관 상한 (동적 IN 절 등으로 무한히 늘어나지 않도록)
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    private final String name;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int depth = 1;
+    private int statements;
+    private long jdbcNanos;
+
+    private SqlQueryScope(String name) {
+        this.name = name;
+    }
+
+    // 현재 스레드에 범위 시작 (이미 열려 있으면 그 범위를 그대로 사용)
+    public static SqlQueryScope open(String name) {
+        SqlQueryScope current = CURRENT.get();
+        if (current != null) {
+            current.depth++;
+            return current;
+        }
+        SqlQueryScope scope = new SqlQueryScope(name);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // 현재 스레드의 범위 (없으면 null)
+    public static SqlQueryScope current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public void close() {
+        if (--depth == 0 && CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        if (statementCounts.size() < MAX_DISTINCT_STATEMENTS || statementCounts.containsKey(sql)) {
+            statementCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    // minCount회 이상 반복된 SQL (반복 횟수 내림차순)
+    public List<Map.Entry<String, Integer>> repeatedStatements(int minCount) {
+        List<Map.Entry<String, Integer>> repeated = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : statementCounts.entrySet()) {
+            if (entry.getValue() >= minCount) {
+                repeated.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        repeated.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        return repeated;
+    }
+
+    // 로그/테스트 실패 메시지용 요약
+    public String describe(int maxStatements) {
+        StringBuilder sb = new StringBuilder()
+                .append(name).append(": ").append(statements).append(" statements, ")
+                .append(getJdbcMillis()).append("ms");
+        List<Map.Entry<String, Integer>> repeated = repeatedStatements(2);
+        for (int i = 0; i < Math.min(maxStatements, repeated.size()); i++) {
+            sb.append("\n  x").append(repeated.get(i).getValue()).append(" ").append(repeated.get(i).getKey());
+        }
+        return sb.toString();
+    }
+}
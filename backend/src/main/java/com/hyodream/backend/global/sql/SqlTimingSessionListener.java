@@ -0,0 +1,41 @@
+package com.hyodream.backend.global.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * [JDBC 실행 시간 집계] Hibernate Session마다 생성되는 이벤트 리스너 (hibernate.session.events.auto)
+ * - Statement 실행/Batch 실행 구간의 시간을 현재 범위에 합산
+ * - Session은 한 스레드에서만 쓰이므로 시작 시각은 인스턴스 필드로 충분
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        SqlQueryScope scope = SqlQueryScope.current();
+        if (scope != null && start > 0) {
+            scope.recordJdbcTime(System.nanoTime() - start);
+        }
+    }
+}
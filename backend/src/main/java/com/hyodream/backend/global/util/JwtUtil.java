@@ -1,5 +1,6 @@
 package com.hyodream.backend.global.util;
 
+import com.hyodream.backend.user.domain.Role;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -19,9 +20,23 @@ public class JwtUtil {
     private final long ACCESS_TIME = 30 * 60 * 1000L; // 30분
     private final long REFRESH_TIME = 7 * 24 * 60 * 60 * 1000L; // 7일
 
+    // 권한 Claim 이름
+    private static final String ROLE_CLAIM = "role";
+
     // Access Token 생성 (짧은 거)
     public String createAccessToken(String username) {
-        return createToken(username, ACCESS_TIME);
+        return createAccessToken(username, Role.USER);
+    }
+
+    // Access Token 생성 (권한 포함, 필터가 DB 조회 없이 권한 확인)
+    public String createAccessToken(String username, Role role) {
+        return Jwts.builder()
+                .setSubject(username)
+                .claim(ROLE_CLAIM, (role != null ? role : Role.USER).name())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TIME))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
     }
 
     // Refresh Token 생성 (긴 거)
@@ -47,6 +62,15 @@ public class JwtUtil {
                 .getSubject();
     }
 
+    // 토큰에서 권한 꺼내기 (권한 Claim이 없거나 알 수 없는 값이면 USER)
+    public Role getRole(String token) {
+        Object role = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token)
+                .getBody()
+                .get(ROLE_CLAIM);
+        return Role.ADMIN.name().equals(role) ? Role.ADMIN : Role.USER;
+    }
+
     // 토큰 유효성 검사
     public boolean validateToken(String token) {
         try {
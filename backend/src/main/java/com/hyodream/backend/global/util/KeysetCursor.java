@@ -0,0 +1,31 @@
+package com.hyodream.backend.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * [Keyset Pagination] (정렬 시각, id) 커서
+ * - "시각 DESC, id DESC" 정렬에서 마지막 행 기준으로 다음 페이지를 이어서 조회 (OFFSET 없이 인덱스 탐색)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+ */
+public record KeysetCursor(LocalDateTime timestamp, Long id) {
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null/빈 값이면 첫 페이지 (null 반환)
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (Exception e) {
+            throw new RuntimeException("잘못된 커서 값입니다.");
+        }
+    }
+}
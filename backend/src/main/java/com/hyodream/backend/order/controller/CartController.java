@@ -1,6 +1,6 @@
 package com.hyodream.backend.order.controller;
 
-import com.hyodream.backend.order.domain.Cart;
+import com.hyodream.backend.order.dto.CartItemResponseDto;
 import com.hyodream.backend.order.dto.OrderRequestDto;
 import com.hyodream.backend.order.service.CartService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +26,7 @@ public class CartController {
             **[로직]**
             - 이미 장바구니에 담긴 상품이라면 수량(`count`)만 증가시킵니다.
             - 없는 상품이라면 새로 추가합니다.
+            - 기본 저장소는 Redis Hash이며, 마지막 변경 후 30일이 지나면 자동으로 비워집니다.
             """)
     @PostMapping
     public ResponseEntity<String> addCart(@RequestBody OrderRequestDto dto) {
@@ -35,17 +36,34 @@ public class CartController {
 
     @Operation(summary = "내 장바구니 조회", description = """
             현재 로그인한 사용자의 장바구니 목록 전체를 조회합니다.
+            - 상품명/현재 가격/썸네일이 함께 반환됩니다. (판매 종료되어 삭제된 상품은 제외)
             """)
     @GetMapping
-    public ResponseEntity<List<Cart>> getMyCart() {
+    public ResponseEntity<List<CartItemResponseDto>> getMyCart() {
         return ResponseEntity.ok(cartService.getMyCart());
     }
 
-    @Operation(summary = "장바구니 항목 삭제", description = "장바구니 ID(`cartId`)를 이용하여 특정 항목을 삭제합니다.")
-    @DeleteMapping("/{cartId}")
+    @Operation(summary = "장바구니 항목 삭제", description = "상품 ID(`productId`)를 이용하여 장바구니에서 해당 상품을 뺍니다.")
+    @DeleteMapping("/{productId}")
     public ResponseEntity<String> deleteCart(
-            @Parameter(description = "삭제할 장바구니 항목의 ID (상품 ID 아님)") @PathVariable Long cartId) {
-        cartService.deleteCart(cartId);
+            @Parameter(description = "장바구니에서 뺄 상품 ID") @PathVariable Long productId) {
+        cartService.deleteCart(productId);
         return ResponseEntity.ok("삭제되었습니다.");
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "장바구니 전체 주문", description = """
+            장바구니에 담긴 상품 전체를 **한 건의 주문**으로 결제합니다.
+            
+            **[로직]**
+            - 주문 생성 API(`POST /api/orders`)와 같은 프로세스로 처리됩니다.
+            - 주문이 완료되면 주문한 수량만큼 장바구니에서 차감됩니다. (주문 중 새로 담은 상품은 유지)
+            - `Idempotency-Key` 헤더를 보내면 재시도 시 중복 주문이 생기지 않습니다.
+            """)
+    @PostMapping("/checkout")
+    public ResponseEntity<String> checkout(
+            @Parameter(description = "클라이언트가 생성한 주문 요청 고유 키 (UUID 권장, 64자 이하)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        Long orderId = cartService.checkout(idempotencyKey);
+        return ResponseEntity.ok("주문이 완료되었습니다. (주문번호: " + orderId + ")");
+    }
+}
@@ -1,5 +1,7 @@
 package com.hyodream.backend.order.controller;
 
+import com.hyodream.backend.global.dto.CursorPageResponseDto;
+import com.hyodream.backend.order.domain.OrderStatus;
 import com.hyodream.backend.order.dto.OrderRequestDto;
 import com.hyodream.backend.order.dto.OrderResponseDto;
 import com.hyodream.backend.order.service.OrderService;
@@ -9,9 +11,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "Order API", description = "상품 주문 및 취소 관리 API")
@@ -26,20 +30,33 @@ public class OrderController {
             상품을 주문하고 결제를 진행합니다.
             
             **[주문 프로세스]**
-            1. **재고/상태 확인:** 상품의 판매 가능 여부를 확인합니다.
-            2. **주문서 생성:** `orders`, `order_items` 테이블에 데이터를 생성합니다.
-            3. **판매량 집계:** 해당 상품의 `totalSales` 및 `recentSales` 카운트를 즉시 증가시킵니다.
-            4. **결제 처리:** 가상의 결제 모듈(`PaymentService`)을 호출하여 결제 승인(`DONE`) 상태를 기록합니다.
+            1. **중복 요청 확인:** `Idempotency-Key` 헤더가 있으면 같은 키로 이미 생성된 주문을 그대로 반환합니다. (새 주문 생성 X)
+            2. **상품 확인:** 주문 상품의 현재 가격을 일괄 조회합니다.
+            3. **주문서 생성:** `orders`, `order_items` 테이블에 데이터를 생성합니다. (주문 상품은 Batch Insert)
+            4. **이벤트 기록:** 주문과 같은 트랜잭션에서 `outbox_events`에 `ORDER_PLACED` 이벤트를 기록합니다.
+            
+            **[비동기 후속 처리 (Outbox Relay, 보통 1초 이내)]**
+            - **결제 처리:** 가상의 결제 모듈(`PaymentService`)이 결제 승인(`DONE`) 상태를 기록합니다.
+            - **판매량 집계:** `totalSales` 및 `recentSales`를 증가시킵니다.
+            - **관심사 반영:** `ORDER` 이벤트를 Redis Stream에 발행합니다.
+            
+            **[Idempotency-Key]**
+            - 네트워크 오류 등으로 재시도할 때 같은 키를 보내면 중복 주문/중복 결제가 발생하지 않습니다.
+            - 같은 키의 요청이 아직 처리 중이면 400을 반환합니다.
+            - 같은 키로 **다른 주문 내용**(상품/수량)을 보내면 기존 주문을 돌려주지 않고 422를 반환합니다. (상품 순서는 무관)
             """)
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "주문 완료"),
-            @ApiResponse(responseCode = "400", description = "재고 부족 또는 잘못된 요청")
+            @ApiResponse(responseCode = "200", description = "주문 완료 (중복 요청이면 기존 주문 번호)"),
+            @ApiResponse(responseCode = "400", description = "존재하지 않는 상품, 잘못된 요청 또는 처리 중인 중복 요청"),
+            @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key를 다른 주문 내용으로 재사용")
     })
     @PostMapping
     public ResponseEntity<String> createOrder(
+            @Parameter(description = "클라이언트가 생성한 주문 요청 고유 키 (UUID 권장, 64자 이하)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody List<OrderRequestDto> requestDtos) {
-        orderService.order(requestDtos);
-        return ResponseEntity.ok("주문이 완료되었습니다.");
+        Long orderId = orderService.order(requestDtos, idempotencyKey);
+        return ResponseEntity.ok("주문이 완료되었습니다. (주문번호: " + orderId + ")");
     }
 
     @Operation(summary = "내 주문 내역 조회", description = """
@@ -54,14 +71,41 @@ public class OrderController {
         return ResponseEntity.ok(orderService.getMyOrders());
     }
 
+    @Operation(summary = "내 주문 내역 커서 조회 (무한 스크롤)", description = """
+            로그인한 사용자의 주문 이력을 최신순으로 **커서(Keyset) 방식**으로 조회합니다.
+            
+            **[사용법]**
+            - 첫 요청은 `cursor` 없이 호출합니다.
+            - 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달합니다. (`hasNext`가 false면 마지막 페이지)
+            - 필터를 바꾸면 `cursor` 없이 처음부터 다시 조회하세요.
+            
+            **[필터]**
+            - `status`: `ORDER`(주문 완료) / `CANCEL`(취소)
+            - `from`, `to`: 주문일 기간 (yyyy-MM-dd, 양 끝 날짜 포함)
+            
+            **[성능]**
+            - `(user_id, order_date)` 인덱스를 따라 이어서 읽으며, 페이지당 쿼리 수가 주문 수와 무관하게 고정됩니다.
+            """)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<OrderResponseDto>> getMyOrderSlice(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "주문 상태 필터 (ORDER, CANCEL)") @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "조회 시작일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "조회 종료일 (yyyy-MM-dd)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(orderService.getMyOrderSlice(cursor, size, status, from, to));
+    }
+
     @Operation(summary = "주문 취소 (환불)", description = """
             특정 주문을 취소하고 환불 처리합니다.
             
             **[취소 프로세스]**
             1. **권한 확인:** 본인의 주문인지 확인합니다.
-            2. **상태 변경:** 주문 상태를 `CANCEL`로 변경합니다.
-            3. **데이터 복구:** 상품의 판매량(`totalSales`)을 차감하여 원상 복구합니다.
-            4. **결제 취소:** `payments` 테이블의 상태를 `CANCELED`로 변경합니다.
+            2. **상태 변경:** 주문 상태를 `CANCEL`로 변경하고 `ORDER_CANCELED` 이벤트를 기록합니다.
+            3. **데이터 복구 (비동기):** 상품의 판매량(`totalSales`)을 차감하여 원상 복구합니다.
+            4. **결제 취소 (비동기):** `payments` 테이블의 상태를 `CANCELED`로 변경합니다.
             """)
     @PostMapping("/{orderId}/cancel")
     public ResponseEntity<String> cancelOrder(
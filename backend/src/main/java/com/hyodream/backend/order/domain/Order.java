@@ -10,7 +10,13 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 내 주문 내역 커서 조회 (user_id = ? ORDER BY order_date DESC, id DESC)
+        @Index(name = "idx_order_user_date", columnList = "user_id, order_date, id")
+}, uniqueConstraints = {
+        // 같은 유저의 같은 Idempotency-Key로는 주문 1건만 생성
+        @UniqueConstraint(name = "uk_order_user_idempotency", columnNames = { "user_id", "idempotency_key" })
+})
 public class Order {
 
     @Id
@@ -25,6 +31,15 @@ public class Order {
     @Enumerated(EnumType.STRING)
     private OrderStatus status; // 주문 상태 [ORDER, CANCEL]
 
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey; // 클라이언트 재시도 식별 키 (없으면 null)
+
+    @Column(name = "request_hash", length = 64)
+    private String requestHash; // 주문 상품 목록 해시 (같은 키를 다른 주문 내용으로 재사용했는지 확인, 키가 없으면 null)
+
+    @Column(name = "buyer_diseases", length = 500)
+    private String buyerDiseases; // 주문 당시 주문자 지병명 (쉼표 구분, 취소 시 지병별 판매 Rollup 차감 기준 / null: 기록 이전 주문)
+
     // 주문 상품 목록 (1:N 관계)
     // CascadeType.ALL: 주문서 지우면 주문 상품들도 같이 삭제
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
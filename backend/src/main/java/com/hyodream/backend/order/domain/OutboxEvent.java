@@ -0,0 +1,88 @@
+package com.hyodream.backend.order.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * [Transactional Outbox] 주문 도메인 이벤트
+ * - 주문/취소와 같은 트랜잭션에서 저장되고, OrderOutboxRelay가 비동기로 일괄 전달
+ * - eventId(UUID)는 Redis Stream 등 외부 소비자의 중복 제거 키로 사용
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "outbox_events", indexes = {
+        // 릴레이 조회: status = PENDING AND available_at <= now ORDER BY id
+        @Index(name = "idx_outbox_status_available", columnList = "status, available_at, id")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, unique = true, length = 36)
+    private String eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private OutboxEventType type;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId; // 주문 ID
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload; // JSON (OrderOutboxPayload)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    private int attempts; // 전달 시도 횟수
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt; // 이 시각 이후 전달 시도 (재시도 Backoff)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    // -- 생성 메서드 --
+    public static OutboxEvent create(OutboxEventType type, Long aggregateId, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = new OutboxEvent();
+        event.setEventId(UUID.randomUUID().toString());
+        event.setType(type);
+        event.setAggregateId(aggregateId);
+        event.setPayload(payload);
+        event.setStatus(OutboxStatus.PENDING);
+        event.setAvailableAt(now);
+        event.setCreatedAt(now);
+        return event;
+    }
+
+    public void markProcessed() {
+        this.status = OutboxStatus.PROCESSED;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 실패 기록: 최대 횟수 전까지는 Backoff 후 재시도
+    public void markFailed(String error, int maxAttempts, long backoffMillis) {
+        this.attempts++;
+        this.lastError = (error != null && error.length() > 500) ? error.substring(0, 500) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        } else {
+            this.availableAt = LocalDateTime.now().plusNanos(backoffMillis * attempts * 1_000_000L);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.hyodream.backend.order.domain;
+
+public enum OutboxEventType {
+    ORDER_PLACED,   // 주문 생성 -> 결제 기록, 판매량 증가, 관심사 ORDER 이벤트
+    ORDER_CANCELED  // 주문 취소 -> 결제 취소, 판매량 감소
+}
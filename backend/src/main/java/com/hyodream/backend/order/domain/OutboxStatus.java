@@ -0,0 +1,7 @@
+package com.hyodream.backend.order.domain;
+
+public enum OutboxStatus {
+    PENDING,   // 전달 대기 (실패 시 available_at 이후 재시도)
+    PROCESSED, // 전달 완료
+    FAILED     // 최대 재시도 초과 (수동 확인 필요)
+}
@@ -0,0 +1,31 @@
+package com.hyodream.backend.order.dto;
+
+import com.hyodream.backend.product.service.ProductLookupService.ProductSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class CartItemResponseDto {
+    @Schema(description = "상품 ID", example = "10")
+    private Long productId;
+
+    @Schema(description = "상품명", example = "정관장 홍삼정")
+    private String productName;
+
+    @Schema(description = "현재 판매가 (단가)", example = "98000")
+    private int price;
+
+    @Schema(description = "썸네일 URL")
+    private String imageUrl;
+
+    @Schema(description = "담은 수량", example = "2")
+    private int count;
+
+    public CartItemResponseDto(ProductSummary product, int count) {
+        this.productId = product.id();
+        this.productName = product.name();
+        this.price = product.price();
+        this.imageUrl = product.imageUrl();
+        this.count = count;
+    }
+}
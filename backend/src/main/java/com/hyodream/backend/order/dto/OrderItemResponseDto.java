@@ -24,4 +24,12 @@ public class OrderItemResponseDto {
         this.count = orderItem.getCount();
         this.orderPrice = orderItem.getOrderPrice();
     }
-}
\ No newline at end of file
+
+    // Projection 조회용 (엔티티 로딩 없이 생성)
+    public OrderItemResponseDto(Long productId, String productName, int count, int orderPrice) {
+        this.productId = productId;
+        this.productName = productName;
+        this.count = count;
+        this.orderPrice = orderPrice;
+    }
+}
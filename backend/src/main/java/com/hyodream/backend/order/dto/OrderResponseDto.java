@@ -27,4 +27,13 @@ public class OrderResponseDto {
         this.status = order.getStatus();
         this.orderItems = orderItems;
     }
-}
\ No newline at end of file
+
+    // Projection 조회용 (엔티티 로딩 없이 생성)
+    public OrderResponseDto(Long orderId, LocalDateTime orderDate, OrderStatus status,
+            List<OrderItemResponseDto> orderItems) {
+        this.orderId = orderId;
+        this.orderDate = orderDate;
+        this.status = status;
+        this.orderItems = orderItems;
+    }
+}
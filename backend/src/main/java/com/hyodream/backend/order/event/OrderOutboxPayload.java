@@ -0,0 +1,25 @@
+package com.hyodream.backend.order.event;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [Outbox] 주문 이벤트 Payload (outbox_events.payload에 JSON으로 저장)
+ * - items: 상품 ID -> 수량 (취소 이벤트도 양수, 부호는 이벤트 타입으로 결정)
+ * - amounts: 상품 ID -> 금액 (주문 당시 가격 * 수량, 매출 Rollup용)
+ * - username: 관심사 스트림의 userId (EventController와 같은 식별자)
+ * - orderedAt: 원 주문 시각 (epoch millis) - 취소 이벤트도 주문 시각 (판매량 Rollup 일자 기준)
+ * - diseases: 주문 당시 주문자 지병명 (지병별 판매 Rollup, 취소 시 같은 지병에서 차감)
+ *   null이면 이 필드가 없던 이전 이벤트 -> 현재 지병으로 대체
+ */
+public record OrderOutboxPayload(
+        Long orderId,
+        Long userId,
+        String username,
+        int totalAmount,
+        String paymentMethod,
+        Map<Long, Integer> items,
+        Map<Long, Long> amounts,
+        long orderedAt,
+        List<String> diseases) {
+}
@@ -9,4 +9,6 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     List<Cart> findByUserId(Long userId); // 내 장바구니 목록 조회
 
     Optional<Cart> findByUserIdAndProductId(Long userId, Long productId); // 이미 담은 상품인지 확인
+
+    void deleteByUserIdAndProductId(Long userId, Long productId); // 장바구니에서 상품 빼기
 }
\ No newline at end of file
@@ -4,7 +4,7 @@ import com.hyodream.backend.order.domain.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -20,12 +20,8 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     @Query("SELECT DISTINCT oi.productId FROM OrderItem oi JOIN oi.order o WHERE o.userId = :userId")
     List<Long> findProductIdsByUserId(@Param("userId") Long userId);
 
-    // 📊 통계 쿼리: 특정 날짜(startDate) 이후에 판매된 상품별 수량 합계 조회
-    // 결과: [ [상품ID, 판매수량], [상품ID, 판매수량], ... ]
-    @Query("SELECT oi.productId, SUM(oi.count) " +
-            "FROM OrderItem oi JOIN oi.order o " +
-            "WHERE o.orderDate >= :startDate " +
-            "AND o.status = 'ORDER' " + // 취소된 건 제외
-            "GROUP BY oi.productId")
-    List<Object[]> countSalesByProductSince(@Param("startDate") LocalDateTime startDate);
-}
\ No newline at end of file
+    // [주문 내역] 페이지에 포함된 주문들의 상품을 한 번에 조회 (row: [orderId, productId, count, orderPrice])
+    @Query("SELECT oi.order.id, oi.productId, oi.count, oi.orderPrice FROM OrderItem oi " +
+            "WHERE oi.order.id IN :orderIds ORDER BY oi.id")
+    List<Object[]> findRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -1,10 +1,49 @@
 package com.hyodream.backend.order.repository;
 
 import com.hyodream.backend.order.domain.Order;
+import com.hyodream.backend.order.domain.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
     // 내 주문 목록 조회 (날짜 내림차순: 최신순)
     List<Order> findAllByUserIdOrderByOrderDateDesc(Long userId);
-}
\ No newline at end of file
+
+    // [Concurrency Control] 주문 취소용 비관적 락 조회 (SELECT ... FOR UPDATE)
+    // 동시에 들어온 취소 요청을 줄 세워, 두 번째 요청은 CANCEL 상태를 보고 실패하도록 함 (취소 이벤트 중복 기록 방지)
+    @Lock(jakarta.persistence.LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdWithLock(@Param("id") Long id);
+
+    // Idempotency-Key로 이미 생성된 주문 ID 조회 (Redis 키 만료/유실 대비)
+    @Query("SELECT o.id FROM Order o WHERE o.userId = :userId AND o.idempotencyKey = :key")
+    Optional<Long> findIdByUserIdAndIdempotencyKey(@Param("userId") Long userId, @Param("key") String key);
+
+    // Idempotency-Key로 이미 생성된 주문 조회 (요청 해시 비교용, 주문 상품은 LAZY라 함께 조회하지 않음)
+    Optional<Order> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // [Keyset] 내 주문 내역 커서 조회 (row: [id, orderDate, status]) - idx_order_user_date 인덱스 범위 탐색
+    // 주문 상품은 페이지의 주문 ID로 따로 일괄 조회 (컬렉션 fetch join + LIMIT은 메모리 페이징이 되므로 사용하지 않음)
+    @Query("SELECT o.id, o.orderDate, o.status FROM Order o " +
+            "WHERE o.userId = :userId " +
+            "AND (:status IS NULL OR o.status = :status) " +
+            "AND (:from IS NULL OR o.orderDate >= :from) " +
+            "AND (:to IS NULL OR o.orderDate < :to) " +
+            "AND (:cursorDate IS NULL OR o.orderDate < :cursorDate " +
+            "     OR (o.orderDate = :cursorDate AND o.id < :cursorId)) " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Object[]> findSliceByUserId(@Param("userId") Long userId,
+                                     @Param("status") OrderStatus status,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("cursorDate") LocalDateTime cursorDate,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
+}
@@ -0,0 +1,34 @@
+package com.hyodream.backend.order.repository;
+
+import com.hyodream.backend.order.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // [Relay] 전달 대기 이벤트를 잠그고 가져옴 (SKIP LOCKED: 인스턴스가 여러 개여도 같은 이벤트를 중복 처리하지 않음)
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE status = 'PENDING' AND available_at <= :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockPendingBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // [Relay] 배치 실패 후 이벤트 단위 재처리: 아직 대기 중인 이벤트 1개만 잠금 (다른 인스턴스가 잡았으면 건너뜀)
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE id = :id AND status = 'PENDING' FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<OutboxEvent> lockPendingById(@Param("id") Long id);
+
+    // [Cleanup] 보관 기간이 지난 전달 완료 이벤트 삭제 (한 번에 limit건씩)
+    @Modifying
+    @Query(value = "DELETE FROM outbox_events " +
+            "WHERE status = 'PROCESSED' AND processed_at < :threshold LIMIT :limit", nativeQuery = true)
+    int deleteProcessedBefore(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.status = com.hyodream.backend.order.domain.OutboxStatus.PENDING")
+    long countPending();
+}
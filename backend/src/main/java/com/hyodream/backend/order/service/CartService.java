@@ -1,55 +1,117 @@
 package com.hyodream.backend.order.service;
 
-import com.hyodream.backend.order.domain.Cart;
+import com.hyodream.backend.order.dto.CartItemResponseDto;
 import com.hyodream.backend.order.dto.OrderRequestDto;
-import com.hyodream.backend.order.repository.CartRepository;
-import com.hyodream.backend.product.domain.Product;
-import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.order.repository.OrderRepository;
+import com.hyodream.backend.product.service.ProductLookupService;
+import com.hyodream.backend.product.service.ProductLookupService.ProductSummary;
 import com.hyodream.backend.user.domain.User;
 import com.hyodream.backend.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CartService {
 
-    private final CartRepository cartRepository;
+    private final CartStore cartStore; // cart.store 설정에 따라 Redis 또는 JPA
     private final UserService userService;
-    private final ProductRepository productRepository;
+    private final ProductLookupService productLookupService;
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
 
     // 장바구니 담기
-    @Transactional
     public void addCart(OrderRequestDto dto) {
         User user = userService.getCurrentUser();
 
-        Product product = productRepository.findById(dto.getProductId())
-                .orElseThrow(() -> new RuntimeException("상품 없음"));
+        if (dto.getCount() <= 0) {
+            throw new RuntimeException("담을 수량은 1개 이상이어야 합니다.");
+        }
+        // 상품 존재 확인 (조회 캐시 사용 -> 같은 상품을 연속으로 담아도 DB 조회 없음)
+        if (productLookupService.getName(dto.getProductId()) == null) {
+            throw new RuntimeException("상품 없음");
+        }
 
-        Cart cart = cartRepository.findByUserIdAndProductId(user.getId(), product.getId())
-                .orElse(null);
+        cartStore.add(user.getId(), dto.getProductId(), dto.getCount());
+    }
 
-        if (cart == null) {
-            cart = Cart.createCart(user.getId(), product.getId(), dto.getCount());
-            cartRepository.save(cart);
-        } else {
-            cart.setCount(cart.getCount() + dto.getCount());
-        }
+    // 내 장바구니 조회 (상품 정보는 일괄 조회)
+    public List<CartItemResponseDto> getMyCart() {
+        User user = userService.getCurrentUser();
+        Map<Long, Integer> items = cartStore.getItems(user.getId());
+        Map<Long, ProductSummary> products = productLookupService.getSummaries(items.keySet());
+
+        List<CartItemResponseDto> dtos = new ArrayList<>();
+        items.forEach((productId, count) -> {
+            ProductSummary product = products.get(productId);
+            // 삭제된 상품은 목록에서 제외
+            if (product != null) {
+                dtos.add(new CartItemResponseDto(product, count));
+            }
+        });
+        dtos.sort(Comparator.comparing(CartItemResponseDto::getProductId));
+        return dtos;
     }
 
-    // 내 장바구니 조회
-    @Transactional(readOnly = true)
-    public List<Cart> getMyCart() {
+    // 장바구니에서 상품 빼기
+    public void deleteCart(Long productId) {
         User user = userService.getCurrentUser();
-        return cartRepository.findByUserId(user.getId());
+        cartStore.remove(user.getId(), productId);
     }
 
-    // 장바구니 삭제
-    @Transactional
-    public void deleteCart(Long cartId) {
-        cartRepository.deleteById(cartId);
+    /**
+     * 장바구니 전체 주문
+     * - 담긴 상품 전체를 OrderService.order 1회로 주문 (상품 가격은 주문 쪽에서 IN 쿼리 1회로 조회)
+     * - 삭제된 상품은 주문 전에 장바구니에서 제거 (조회 화면과 같은 기준)
+     * - 주문 성공 후 주문한 수량만큼만 장바구니에서 차감
+     */
+    public Long checkout(String idempotencyKey) {
+        User user = userService.getCurrentUser();
+
+        // 이미 처리된 재시도 요청이면 장바구니를 다시 차감하지 않고 기존 주문 반환
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            Long existingOrderId = orderRepository.findIdByUserIdAndIdempotencyKey(user.getId(), idempotencyKey)
+                    .orElse(null);
+            if (existingOrderId != null) {
+                return existingOrderId;
+            }
+        }
+
+        Map<Long, Integer> cartItems = cartStore.getItems(user.getId());
+        if (cartItems.isEmpty()) {
+            throw new RuntimeException("장바구니가 비어 있습니다.");
+        }
+
+        // 삭제된 상품은 주문에서 빼고 장바구니에서도 제거 (목록에 보이지 않는 상품 때문에 주문이 계속 실패하지 않도록)
+        Map<Long, ProductSummary> products = productLookupService.getSummaries(cartItems.keySet());
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        cartItems.forEach((productId, count) -> {
+            if (products.containsKey(productId)) {
+                items.put(productId, count);
+            } else {
+                cartStore.remove(user.getId(), productId);
+            }
+        });
+        if (items.isEmpty()) {
+            throw new RuntimeException("장바구니에 주문할 수 있는 상품이 없습니다.");
+        }
+
+        List<OrderRequestDto> orderItems = new ArrayList<>();
+        items.forEach((productId, count) -> {
+            OrderRequestDto dto = new OrderRequestDto();
+            dto.setProductId(productId);
+            dto.setCount(count);
+            orderItems.add(dto);
+        });
+
+        Long orderId = orderService.order(orderItems, idempotencyKey);
+        cartStore.deduct(user.getId(), items);
+        return orderId;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.hyodream.backend.order.service;
+
+import java.util.Map;
+
+/**
+ * [장바구니] 저장소 추상화
+ * - redis (기본): Redis Hash (cart:{userId} -> productId -> count), TTL 적용
+ * - jpa: carts 테이블 (Redis 장애/비활성 환경용 영속 Fallback)
+ * - cart.store 설정으로 선택
+ */
+public interface CartStore {
+
+    // 수량 누적 (없으면 새로 담기)
+    void add(Long userId, Long productId, int count);
+
+    // 상품 ID -> 수량 (담은 순서 보장 X)
+    Map<Long, Integer> getItems(Long userId);
+
+    void remove(Long userId, Long productId);
+
+    // 주문한 수량만큼 차감 (0 이하가 되면 삭제) -> 결제 중 새로 담은 상품은 유지
+    void deduct(Long userId, Map<Long, Integer> quantities);
+}
@@ -0,0 +1,66 @@
+package com.hyodream.backend.order.service;
+
+import com.hyodream.backend.order.domain.Cart;
+import com.hyodream.backend.order.repository.CartRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * [장바구니] carts 테이블 저장소 (cart.store=jpa)
+ * - Redis 없이 운영하거나 장바구니를 영속 보관해야 할 때 사용하는 Fallback
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.store", havingValue = "jpa")
+public class JpaCartStore implements CartStore {
+
+    private final CartRepository cartRepository;
+
+    @Override
+    @Transactional
+    public void add(Long userId, Long productId, int count) {
+        Cart cart = cartRepository.findByUserIdAndProductId(userId, productId).orElse(null);
+
+        if (cart == null) {
+            cartRepository.save(Cart.createCart(userId, productId, count));
+        } else {
+            cart.setCount(cart.getCount() + count);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getItems(Long userId) {
+        Map<Long, Integer> items = new HashMap<>();
+        for (Cart cart : cartRepository.findByUserId(userId)) {
+            items.merge(cart.getProductId(), cart.getCount(), Integer::sum);
+        }
+        return items;
+    }
+
+    @Override
+    @Transactional
+    public void remove(Long userId, Long productId) {
+        cartRepository.deleteByUserIdAndProductId(userId, productId);
+    }
+
+    @Override
+    @Transactional
+    public void deduct(Long userId, Map<Long, Integer> quantities) {
+        for (Cart cart : cartRepository.findByUserId(userId)) {
+            Integer ordered = quantities.get(cart.getProductId());
+            if (ordered == null)
+                continue;
+            if (cart.getCount() <= ordered) {
+                cartRepository.delete(cart);
+            } else {
+                cart.setCount(cart.getCount() - ordered);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.hyodream.backend.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * [주문] Idempotency-Key 처리 (Redis SETNX)
+ * - 같은 유저가 같은 키로 다시 요청하면 새 주문을 만들지 않고 기존 주문 ID 반환
+ * - 처리 중(PENDING)인 키로 동시에 들어온 요청은 거절
+ * - 완료된 키에는 "주문ID:요청 해시"를 저장, 같은 키를 다른 주문 내용으로 재사용하면 KeyReusedException (422)
+ * - Redis 키가 만료/유실되어도 orders (user_id, idempotency_key) 유니크 제약이 최종 방어선
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final String KEY_PREFIX = "order:idem:";
+    private static final String PENDING = "PENDING";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration pendingTtl;
+
+    public OrderIdempotencyService(StringRedisTemplate redisTemplate,
+            @Value("${order.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${order.idempotency.pending-ttl-seconds:30}") long pendingTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.pendingTtl = Duration.ofSeconds(pendingTtlSeconds);
+    }
+
+    /**
+     * 같은 키를 다른 주문 내용으로 재사용한 요청 (GlobalExceptionHandler에서 422)
+     */
+    public static class KeyReusedException extends RuntimeException {
+        public KeyReusedException() {
+            super("같은 Idempotency-Key로 다른 주문 내용을 요청했습니다. 새 주문은 새 키로 요청해주세요.");
+        }
+    }
+
+    /**
+     * 키 선점 시도
+     * @param requestHash 정규화한 주문 상품 목록 해시 (OrderService.requestHash)
+     * @return 이미 완료된 주문이 있으면 그 주문 ID, 선점에 성공했으면 null
+     */
+    public Long reserve(Long userId, String idempotencyKey, String requestHash) {
+        String key = redisKey(userId, idempotencyKey);
+        // PENDING은 짧게 잡아 서버가 중간에 죽어도 키가 영원히 잠기지 않게 함
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, PENDING, pendingTtl);
+        if (Boolean.TRUE.equals(acquired)) {
+            return null;
+        }
+
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            // 조회 사이에 만료됨 -> 한 번 더 선점 시도
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, PENDING, pendingTtl))
+                    ? null
+                    : reserveConflict();
+        }
+        if (PENDING.equals(value)) {
+            return reserveConflict();
+        }
+
+        // 완료된 키: "주문ID:요청 해시" (해시가 없는 값은 이전 형식 -> 주문 ID만)
+        int separator = value.indexOf(':');
+        String storedHash = (separator >= 0) ? value.substring(separator + 1) : null;
+        verifySameRequest(storedHash, requestHash);
+        log.info("🔁 [주문] 중복 요청 감지, 기존 주문 반환 (User: {}, Key: {})", userId, idempotencyKey);
+        return Long.valueOf((separator >= 0) ? value.substring(0, separator) : value);
+    }
+
+    // 주문 커밋 완료 -> 주문 ID + 요청 해시 기록
+    public void complete(Long userId, String idempotencyKey, Long orderId, String requestHash) {
+        String value = (requestHash != null) ? orderId + ":" + requestHash : String.valueOf(orderId);
+        redisTemplate.opsForValue().set(redisKey(userId, idempotencyKey), value, ttl);
+    }
+
+    // 저장된 요청 해시와 비교 (해시가 없는 이전 데이터는 비교하지 않음)
+    public void verifySameRequest(String storedHash, String requestHash) {
+        if (storedHash != null && !storedHash.equals(requestHash)) {
+            throw new KeyReusedException();
+        }
+    }
+
+    // 주문 실패 -> 같은 키로 재시도할 수 있도록 해제
+    public void release(Long userId, String idempotencyKey) {
+        redisTemplate.delete(redisKey(userId, idempotencyKey));
+    }
+
+    private static Long reserveConflict() {
+        throw new RuntimeException("동일한 주문 요청이 이미 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private static String redisKey(Long userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,270 @@
+package com.hyodream.backend.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyodream.backend.order.domain.OutboxEvent;
+import com.hyodream.backend.order.domain.OutboxEventType;
+import com.hyodream.backend.order.event.OrderOutboxPayload;
+import com.hyodream.backend.order.repository.OutboxEventRepository;
+import com.hyodream.backend.payment.service.PaymentService;
+import com.hyodream.backend.product.domain.EventType;
+import com.hyodream.backend.product.service.EventStreamPublisher;
+import com.hyodream.backend.product.service.ProductInterestKeywordCache;
+import com.hyodream.backend.product.service.ProductSalesCounter;
+import com.hyodream.backend.product.service.ProductSalesCounter.SalesDelta;
+import com.hyodream.backend.product.service.SalesRollupService;
+import com.hyodream.backend.product.service.SalesRollupService.OrderLines;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [Transactional Outbox] 주문 이벤트 릴레이
+ * - 주문 트랜잭션은 outbox_events에 이벤트만 기록하고, 부수 효과는 이 릴레이가 비동기로 일괄 처리
+ *   1. 결제 기록/취소 (PaymentService)
+ *   2. 판매량 집계 (ProductSalesCounter: 상품 판매량 + 일자별 상품/대분류 Rollup, SalesRollupService: 랭킹 Rollup)
+ *   3. 관심사 ORDER 이벤트 (product-view-stream, 파이프라인 XADD 1회)
+ * - 배치 1개 = 트랜잭션 1개: DB 부수 효과와 "처리 완료" 표시가 함께 커밋되므로 DB 쪽은 중복 반영 없음
+ * - Redis Stream은 커밋 후 버퍼(EventStreamPublisher.offerAll)로 Best-effort 발행
+ *   -> Redis 장애가 결제 기록/판매량 집계를 막지 않음 (관심사 점수용이라 일부 유실 허용, eventId로 소비 측 중복 제거)
+ * - 이벤트 단위 실패는 Backoff 후 재시도, max-attempts 초과 시 FAILED로 격리
+ * - 배치 일괄 반영(판매량/Rollup)이 실패하면 이벤트 1개씩 별도 트랜잭션으로 다시 처리
+ *   -> 문제 이벤트만 시도 횟수가 늘어 결국 FAILED로 격리되고, 나머지 이벤트는 계속 전달
+ */
+@Slf4j
+@Service
+public class OrderOutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final PaymentService paymentService;
+    private final ProductSalesCounter productSalesCounter;
+    private final SalesRollupService salesRollupService;
+    private final EventStreamPublisher eventStreamPublisher;
+    private final ProductInterestKeywordCache interestKeywordCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate txTemplate;
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int retentionDays;
+
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+
+    public OrderOutboxRelay(OutboxEventRepository outboxEventRepository,
+            PaymentService paymentService,
+            ProductSalesCounter productSalesCounter,
+            SalesRollupService salesRollupService,
+            EventStreamPublisher eventStreamPublisher,
+            ProductInterestKeywordCache interestKeywordCache,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:200}") int batchSize,
+            @Value("${outbox.relay.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.backoff-ms:1000}") long backoffMillis,
+            @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.paymentService = paymentService;
+        this.productSalesCounter = productSalesCounter;
+        this.salesRollupService = salesRollupService;
+        this.eventStreamPublisher = eventStreamPublisher;
+        this.interestKeywordCache = interestKeywordCache;
+        this.objectMapper = objectMapper;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.retentionDays = retentionDays;
+        this.dispatchedCounter = meterRegistry.counter("outbox.events.dispatched");
+        this.failedCounter = meterRegistry.counter("outbox.events.failed");
+        Gauge.builder("outbox.events.pending", outboxEventRepository, OutboxEventRepository::countPending)
+                .register(meterRegistry);
+    }
+
+    // 주문 트랜잭션에서 호출: 이벤트를 같은 트랜잭션에 기록
+    public void append(OutboxEventType type, OrderOutboxPayload payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            outboxEventRepository.save(OutboxEvent.create(type, payload.orderId(), json));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("주문 이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    // 짧은 주기로 대기 이벤트 전달 (배치가 가득 차면 같은 주기 안에서 이어서 처리)
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        // 판매 Rollup 초기 적재 전에는 대기 (적재 전 UPSERT가 이력 집계와 이중 반영되지 않도록)
+        if (!salesRollupService.isBackfillCompleted())
+            return;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            List<Long> fetchedIds = new ArrayList<>();
+            List<Map<String, String>> streamRecords = new ArrayList<>();
+            try {
+                txTemplate.execute(status -> {
+                    List<OutboxEvent> events = outboxEventRepository.lockPendingBatch(LocalDateTime.now(), batchSize);
+                    events.forEach(event -> fetchedIds.add(event.getId()));
+                    dispatch(events, streamRecords);
+                    return null;
+                });
+            } catch (Exception e) {
+                // 배치 전체 롤백 -> 같은 이벤트를 1개씩 나눠 처리해 문제 이벤트만 격리
+                log.warn("⚠️ [Outbox] 배치 전달 실패, 이벤트 단위로 재처리: {}", e.getMessage());
+                dispatchIsolated(fetchedIds);
+                return;
+            }
+            // 커밋 이후에만 발행 (롤백된 주문 이벤트가 나가지 않도록)
+            eventStreamPublisher.offerAll(streamRecords);
+            if (fetchedIds.size() < batchSize)
+                return;
+        }
+    }
+
+    // 하루 1번 보관 기간이 지난 처리 완료 이벤트 정리
+    @Scheduled(cron = "0 30 4 * * *")
+    public void cleanup() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        Integer deleted;
+        do {
+            deleted = txTemplate.execute(status -> outboxEventRepository.deleteProcessedBefore(threshold, 5000));
+            total += (deleted != null) ? deleted : 0;
+        } while (deleted != null && deleted == 5000);
+        if (total > 0) {
+            log.info("🧹 [Outbox] 처리 완료 이벤트 {}건 정리", total);
+        }
+    }
+
+    // --- Private Methods ---
+
+    private void dispatch(List<OutboxEvent> events, List<Map<String, String>> streamRecords) {
+        if (events.isEmpty())
+            return;
+
+        List<SalesDelta> salesDeltas = new ArrayList<>();
+        List<OrderLines> orderLines = new ArrayList<>();
+        List<Map<String, String>> batchRecords = new ArrayList<>();
+        int processed = 0;
+
+        for (OutboxEvent event : events) {
+            try {
+                OrderOutboxPayload payload = objectMapper.readValue(event.getPayload(), OrderOutboxPayload.class);
+                if (event.getType() == OutboxEventType.ORDER_PLACED) {
+                    handlePlaced(event, payload, salesDeltas, batchRecords);
+                    orderLines.add(new OrderLines(payload.userId(), payload.items().keySet(), payload.diseases(), 1));
+                } else {
+                    handleCanceled(payload, salesDeltas);
+                    orderLines.add(new OrderLines(payload.userId(), payload.items().keySet(), payload.diseases(), -1));
+                }
+                event.markProcessed();
+                processed++;
+            } catch (Exception e) {
+                event.markFailed(e.getMessage(), maxAttempts, backoffMillis);
+                failedCounter.increment();
+                log.warn("⚠️ [Outbox] 이벤트 처리 실패 (ID: {}, 주문: {}, 시도: {}회): {}",
+                        event.getId(), event.getAggregateId(), event.getAttempts(), e.getMessage());
+            }
+        }
+
+        // 배치 전체의 판매량/Rollup을 한 번에 반영 (실패 시 예외 -> 배치 롤백)
+        productSalesCounter.apply(salesDeltas);
+        salesRollupService.applyOrders(orderLines);
+        streamRecords.addAll(batchRecords);
+
+        dispatchedCounter.increment(processed);
+        if (processed > 0) {
+            log.info("📤 [Outbox] 주문 이벤트 {}건 전달", processed);
+        }
+    }
+
+    // 배치 일괄 반영 실패 시: 이벤트마다 별도 트랜잭션, 실패하면 그 이벤트만 시도 횟수 증가 (max-attempts 초과 시 FAILED)
+    private void dispatchIsolated(List<Long> eventIds) {
+        for (Long eventId : eventIds) {
+            List<Map<String, String>> streamRecords = new ArrayList<>();
+            try {
+                txTemplate.execute(status -> {
+                    outboxEventRepository.lockPendingById(eventId)
+                            .ifPresent(event -> dispatch(List.of(event), streamRecords));
+                    return null;
+                });
+                eventStreamPublisher.offerAll(streamRecords);
+            } catch (Exception e) {
+                recordFailure(eventId, e);
+            }
+        }
+    }
+
+    // 롤백된 트랜잭션과 별도로 실패 기록
+    private void recordFailure(Long eventId, Exception cause) {
+        try {
+            txTemplate.executeWithoutResult(status -> outboxEventRepository.lockPendingById(eventId).ifPresent(event -> {
+                event.markFailed(cause.getMessage(), maxAttempts, backoffMillis);
+                failedCounter.increment();
+                log.warn("⚠️ [Outbox] 이벤트 반영 실패 (ID: {}, 주문: {}, 시도: {}회): {}",
+                        event.getId(), event.getAggregateId(), event.getAttempts(), cause.getMessage());
+            }));
+        } catch (Exception e) {
+            // DB 자체 장애 -> 다음 주기에 재시도
+            log.error("⚠️ [Outbox] 실패 기록 불가 (ID: {}): {}", eventId, e.getMessage());
+        }
+    }
+
+    private void handlePlaced(OutboxEvent event, OrderOutboxPayload payload,
+            List<SalesDelta> salesDeltas, List<Map<String, String>> streamRecords) {
+        paymentService.recordPaymentIfAbsent(payload.orderId(), payload.totalAmount(), payload.paymentMethod());
+
+        LocalDate salesDate = toSalesDate(payload);
+        payload.items().forEach((productId, count) -> {
+            salesDeltas.add(new SalesDelta(productId, salesDate, count, amountOf(payload, productId)));
+
+            // 주문 상품별 관심사 ORDER 이벤트 (eventId로 소비 측 중복 제거)
+            Map<String, String> fields = new HashMap<>();
+            fields.put("eventId", event.getEventId() + ":" + productId);
+            fields.put("userId", payload.username());
+            fields.put("productId", productId.toString());
+            fields.put("category", interestKeywordCache.getKeyword(productId));
+            fields.put("type", EventType.ORDER.name());
+            fields.put("timestamp", String.valueOf(payload.orderedAt()));
+            streamRecords.add(fields);
+        });
+    }
+
+    private void handleCanceled(OrderOutboxPayload payload, List<SalesDelta> salesDeltas) {
+        // 주문 이벤트가 아직 처리되지 않았으면 (다른 인스턴스가 처리 중) 재시도
+        if (!paymentService.cancelPaymentIfPresent(payload.orderId())) {
+            throw new IllegalStateException("결제 기록이 아직 없습니다. (주문 ID: " + payload.orderId() + ")");
+        }
+        // 원 주문 일자의 Rollup 행에서 차감
+        LocalDate salesDate = toSalesDate(payload);
+        payload.items().forEach((productId, count) ->
+                salesDeltas.add(new SalesDelta(productId, salesDate, -count, -amountOf(payload, productId))));
+    }
+
+    private static long amountOf(OrderOutboxPayload payload, Long productId) {
+        return (payload.amounts() != null) ? payload.amounts().getOrDefault(productId, 0L) : 0L;
+    }
+
+    private static LocalDate toSalesDate(OrderOutboxPayload payload) {
+        return Instant.ofEpochMilli(payload.orderedAt()).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
@@ -1,28 +1,45 @@
 package com.hyodream.backend.order.service;
 
-import com.hyodream.backend.payment.service.PaymentService;
-
+import com.hyodream.backend.global.dto.CursorPageResponseDto;
+import com.hyodream.backend.global.util.KeysetCursor;
 import com.hyodream.backend.order.domain.Order;
 import com.hyodream.backend.order.domain.OrderItem;
 import com.hyodream.backend.order.domain.OrderStatus;
+import com.hyodream.backend.order.domain.OutboxEventType;
 import com.hyodream.backend.order.dto.OrderItemResponseDto;
 import com.hyodream.backend.order.dto.OrderRequestDto;
 import com.hyodream.backend.order.dto.OrderResponseDto;
+import com.hyodream.backend.order.event.OrderOutboxPayload;
+import com.hyodream.backend.order.repository.OrderItemRepository;
 import com.hyodream.backend.order.repository.OrderRepository;
-import com.hyodream.backend.product.domain.Product;
 import com.hyodream.backend.product.repository.ProductRepository;
-import com.hyodream.backend.product.service.ProductService;
+import com.hyodream.backend.product.service.ProductLookupService;
 import com.hyodream.backend.user.domain.User;
+import com.hyodream.backend.user.repository.DiseaseRepository;
 import com.hyodream.backend.user.service.UserService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,52 +47,70 @@ import java.util.stream.Collectors;
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final UserService userService;
     private final ProductRepository productRepository;
-    private final PaymentService paymentService;
-    private final ProductService productService;
-
-    // 주문 생성
-    @Transactional
+    private final ProductLookupService productLookupService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderOutboxRelay orderOutboxRelay;
+    private final DiseaseRepository diseaseRepository;
+
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_items (order_id, product_id, order_price, count) VALUES (?, ?, ?, ?)";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 주문 생성 (Idempotency-Key 없음 - 내부 호출/시더용)
     public Long order(List<OrderRequestDto> itemDtos) {
-        User user = userService.getCurrentUser();
+        return order(itemDtos, null);
+    }
 
-        // 1. 요청된 상품 ID 수집 및 일괄 조회 (N+1 방지)
-        List<Long> productIds = itemDtos.stream()
-                .map(OrderRequestDto::getProductId)
-                .toList();
+    /**
+     * 주문 생성
+     * - idempotencyKey가 있으면 같은 키의 재요청은 새 주문 없이 기존 주문 ID 반환
+     * - 트랜잭션에서는 주문/주문상품/Outbox 이벤트만 기록 (결제 기록, 판매량 집계, 관심사 이벤트는 OrderOutboxRelay)
+     */
+    public Long order(List<OrderRequestDto> itemDtos, String idempotencyKey) {
+        if (itemDtos == null || itemDtos.isEmpty()) {
+            throw new RuntimeException("주문할 상품이 없습니다.");
+        }
+        User user = userService.getCurrentUser();
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
 
-        Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
-                .collect(Collectors.toMap(Product::getId, p -> p));
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return txTemplate.execute(status -> placeOrder(user, itemDtos, null, null));
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key는 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자 이하여야 합니다.");
+        }
 
-        List<OrderItem> orderItems = new ArrayList<>();
-        int totalAmount = 0; // 총 결제 금액 계산용 변수
+        // 같은 키를 다른 주문 내용으로 재사용했는지 확인하기 위한 요청 해시
+        String requestHash = requestHash(itemDtos);
+        Long existingOrderId = orderIdempotencyService.reserve(user.getId(), idempotencyKey, requestHash);
+        if (existingOrderId != null) {
+            return existingOrderId;
+        }
 
-        for (OrderRequestDto dto : itemDtos) {
-            Product product = productMap.get(dto.getProductId());
-            
-            if (product == null) {
-                throw new RuntimeException("상품 없음 (ID: " + dto.getProductId() + ")");
+        try {
+            // Redis 키가 만료/유실된 경우를 대비해 DB에서 한 번 더 확인
+            Order existing = orderRepository.findByUserIdAndIdempotencyKey(user.getId(), idempotencyKey).orElse(null);
+            Long orderId;
+            String storedHash = requestHash;
+            if (existing != null) {
+                orderIdempotencyService.verifySameRequest(existing.getRequestHash(), requestHash);
+                orderId = existing.getId();
+                storedHash = existing.getRequestHash();
+            } else {
+                orderId = txTemplate.execute(status -> placeOrder(user, itemDtos, idempotencyKey, requestHash));
             }
-
-            OrderItem orderItem = OrderItem.createOrderItem(product.getId(), product.getPrice(), dto.getCount());
-            orderItems.add(orderItem);
-
-            // 판매량 증가 호출
-            productService.increaseTotalSales(product.getId(), dto.getCount());
-
-            // 금액 누적 (가격 * 수량)
-            totalAmount += (product.getPrice() * dto.getCount());
+            orderIdempotencyService.complete(user.getId(), idempotencyKey, orderId, storedHash);
+            return orderId;
+        } catch (RuntimeException e) {
+            orderIdempotencyService.release(user.getId(), idempotencyKey);
+            throw e;
         }
-
-        // 주문서 생성 및 저장
-        Order order = Order.createOrder(user.getId(), orderItems);
-        orderRepository.save(order);
-
-        // PaymentService에게 결제 처리 위임
-        paymentService.processPayment(order.getId(), totalAmount, "CARD");
-
-        return order.getId();
     }
 
     // 내 주문 내역 조회
@@ -91,9 +126,8 @@ public class OrderService {
                 .map(OrderItem::getProductId)
                 .collect(Collectors.toSet());
 
-        // 2. 상품 정보 일괄 조회 및 Map 변환 (ID -> Name)
-        Map<Long, String> productNameMap = productRepository.findAllById(productIds).stream()
-                .collect(Collectors.toMap(Product::getId, Product::getName));
+        // 2. 상품명 일괄 조회 (공용 조회 캐시, 캐시에 없는 상품만 IN 쿼리 1회)
+        Map<Long, String> productNameMap = productLookupService.getNames(productIds);
 
         List<OrderResponseDto> dtos = new ArrayList<>();
 
@@ -112,10 +146,72 @@ public class OrderService {
         return dtos; // 조회 기능 끝
     }
 
+    /**
+     * 내 주문 내역 커서 조회
+     * - 쿼리 수는 페이지 크기와 무관하게 고정: 주문 1회 + 주문 상품 1회 + (캐시에 없는) 상품명 1회
+     * - status, 기간(from ~ to, 날짜 포함) 필터 선택 적용
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<OrderResponseDto> getMyOrderSlice(String cursor, int size, OrderStatus status,
+            LocalDate from, LocalDate to) {
+        User user = userService.getCurrentUser();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        // 1. 주문 페이지 조회 (다음 페이지 존재 여부 확인을 위해 1개 더)
+        List<Object[]> orderRows = orderRepository.findSliceByUserId(
+                user.getId(), status,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                keyset != null ? keyset.timestamp() : null,
+                keyset != null ? keyset.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = orderRows.size() > pageSize;
+        if (hasNext) {
+            orderRows = orderRows.subList(0, pageSize);
+        }
+        if (orderRows.isEmpty()) {
+            return new CursorPageResponseDto<>(List.of(), null, false);
+        }
+
+        // 2. 페이지의 주문 상품 일괄 조회
+        List<Long> orderIds = orderRows.stream().map(row -> (Long) row[0]).toList();
+        List<Object[]> itemRows = orderItemRepository.findRowsByOrderIds(orderIds);
+
+        // 3. 상품명 일괄 조회 (공용 조회 캐시)
+        Set<Long> productIds = itemRows.stream().map(row -> (Long) row[1]).collect(Collectors.toSet());
+        Map<Long, String> productNameMap = productLookupService.getNames(productIds);
+
+        Map<Long, List<OrderItemResponseDto>> itemsByOrder = new HashMap<>();
+        for (Object[] row : itemRows) {
+            Long productId = (Long) row[1];
+            itemsByOrder.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(new OrderItemResponseDto(productId,
+                            productNameMap.getOrDefault(productId, "판매 중지된 상품"),
+                            (Integer) row[2], (Integer) row[3]));
+        }
+
+        List<OrderResponseDto> dtos = new ArrayList<>();
+        for (Object[] row : orderRows) {
+            Long orderId = (Long) row[0];
+            dtos.add(new OrderResponseDto(orderId, (LocalDateTime) row[1], (OrderStatus) row[2],
+                    itemsByOrder.getOrDefault(orderId, List.of())));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderResponseDto last = dtos.get(dtos.size() - 1);
+            nextCursor = new KeysetCursor(last.getOrderDate(), last.getOrderId()).encode();
+        }
+        return new CursorPageResponseDto<>(dtos, nextCursor, hasNext);
+    }
+
     // 주문 취소
     @Transactional
     public void cancelOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        // 비관적 락: 상태 확인 ~ 변경 ~ 취소 이벤트 기록이 동시 취소 요청과 겹치지 않도록
+        Order order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new RuntimeException("주문이 존재하지 않습니다."));
 
         User user = userService.getCurrentUser();
@@ -133,12 +229,103 @@ public class OrderService {
         // 상태 변경 -> CANCEL
         order.setStatus(OrderStatus.CANCEL);
 
-        // 주문했던 상품들의 판매량 원상복구 (감소)
+        // 판매량 원상복구 + 결제 취소는 Outbox 이벤트로 기록 (같은 트랜잭션, 전달은 릴레이가 비동기로)
+        Map<Long, Integer> items = new HashMap<>();
+        Map<Long, Long> amounts = new HashMap<>();
+        int totalAmount = 0;
         for (OrderItem item : order.getOrderItems()) {
-            productService.decreaseTotalSales(item.getProductId(), item.getCount());
+            items.merge(item.getProductId(), item.getCount(), Integer::sum);
+            amounts.merge(item.getProductId(), (long) item.getOrderPrice() * item.getCount(), Long::sum);
+            totalAmount += item.getOrderPrice() * item.getCount();
+        }
+        // 지병별 판매 Rollup은 현재 지병이 아니라 주문 당시 지병에서 차감
+        orderOutboxRelay.append(OutboxEventType.ORDER_CANCELED, new OrderOutboxPayload(
+                orderId, user.getId(), user.getUsername(), totalAmount, null, items, amounts,
+                order.getOrderDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                splitDiseases(order.getBuyerDiseases())));
+    }
+
+    // --- Private Methods ---
+
+    private Long placeOrder(User user, List<OrderRequestDto> itemDtos, String idempotencyKey, String requestHash) {
+        // 1. 요청된 상품의 가격만 일괄 조회 (엔티티/EAGER 컬렉션 로딩 없음)
+        //    가격은 결제 금액이므로 조회 캐시(ProductLookupService)가 아닌 DB에서 직접 읽음
+        List<Long> productIds = itemDtos.stream()
+                .map(OrderRequestDto::getProductId)
+                .toList();
+
+        Map<Long, Integer> priceMap = new HashMap<>();
+        for (Object[] row : productRepository.findSummariesByIds(productIds)) {
+            priceMap.put((Long) row[0], (Integer) row[2]);
         }
 
-        // 결제 취소 처리
-        paymentService.cancelPayment(orderId);
+        List<Object[]> itemRows = new ArrayList<>();
+        Map<Long, Integer> quantities = new HashMap<>();
+        Map<Long, Long> amounts = new HashMap<>();
+        int totalAmount = 0; // 총 결제 금액 계산용 변수
+
+        for (OrderRequestDto dto : itemDtos) {
+            Integer price = priceMap.get(dto.getProductId());
+            if (price == null) {
+                throw new RuntimeException("상품 없음 (ID: " + dto.getProductId() + ")");
+            }
+            if (dto.getCount() <= 0) {
+                throw new RuntimeException("주문 수량은 1개 이상이어야 합니다. (ID: " + dto.getProductId() + ")");
+            }
+
+            itemRows.add(new Object[] { null, dto.getProductId(), price, dto.getCount() });
+            quantities.merge(dto.getProductId(), dto.getCount(), Integer::sum);
+            amounts.merge(dto.getProductId(), (long) price * dto.getCount(), Long::sum);
+
+            // 금액 누적 (가격 * 수량)
+            totalAmount += (price * dto.getCount());
+        }
+
+        // 2. 주문서 저장 (주문 ID가 필요하므로 1건만 INSERT)
+        Order order = Order.createOrder(user.getId(), List.of());
+        order.setIdempotencyKey(idempotencyKey);
+        order.setRequestHash(requestHash);
+        // 주문 당시 지병 기록 (이후 지병이 바뀌어도 취소 시 같은 지병에서 차감)
+        List<String> diseases = diseaseRepository.findNamesByUserId(user.getId());
+        order.setBuyerDiseases(String.join(",", diseases));
+        orderRepository.save(order);
+
+        // 3. 주문 상품은 JDBC Batch Insert 1회 (IDENTITY 전략이라 JPA로는 건별 INSERT가 됨)
+        for (Object[] row : itemRows) {
+            row[0] = order.getId();
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM_SQL, itemRows);
+
+        // 4. 결제 기록/판매량 집계/관심사 이벤트는 Outbox에 기록만 (같은 트랜잭션 -> 롤백 시 함께 사라짐)
+        orderOutboxRelay.append(OutboxEventType.ORDER_PLACED, new OrderOutboxPayload(
+                order.getId(), user.getId(), user.getUsername(), totalAmount, "CARD", quantities, amounts,
+                order.getOrderDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), diseases));
+
+        return order.getId();
+    }
+
+    // orders.buyer_diseases -> 지병명 목록 (null: 기록 이전 주문 -> 릴레이가 현재 지병으로 대체)
+    private static List<String> splitDiseases(String buyerDiseases) {
+        if (buyerDiseases == null)
+            return null;
+        return buyerDiseases.isEmpty() ? List.of() : List.of(buyerDiseases.split(","));
+    }
+
+    // 주문 상품 목록 정규화 해시 (상품 ID 순 정렬 + 같은 상품 수량 합산 -> SHA-256)
+    // 같은 내용이면 요청 안의 순서/분할과 관계없이 같은 값
+    static String requestHash(List<OrderRequestDto> itemDtos) {
+        Map<Long, Integer> quantities = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        for (OrderRequestDto dto : itemDtos) {
+            quantities.merge(dto.getProductId(), dto.getCount(), Integer::sum);
+        }
+        StringBuilder normalized = new StringBuilder();
+        quantities.forEach((productId, count) -> normalized.append(productId).append('x').append(count).append(';'));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(normalized.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package com.hyodream.backend.order.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [장바구니] Redis Hash 저장소
+ * - 담기: HINCRBY 1회 (원자적 수량 누적, DB 조회/쓰기 없음) + TTL 갱신
+ * - 조회: HGETALL 1회
+ * - 마지막 변경 후 ttl-days 동안 변경이 없으면 자동 만료
+ */
+@Component
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis", matchIfMissing = true)
+public class RedisCartStore implements CartStore {
+
+    private static final String KEY_PREFIX = "cart:";
+
+    // 담기: 수량 누적 후 TTL 갱신, 결과가 0 이하면 필드 삭제
+    private static final String ADD_SCRIPT = """
+            local count = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            if count <= 0 then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return count
+            """;
+
+    // 주문 수량 차감: ARGV = [productId1, count1, productId2, count2, ...]
+    private static final String DEDUCT_SCRIPT = """
+            for i = 1, #ARGV, 2 do
+                local count = redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1]))
+                if count <= 0 then
+                    redis.call('HDEL', KEYS[1], ARGV[i])
+                end
+            end
+            return redis.call('HLEN', KEYS[1])
+            """;
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlSeconds;
+
+    private final DefaultRedisScript<Long> addScript = new DefaultRedisScript<>(ADD_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> deductScript = new DefaultRedisScript<>(DEDUCT_SCRIPT, Long.class);
+
+    public RedisCartStore(StringRedisTemplate redisTemplate,
+            @Value("${cart.ttl-days:30}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = Duration.ofDays(ttlDays).toSeconds();
+    }
+
+    @Override
+    public void add(Long userId, Long productId, int count) {
+        redisTemplate.execute(addScript, List.of(key(userId)),
+                productId.toString(), String.valueOf(count), String.valueOf(ttlSeconds));
+    }
+
+    @Override
+    public Map<Long, Integer> getItems(Long userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(userId));
+        Map<Long, Integer> items = new HashMap<>();
+        entries.forEach((productId, count) ->
+                items.put(Long.valueOf(productId.toString()), Integer.valueOf(count.toString())));
+        return items;
+    }
+
+    @Override
+    public void remove(Long userId, Long productId) {
+        redisTemplate.opsForHash().delete(key(userId), productId.toString());
+    }
+
+    @Override
+    public void deduct(Long userId, Map<Long, Integer> quantities) {
+        if (quantities.isEmpty())
+            return;
+        Object[] args = new String[quantities.size() * 2];
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            args[i++] = entry.getKey().toString();
+            args[i++] = entry.getValue().toString();
+        }
+        redisTemplate.execute(deductScript, List.of(key(userId)), args);
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -32,6 +32,30 @@ public class PaymentService {
         payment.setStatus(PaymentStatus.CANCELED);
     }
 
+    // [Outbox] 결제 기록 (같은 주문으로 이미 기록되어 있으면 무시 -> 재전달되어도 1건만 생성)
+    @Transactional
+    public boolean recordPaymentIfAbsent(Long orderId, int amount, String method) {
+        if (paymentRepository.findByOrderId(orderId).isPresent()) {
+            return false;
+        }
+        paymentRepository.save(Payment.createPayment(orderId, amount, method));
+        return true;
+    }
+
+    /**
+     * [Outbox] 결제 취소 (예외를 던지지 않음 -> 릴레이 트랜잭션을 rollback-only로 만들지 않음)
+     * @return 결제 기록이 있으면 true (이미 취소된 경우 포함)
+     */
+    @Transactional
+    public boolean cancelPaymentIfPresent(Long orderId) {
+        return paymentRepository.findByOrderId(orderId)
+                .map(payment -> {
+                    payment.setStatus(PaymentStatus.CANCELED);
+                    return true;
+                })
+                .orElse(false);
+    }
+
     // 결제 내역 조회 (Controller에서 호출)
     @Transactional(readOnly = true)
     public PaymentResponseDto getPaymentInfo(Long orderId) {
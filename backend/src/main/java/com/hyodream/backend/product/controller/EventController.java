@@ -2,35 +2,47 @@ package com.hyodream.backend.product.controller;
 
 import com.hyodream.backend.global.util.JwtUtil;
 import com.hyodream.backend.product.domain.EventType;
-import com.hyodream.backend.product.naver.service.NaverShoppingService; // 서비스 Import
-import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.product.dto.EventBatchResponseDto;
+import com.hyodream.backend.product.dto.EventRequestDto;
+import com.hyodream.backend.product.service.EventStreamPublisher;
+import com.hyodream.backend.product.service.ProductInterestKeywordCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Event API", description = "사용자 행동 기반 이벤트 수집 및 실시간 관심사 분석")
+@Slf4j
 @RestController
 @RequestMapping("/api/events")
 @RequiredArgsConstructor
 public class EventController {
 
+    // 일괄 수집 요청 1건당 최대 이벤트 수 (인증 없이 호출 가능한 API라 요청 크기를 제한)
+    private static final int MAX_BATCH_EVENTS = 500;
+
     private final StringRedisTemplate redisTemplate;
     private final JwtUtil jwtUtil;
-    private final ProductRepository productRepository;
-    // NaverShoppingService 내부에 static 메서드가 있으므로 주입이 필수는 아니지만,
-    // static import를 쓰거나 클래스명으로 바로 접근합니다.
+    private final ProductInterestKeywordCache interestKeywordCache;
+    private final EventStreamPublisher eventStreamPublisher;
 
     @Operation(summary = "상품 클릭/조회 이벤트 수집", description = """
             사용자가 상품을 조회하거나 장바구니에 담는 등의 행동을 수집합니다.
             수집된 데이터는 Redis Stream으로 전송되어 실시간 관심사 분석(Real-time Recommendation)에 사용됩니다.
             
             **[관심사 키워드 추출 로직 (우선순위)]**
+            - 키워드는 상품 등록/갱신 시점에 미리 계산되어 저장되며, 이벤트 수집 시에는 인메모리 맵에서 조회합니다. (DB 조회 없음)
             1. **매칭 성공 (정확도 최상):** 상품의 카테고리명에서 유추한 효능이 실제 상품의 `healthBenefits` 태그에 포함된 경우.
                - 예: 카테고리 '루테인' -> 유추 '눈 건강' -> 상품 태그에 '눈 건강' 있음 -> **'눈 건강'** 추출
             2. **태그 존재 시:** 매칭되는 게 없으면, 상품의 첫 번째 효능 태그를 사용.
@@ -40,6 +52,7 @@ public class EventController {
             **[Redis 저장 및 점수]**
             - 추출된 키워드는 Redis ZSet(`interest:user:{id}`)에 점수로 누적됩니다.
             - 이벤트 타입별 가중치: `CLICK(1.0)`, `LONG_VIEW(2.0)`, `CART(5.0)`, `ORDER(10.0)`
+            - **시간 감쇠:** 점수는 반감기(기본 12시간)에 따라 지수적으로 감소하므로, 어제의 장바구니 1건보다 오늘의 연속 클릭이 더 높게 반영될 수 있습니다.
             """)
     @PostMapping("/view")
     public void logProductView(
@@ -47,45 +60,70 @@ public class EventController {
             @Parameter(description = "이벤트 타입 (CLICK, CART, PURCHASE)") @RequestParam(defaultValue = "CLICK") EventType type,
             @Parameter(description = "비로그인 유저 세션 ID") @RequestHeader(value = "X-Session-Id", required = false) String sessionId,
             @Parameter(description = "로그인 유저 토큰") @RequestHeader(value = "Authorization", required = false) String token) {
-        String targetCategory = "기타"; // 기본값
-        var productOpt = productRepository.findById(productId);
-
-        if (productOpt.isPresent()) {
-            var p = productOpt.get();
-
-            // 0. 가장 구체적인 카테고리 확보
-            String categoryToAnalyze = null;
-            if (p.getCategory4() != null && !p.getCategory4().isEmpty())
-                categoryToAnalyze = p.getCategory4();
-            else if (p.getCategory3() != null && !p.getCategory3().isEmpty())
-                categoryToAnalyze = p.getCategory3();
-            else if (p.getCategory2() != null && !p.getCategory2().isEmpty())
-                categoryToAnalyze = p.getCategory2();
-            else if (p.getCategory1() != null && !p.getCategory1().isEmpty())
-                categoryToAnalyze = p.getCategory1();
-
-            // 1순위: 카테고리에서 유추한 효능이 실제 상품 효능 목록에 포함되어 있는지 확인 (가장 정확)
-            // BenefitUtils 대신 NaverShoppingService의 static 메서드 사용
-            String deducedBenefit = (categoryToAnalyze != null)
-                    ? NaverShoppingService.findPrimaryBenefit(categoryToAnalyze)
-                    : null;
-
-            if (deducedBenefit != null && p.getHealthBenefits() != null
-                    && p.getHealthBenefits().contains(deducedBenefit)) {
-                targetCategory = deducedBenefit;
-            }
-            // 2순위: 매칭 실패 시, 상품의 첫 번째 효능 사용
-            else if (p.getHealthBenefits() != null && !p.getHealthBenefits().isEmpty()) {
-                targetCategory = p.getHealthBenefits().get(0);
-            }
-            // 3순위 (단순 유추) 및 4순위 (카테고리명 그대로 사용) 로직
-            // 요청하신대로 3순위(deducedBenefit만으로 결정)는 제거하고,
-            // 효능을 찾지 못했다면 최후의 수단으로 카테고리 이름 자체를 사용
-            else if (categoryToAnalyze != null) {
-                targetCategory = categoryToAnalyze;
-            }
+        // 상품 등록 시점에 미리 계산된 관심 키워드 사용 (DB 조회 없음)
+        String targetCategory = interestKeywordCache.getKeyword(productId);
+
+        String userId = resolveUserId(sessionId, token);
+
+        // Redis Stream에 이벤트 발행
+        Map<String, String> fields = buildFields(userId, productId, targetCategory, type, System.currentTimeMillis());
+        redisTemplate.opsForStream().add(EventStreamPublisher.STREAM_KEY, fields);
+
+        log.debug("Event [{}] Published for: {}, Category: {}", type, userId, targetCategory);
+    }
+
+    @Operation(summary = "상품 이벤트 일괄 수집 (Fire-and-forget)", description = """
+            모바일 클라이언트가 모아둔 CLICK / LONG_VIEW 등의 이벤트를 **한 번의 요청**으로 전송합니다.
+
+            **[처리 방식]**
+            - 토큰 검증은 요청당 **1회**만 수행합니다.
+            - 이벤트는 서버 메모리의 고정 크기 버퍼에 적재된 뒤 **즉시 `202 Accepted`** 를 반환합니다.
+            - 백그라운드 발행 스레드가 버퍼를 비우며 Redis Stream(`product-view-stream`)에 **파이프라인 XADD** 로 일괄 발행합니다.
+
+            **[요청 크기]**
+            - 한 번에 최대 **500개**까지 전송할 수 있으며, 초과하면 `400 Bad Request`를 반환합니다.
+
+            **[Backpressure]**
+            - Redis 지연 등으로 버퍼가 가득 차면 초과 이벤트는 버려지며, 응답의 `dropped` 값으로 알려줍니다.
+            - `dropped > 0` 인 경우 `Retry-After` 헤더가 함께 내려가므로 잠시 후 재전송하세요.
+            """)
+    @PostMapping("/view/batch")
+    public ResponseEntity<EventBatchResponseDto> logProductViews(
+            @RequestBody List<EventRequestDto> events,
+            @Parameter(description = "비로그인 유저 세션 ID") @RequestHeader(value = "X-Session-Id", required = false) String sessionId,
+            @Parameter(description = "로그인 유저 토큰") @RequestHeader(value = "Authorization", required = false) String token) {
+        if (events.size() > MAX_BATCH_EVENTS) {
+            throw new RuntimeException("이벤트는 한 번에 최대 " + MAX_BATCH_EVENTS + "개까지 전송할 수 있습니다.");
         }
+        String userId = resolveUserId(sessionId, token);
+        long now = System.currentTimeMillis();
 
+        // 요청 내 상품들의 관심 키워드 일괄 조회 (맵에 없는 상품만 IN 쿼리 1회)
+        Map<Long, String> categories = interestKeywordCache.getKeywords(
+                events.stream().map(EventRequestDto::getProductId).toList());
+
+        List<Map<String, String>> records = new ArrayList<>(events.size());
+        for (EventRequestDto event : events) {
+            if (event.getProductId() == null)
+                continue;
+            EventType type = (event.getType() != null) ? event.getType() : EventType.CLICK;
+            long timestamp = (event.getTimestamp() != null) ? event.getTimestamp() : now;
+            String category = categories.getOrDefault(event.getProductId(), ProductInterestKeywordCache.DEFAULT_KEYWORD);
+            records.add(buildFields(userId, event.getProductId(), category, type, timestamp));
+        }
+
+        int accepted = eventStreamPublisher.offerAll(records);
+        int dropped = records.size() - accepted;
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.ACCEPTED);
+        if (dropped > 0) {
+            response.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+        return response.body(new EventBatchResponseDto(accepted, dropped));
+    }
+
+    // 식별자 결정: 유효한 토큰이면 username, 아니면 세션ID
+    private String resolveUserId(String sessionId, String token) {
         String userId = sessionId;
 
         if (token != null && token.startsWith("Bearer ")) {
@@ -97,17 +135,16 @@ public class EventController {
 
         if (userId == null)
             userId = "unknown";
+        return userId;
+    }
 
-        // Redis Stream에 이벤트 발행
+    private Map<String, String> buildFields(String userId, Long productId, String category, EventType type, long timestamp) {
         Map<String, String> fields = new HashMap<>();
         fields.put("userId", userId);
         fields.put("productId", productId.toString());
-        fields.put("category", targetCategory);
+        fields.put("category", category);
         fields.put("type", type.name());
-        fields.put("timestamp", String.valueOf(System.currentTimeMillis()));
-
-        redisTemplate.opsForStream().add("product-view-stream", fields);
-
-        System.out.println("Event [" + type + "] Published for: " + userId + ", Category: " + targetCategory);
+        fields.put("timestamp", String.valueOf(timestamp));
+        return fields;
     }
-}
\ No newline at end of file
+}
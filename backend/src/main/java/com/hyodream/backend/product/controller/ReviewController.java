@@ -1,5 +1,7 @@
 package com.hyodream.backend.product.controller;
 
+import com.hyodream.backend.global.dto.CursorPageResponseDto;
+import com.hyodream.backend.product.domain.ReviewSource;
 import com.hyodream.backend.product.dto.ReviewRequestDto;
 import com.hyodream.backend.product.dto.ReviewResponseDto;
 import com.hyodream.backend.product.service.ReviewService;
@@ -7,6 +9,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -53,6 +56,48 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.getReviewsByProductId(productId));
     }
 
+    @Operation(summary = "상품별 리뷰 페이지 조회", description = """
+            특정 상품의 리뷰를 최신순으로 **페이지 단위** 조회합니다. (총 개수/총 페이지 포함)
+            
+            **[필터]**
+            - `score`: 해당 평점(1~5)의 리뷰만 조회
+            - `source`: `HYODREAM`(내부) / `NAVER`(외부) 리뷰만 조회
+            
+            **[성능]**
+            - 리뷰 엔티티 대신 필요한 컬럼만 조회(Projection)하고, 페이지의 첨부 이미지는 쿼리 1회로 일괄 조회합니다.
+            - 리뷰가 많은 상품의 깊은 페이지는 `/cursor` API 사용을 권장합니다.
+            """)
+    @GetMapping("/products/{productId}/page")
+    public ResponseEntity<PagedModel<ReviewResponseDto>> getProductReviewPage(
+            @Parameter(description = "상품 ID") @PathVariable Long productId,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "평점 필터 (1~5)") @RequestParam(required = false) Integer score,
+            @Parameter(description = "출처 필터 (HYODREAM, NAVER)") @RequestParam(required = false) ReviewSource source) {
+        return ResponseEntity.ok(new PagedModel<>(reviewService.getReviewPage(productId, page, size, score, source)));
+    }
+
+    @Operation(summary = "상품별 리뷰 커서 조회 (무한 스크롤)", description = """
+            특정 상품의 리뷰를 최신순으로 **커서(Keyset) 방식**으로 조회합니다.
+            
+            **[사용법]**
+            - 첫 요청은 `cursor` 없이 호출합니다.
+            - 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달합니다. (`hasNext`가 false면 마지막 페이지)
+            
+            **[성능]**
+            - OFFSET 없이 `(product_id, created_at)` 인덱스를 따라 이어서 읽으므로, 수천 건 뒤의 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+            - 필터(`score`, `source`)는 페이지 조회 API와 동일합니다.
+            """)
+    @GetMapping("/products/{productId}/cursor")
+    public ResponseEntity<CursorPageResponseDto<ReviewResponseDto>> getProductReviewSlice(
+            @Parameter(description = "상품 ID") @PathVariable Long productId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "평점 필터 (1~5)") @RequestParam(required = false) Integer score,
+            @Parameter(description = "출처 필터 (HYODREAM, NAVER)") @RequestParam(required = false) ReviewSource source) {
+        return ResponseEntity.ok(reviewService.getReviewSlice(productId, cursor, size, score, source));
+    }
+
     @Operation(summary = "내가 쓴 리뷰 조회", description = "현재 로그인한 사용자가 작성한 모든 리뷰를 조회합니다.")
     @GetMapping("/my")
     public ResponseEntity<List<ReviewResponseDto>> getMyReviews() {
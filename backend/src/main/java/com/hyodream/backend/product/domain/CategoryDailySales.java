@@ -0,0 +1,45 @@
+package com.hyodream.backend.product.domain;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * [판매량 Rollup] 대분류(category1)별 일자별 판매 수량/금액
+ * - ProductSalesCounter가 상품 Rollup과 같은 배치에서 UPSERT
+ * - 카테고리가 없는 상품은 "기타"로 집계
+ */
+@Entity
+@Getter
+@Setter
+@IdClass(CategoryDailySales.Key.class)
+@Table(name = "category_daily_sales")
+public class CategoryDailySales {
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Id
+    @Column(length = 100)
+    private String category;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false)
+    private long revenue;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private String category;
+    }
+}
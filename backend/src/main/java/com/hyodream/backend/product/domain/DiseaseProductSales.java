@@ -0,0 +1,43 @@
+package com.hyodream.backend.product.domain;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * [랭킹 Rollup] 지병별 상품 구매 횟수 (해당 지병을 가진 유저의 주문 상품 수)
+ * - 주문 시점 유저의 지병 기준으로 +1, 취소 시 -1
+ * - "같은 지병 환우들의 선택" 조회가 orders/order_items/user_diseases 조인 대신 이 테이블만 읽음
+ */
+@Entity
+@Getter
+@Setter
+@IdClass(DiseaseProductSales.Key.class)
+@Table(name = "disease_product_sales", indexes = {
+        @Index(name = "idx_disease_sales_rank", columnList = "disease_name, order_count")
+})
+public class DiseaseProductSales {
+
+    @Id
+    @Column(name = "disease_name", length = 100)
+    private String diseaseName;
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "order_count", nullable = false)
+    private int orderCount;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String diseaseName;
+        private Long productId;
+    }
+}
@@ -4,6 +4,7 @@ import com.hyodream.backend.global.domain.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -45,6 +46,9 @@ public class Product extends BaseTimeEntity {
     private String category3;
     private String category4;
 
+    // 이벤트 수집용 대표 관심 키워드 (상품 등록/갱신 시점에 미리 계산)
+    private String interestKeyword;
+
     private String volume;
     private String sizeInfo;
 
@@ -56,6 +60,9 @@ public class Product extends BaseTimeEntity {
     private long reviewCount = 0;
     private double averageRating = 0.0;
 
+    // 마지막 외부 리뷰 수집 시각 (ReviewIngestionService 스케줄링 기준)
+    private LocalDateTime reviewCrawledAt;
+
     // AI 분석 정보 (1:1 매핑)
     @OneToOne(mappedBy = "product", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private ReviewAnalysis analysis;
@@ -78,4 +85,17 @@ public class Product extends BaseTimeEntity {
     public void addAllergen(String allergen) {
         this.allergens.add(allergen);
     }
+
+    // 가장 구체적인 카테고리 (category4 -> category1 순)
+    public String getLeafCategory() {
+        if (category4 != null && !category4.isEmpty())
+            return category4;
+        if (category3 != null && !category3.isEmpty())
+            return category3;
+        if (category2 != null && !category2.isEmpty())
+            return category2;
+        if (category1 != null && !category1.isEmpty())
+            return category1;
+        return null;
+    }
 }
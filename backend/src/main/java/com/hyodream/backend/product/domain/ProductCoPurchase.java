@@ -0,0 +1,43 @@
+package com.hyodream.backend.product.domain;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * [랭킹 Rollup] 함께 구매된 상품 쌍 (product_id를 산 주문에 other_product_id도 있던 횟수)
+ * - 주문 1건의 상품 쌍마다 양방향으로 +1, 취소 시 -1
+ * - "함께 많이 산 상품" 조회가 order_items 자기 조인 대신 이 테이블의 인덱스 범위만 읽음
+ */
+@Entity
+@Getter
+@Setter
+@IdClass(ProductCoPurchase.Key.class)
+@Table(name = "product_co_purchases", indexes = {
+        @Index(name = "idx_co_purchase_rank", columnList = "product_id, order_count")
+})
+public class ProductCoPurchase {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "other_product_id")
+    private Long otherProductId;
+
+    @Column(name = "order_count", nullable = false)
+    private int orderCount;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long productId;
+        private Long otherProductId;
+    }
+}
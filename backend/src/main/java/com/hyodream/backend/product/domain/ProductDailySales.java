@@ -0,0 +1,49 @@
+package com.hyodream.backend.product.domain;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * [판매량 Rollup] 상품별 일자별 판매 수량
+ * - 주문/취소 이벤트 처리 시 (판매 일자, 상품) 행에 수량을 누적 (ProductSalesCounter)
+ * - 최근 30일 판매량은 order_items 전체 이력 대신 이 테이블의 30일치 행만 집계
+ * - 취소는 원 주문 일자의 행에서 차감
+ */
+@Entity
+@Getter
+@Setter
+@IdClass(ProductDailySales.Key.class)
+@Table(name = "product_daily_sales", indexes = {
+        // 기간 집계: sales_date >= ? GROUP BY product_id (커버링 인덱스)
+        @Index(name = "idx_daily_sales_date", columnList = "sales_date, product_id, quantity, revenue")
+})
+public class ProductDailySales {
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false)
+    private long revenue; // 판매 금액 합계 (주문 당시 가격 기준)
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private Long productId;
+    }
+}
@@ -10,7 +10,10 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // 상품별 최신순 목록 / Keyset 페이지네이션용 (InnoDB 보조 인덱스에 PK(id)가 포함되어 id 정렬까지 커버)
+        @Index(name = "idx_review_product_created", columnList = "product_id, created_at")
+})
 public class Review {
 
     @Id
@@ -48,6 +51,10 @@ public class Review {
     @Enumerated(EnumType.STRING)
     private ReviewRating rating;
 
+    // AI 감성 분류 결과 (null이면 아직 분석되지 않은 리뷰 -> 증분 분석 대상)
+    @Enumerated(EnumType.STRING)
+    private ReviewSentiment sentiment;
+
     // 리뷰 첨부 이미지 URL 리스트
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "review_images", joinColumns = @JoinColumn(name = "review_id"))
@@ -63,13 +70,7 @@ public class Review {
         }
         // score가 있는데 rating이 없으면 자동 설정
         if (this.rating == null && this.score > 0) {
-            if (this.score >= 4) {
-                this.rating = ReviewRating.GOOD;
-            } else if (this.score == 3) {
-                this.rating = ReviewRating.AVERAGE;
-            } else {
-                this.rating = ReviewRating.BAD;
-            }
+            this.rating = ReviewRating.fromScore(this.score);
         }
     }
 }
@@ -54,6 +54,31 @@ public class ReviewAnalysis {
         this.status = AnalysisStatus.COMPLETED;
     }
     
+    // [증분 분석] 새로 분류된 리뷰 수를 기존 집계에 합산
+    public void mergeResult(int newPositive, int newNegative) {
+        int positive = this.positiveCount + newPositive;
+        int negative = this.negativeCount + newNegative;
+        int total = positive + negative;
+        updateResult(positive, negative, toPercent(positive, total), toPercent(negative, total), total);
+    }
+
+    // 분류된 리뷰가 삭제/수정되어 집계에서 빠질 때
+    public void removeSentiment(ReviewSentiment sentiment) {
+        if (sentiment == ReviewSentiment.POSITIVE) {
+            this.positiveCount = Math.max(0, this.positiveCount - 1);
+        } else if (sentiment == ReviewSentiment.NEGATIVE) {
+            this.negativeCount = Math.max(0, this.negativeCount - 1);
+        }
+        int total = this.positiveCount + this.negativeCount;
+        this.positiveRatio = toPercent(this.positiveCount, total);
+        this.negativeRatio = toPercent(this.negativeCount, total);
+        this.analyzedReviewCount = total;
+    }
+
+    private static double toPercent(int count, int total) {
+        return total == 0 ? 0.0 : Math.round(count * 10000.0 / total) / 100.0;
+    }
+    
     public void setStatus(AnalysisStatus status) {
         this.status = status;
     }
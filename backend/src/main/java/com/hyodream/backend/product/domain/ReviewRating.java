@@ -11,4 +11,14 @@ public enum ReviewRating {
     BAD("별로예요");
 
     private final String description;
+
+    // 숫자 평점(1~5) -> 감성 평점 (4점 이상 GOOD, 3점 AVERAGE, 그 외 BAD)
+    public static ReviewRating fromScore(int score) {
+        if (score >= 4) {
+            return GOOD;
+        } else if (score == 3) {
+            return AVERAGE;
+        }
+        return BAD;
+    }
 }
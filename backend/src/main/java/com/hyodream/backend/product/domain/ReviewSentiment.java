@@ -0,0 +1,6 @@
+package com.hyodream.backend.product.domain;
+
+public enum ReviewSentiment {
+    POSITIVE,   // AI 긍정 분류
+    NEGATIVE    // AI 부정 분류
+}
@@ -0,0 +1,18 @@
+package com.hyodream.backend.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// AI 서버에 한 번만 올려두는 추천 후보 상품 목록 (버전 = 내용 해시)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiCandidateSnapshotDto {
+
+    private String version;
+
+    private List<AiRecommendationRequestDto.CandidateProductDto> candidates;
+}
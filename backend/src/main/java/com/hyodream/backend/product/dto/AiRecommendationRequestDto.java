@@ -1,5 +1,6 @@
 package com.hyodream.backend.product.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,6 +12,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class AiRecommendationRequestDto {
 
     @JsonProperty("diseases")
@@ -22,6 +24,10 @@ public class AiRecommendationRequestDto {
     @JsonProperty("goals")
     private List<String> healthGoalNames;
 
+    // 후보 상품 스냅샷 버전 (지정하면 candidates 없이 전송 -> AI 서버에 저장된 후보 목록 사용)
+    @JsonProperty("snapshot_version")
+    private String snapshotVersion;
+
     @JsonProperty("candidates")
     private List<CandidateProductDto> candidates;
 
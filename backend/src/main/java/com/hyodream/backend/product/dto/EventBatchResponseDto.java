@@ -0,0 +1,16 @@
+package com.hyodream.backend.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EventBatchResponseDto {
+
+    @Schema(description = "버퍼에 적재된 이벤트 수", example = "20")
+    private int accepted;
+
+    @Schema(description = "버퍼 포화로 버려진 이벤트 수 (0보다 크면 잠시 후 재전송 권장)", example = "0")
+    private int dropped;
+}
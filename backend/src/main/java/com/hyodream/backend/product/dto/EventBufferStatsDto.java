@@ -0,0 +1,32 @@
+package com.hyodream.backend.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "이벤트 버퍼 상태 (Redis 발행 지연/유실 모니터링용)")
+public class EventBufferStatsDto {
+
+    @Schema(description = "버퍼 최대 크기", example = "10000")
+    private int capacity;
+
+    @Schema(description = "현재 버퍼에 대기 중인 이벤트 수 (Backpressure 지표)", example = "42")
+    private int queued;
+
+    @Schema(description = "누적 적재 이벤트 수", example = "150000")
+    private long accepted;
+
+    @Schema(description = "버퍼 포화로 버려진 누적 이벤트 수", example = "0")
+    private long dropped;
+
+    @Schema(description = "Redis Stream에 발행 완료된 누적 이벤트 수", example = "149958")
+    private long published;
+
+    @Schema(description = "Redis 발행 실패로 유실된 누적 이벤트 수", example = "0")
+    private long failed;
+
+    @Schema(description = "마지막 파이프라인 발행 소요 시간 (ms)", example = "3")
+    private long lastFlushMillis;
+}
@@ -0,0 +1,20 @@
+package com.hyodream.backend.product.dto;
+
+import com.hyodream.backend.product.domain.EventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EventRequestDto {
+
+    @Schema(description = "상품 ID", example = "10")
+    private Long productId;
+
+    @Schema(description = "이벤트 타입 (CLICK, LONG_VIEW, CART, ORDER) - 생략 시 CLICK", example = "CLICK")
+    private EventType type;
+
+    @Schema(description = "이벤트 발생 시각 (epoch millis) - 생략 시 서버 수신 시각", example = "1765345800000")
+    private Long timestamp;
+}
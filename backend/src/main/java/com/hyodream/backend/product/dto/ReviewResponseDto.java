@@ -1,15 +1,19 @@
 package com.hyodream.backend.product.dto;
 
 import com.hyodream.backend.product.domain.Review;
+import com.hyodream.backend.product.domain.ReviewRating;
 import com.hyodream.backend.product.domain.ReviewSource;
 import lombok.Getter;
+import lombok.Setter;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 public class ReviewResponseDto {
     private Long id;
     private Long productId;
+    @Setter
     private String productName;
     private Long userId; // null일 수 있음 (외부 리뷰)
     
@@ -22,6 +26,7 @@ public class ReviewResponseDto {
     private String rating; // "좋아요" (한글)
     private String ratingCode; // "GOOD" (코드)
     
+    @Setter
     private List<String> images; // 첨부 이미지
     
     private LocalDateTime createdAt;
@@ -51,4 +56,28 @@ public class ReviewResponseDto {
         this.images = review.getImages();
         this.createdAt = review.getCreatedAt();
     }
+
+    // [Projection] JPQL 생성자 조회용 (엔티티/이미지 컬렉션을 로딩하지 않음, 이미지는 페이지 단위로 따로 채움)
+    public ReviewResponseDto(Long id, Long productId, Long userId, String authorName, ReviewSource source,
+            String productOption, String content, int score, ReviewRating rating, LocalDateTime createdAt) {
+        this.id = id;
+        this.productId = productId;
+        this.userId = userId;
+        this.authorName = authorName;
+        this.source = source;
+        this.productOption = productOption;
+        this.content = content;
+        this.score = score;
+
+        if (rating != null) {
+            this.rating = rating.getDescription();
+            this.ratingCode = rating.name();
+        } else {
+            this.rating = "평가 없음";
+            this.ratingCode = "NONE";
+        }
+
+        this.images = new ArrayList<>();
+        this.createdAt = createdAt;
+    }
 }
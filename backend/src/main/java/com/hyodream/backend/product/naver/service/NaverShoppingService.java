@@ -6,7 +6,12 @@ import com.hyodream.backend.product.domain.ProductStatus;
 import com.hyodream.backend.product.naver.dto.NaverShopItemDto;
 import com.hyodream.backend.product.naver.dto.NaverShopSearchResponse;
 import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.product.service.ProductInterestKeywordCache;
+import com.hyodream.backend.product.service.ProductLookupService;
 import com.hyodream.backend.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,6 +35,9 @@ public class NaverShoppingService {
 
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final ProductInterestKeywordCache interestKeywordCache;
+    private final ProductLookupService productLookupService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${naver.client-id}")
     private String clientId;
@@ -37,6 +45,10 @@ public class NaverShoppingService {
     @Value("${naver.client-secret}")
     private String clientSecret;
 
+    // 네이버 검색 API 주소 (부하 테스트 시 로컬 Stub 서버로 교체)
+    @Value("${naver.api-url:https://openapi.naver.com}")
+    private String apiUrl;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // ==========================================
@@ -103,6 +115,28 @@ public class NaverShoppingService {
         }
         return null;
     }
+
+    /**
+     * [이벤트 수집용 관심 키워드 계산]
+     * 상품 저장 시점에 한 번만 계산하여 Product.interestKeyword에 저장 (클릭마다 문자열 스캔 방지)
+     * 1순위: 카테고리에서 유추한 효능이 실제 상품 효능 목록에 포함된 경우
+     * 2순위: 상품의 첫 번째 효능 태그
+     * 3순위: 가장 구체적인 카테고리명 (카테고리도 없으면 "기타")
+     */
+    public static String resolveInterestKeyword(Product product) {
+        String categoryToAnalyze = product.getLeafCategory();
+        List<String> benefits = product.getHealthBenefits();
+
+        String deducedBenefit = (categoryToAnalyze != null) ? findPrimaryBenefit(categoryToAnalyze) : null;
+
+        if (deducedBenefit != null && benefits != null && benefits.contains(deducedBenefit)) {
+            return deducedBenefit;
+        }
+        if (benefits != null && !benefits.isEmpty()) {
+            return benefits.get(0);
+        }
+        return (categoryToAnalyze != null) ? categoryToAnalyze : "기타";
+    }
     // ==========================================
     // [통합] BenefitUtils 로직 끝
     // ==========================================
@@ -131,6 +165,8 @@ public class NaverShoppingService {
         ALLERGEN_KEYWORDS.put("sulfite", List.of("아황산", "sulfite", "와인", "건조과일"));
     }
 
+    // Import 전체 소요 시간 (naver.import, 예외 시 exception 태그)
+    @Timed(value = "naver.import", description = "Naver search import (API call + upsert)")
     @Transactional
     public List<Product> importNaverProducts(String query) throws Exception {
         Set<String> myAllergies = new HashSet<>();
@@ -146,7 +182,7 @@ public class NaverShoppingService {
         }
 
         String encodedQuery = URLEncoder.encode(query, StandardCharsets.UTF_8);
-        String url = "https://openapi.naver.com/v1/search/shop.json?query=" + encodedQuery + "&display=20";
+        String url = apiUrl + "/v1/search/shop.json?query=" + encodedQuery + "&display=20";
 
         log.info("Requesting Naver Shop API: {}", url);
 
@@ -158,7 +194,15 @@ public class NaverShoppingService {
                 .build();
 
         HttpClient client = HttpClient.newHttpClient();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Timer.Sample apiSample = Timer.start(meterRegistry);
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            apiSample.stop(naverApiTimer("IO_ERROR"));
+            throw e;
+        }
+        apiSample.stop(naverApiTimer(String.valueOf(response.statusCode())));
 
         if (response.statusCode() != 200) {
             throw new RuntimeException("Naver API error: " + response.body());
@@ -221,12 +265,26 @@ public class NaverShoppingService {
 
             product.setAllergens(detectedAllergens);
             product.setHealthBenefits(detectedBenefits);
+            product.setInterestKeyword(resolveInterestKeyword(product));
 
             savedProducts.add(productRepository.save(product));
         }
+
+        meterRegistry.counter("naver.import.products").increment(savedProducts.size());
+
+        // 이벤트 수집용 키워드 맵은 커밋 이후에 갱신 (롤백 시 잘못된 ID가 남지 않도록)
+        interestKeywordCache.putAllAfterCommit(savedProducts);
+        // 이름/가격이 갱신되었을 수 있으므로 커밋 이후 조회 캐시에서 제거
+        productLookupService.evictAfterCommit(savedProducts.stream().map(Product::getId).toList());
         return savedProducts;
     }
 
+    private Timer naverApiTimer(String status) {
+        return Timer.builder("naver.api.requests")
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+
     // DTO 기반 Benefit 추출 (내부용)
     private List<String> extractBenefitsInternal(NaverShopItemDto item) {
         StringBuilder sb = new StringBuilder();
@@ -239,7 +297,8 @@ public class NaverShoppingService {
         return extractBenefits(sb.toString());
     }
 
-    private List<String> extractAllergens(NaverShopItemDto item) {
+    // DTO 기반 알러지 추출 (상품명/브랜드/제조사/대분류 기준)
+    public static List<String> extractAllergens(NaverShopItemDto item) {
         Set<String> detected = new HashSet<>();
         StringBuilder sb = new StringBuilder();
         if (item.getTitle() != null)
@@ -267,7 +326,7 @@ public class NaverShoppingService {
         return new ArrayList<>(detected);
     }
 
-    private String mapKeyToKoreanName(String key) {
+    private static String mapKeyToKoreanName(String key) {
         switch (key) {
             case "egg":
                 return "난류(달걀)";
@@ -312,7 +371,7 @@ public class NaverShoppingService {
         }
     }
 
-    private String stripHtml(String html) {
+    private static String stripHtml(String html) {
         if (html == null)
             return "";
         return html.replaceAll("<[^>]*>", "");
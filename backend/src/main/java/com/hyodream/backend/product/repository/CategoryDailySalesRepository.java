@@ -0,0 +1,33 @@
+package com.hyodream.backend.product.repository;
+
+import com.hyodream.backend.product.domain.CategoryDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CategoryDailySalesRepository extends JpaRepository<CategoryDailySales, CategoryDailySales.Key> {
+
+    // [Backfill] 주문 이력에서 [from, to) 기간의 대분류별 일자별 판매량을 계산해 적재 (취소 주문 제외, 이미 있는 행은 합산)
+    @Modifying
+    @Query(value = "INSERT INTO category_daily_sales (sales_date, category, quantity, revenue) " +
+            "SELECT DATE(o.order_date), COALESCE(NULLIF(p.category1, ''), '기타'), " +
+            "       SUM(oi.count), SUM(oi.count * oi.order_price) " +
+            "FROM order_items oi JOIN orders o ON o.id = oi.order_id " +
+            "JOIN products p ON p.id = oi.product_id " +
+            "WHERE o.order_date >= :from AND o.order_date < :to AND o.status = 'ORDER' " +
+            "GROUP BY DATE(o.order_date), COALESCE(NULLIF(p.category1, ''), '기타') " +
+            "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), revenue = revenue + VALUES(revenue)",
+            nativeQuery = true)
+    int rebuildBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // [Analytics] 기간 내 대분류별 판매량/매출 (row: [category, quantity, revenue])
+    @Query("SELECT s.category, SUM(s.quantity), SUM(s.revenue) FROM CategoryDailySales s " +
+            "WHERE s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.category ORDER BY SUM(s.quantity) DESC")
+    List<Object[]> sumByCategory(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,31 @@
+package com.hyodream.backend.product.repository;
+
+import com.hyodream.backend.product.domain.DiseaseProductSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DiseaseProductSalesRepository extends JpaRepository<DiseaseProductSales, DiseaseProductSales.Key> {
+
+    // [Backfill] to 이전 주문 이력에서 지병별 상품 구매 횟수 집계 (현재 유저 지병 기준, 취소 주문 제외, 이미 있는 행은 합산)
+    @Modifying
+    @Query(value = "INSERT INTO disease_product_sales (disease_name, product_id, order_count) " +
+            "SELECT d.name, oi.product_id, COUNT(oi.id) " +
+            "FROM order_items oi JOIN orders o ON o.id = oi.order_id " +
+            "JOIN user_diseases ud ON ud.user_id = o.user_id " +
+            "JOIN diseases d ON d.id = ud.disease_id " +
+            "WHERE o.order_date < :to AND o.status = 'ORDER' " +
+            "GROUP BY d.name, oi.product_id " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count)", nativeQuery = true)
+    int rebuildBefore(@Param("to") LocalDateTime to);
+
+    // 유저별 지병명 일괄 조회 (row: [userId, diseaseName])
+    @Query(value = "SELECT ud.user_id, d.name FROM user_diseases ud JOIN diseases d ON d.id = ud.disease_id " +
+            "WHERE ud.user_id IN :userIds", nativeQuery = true)
+    List<Object[]> findDiseaseNamesByUserIds(@Param("userIds") Collection<Long> userIds);
+}
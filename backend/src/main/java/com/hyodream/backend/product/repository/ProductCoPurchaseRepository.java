@@ -0,0 +1,23 @@
+package com.hyodream.backend.product.repository;
+
+import com.hyodream.backend.product.domain.ProductCoPurchase;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ProductCoPurchaseRepository extends JpaRepository<ProductCoPurchase, ProductCoPurchase.Key> {
+
+    // [Backfill] to 이전 주문 이력에서 함께 구매된 상품 쌍 집계 (취소 주문 제외, 이미 있는 행은 합산)
+    @Modifying
+    @Query(value = "INSERT INTO product_co_purchases (product_id, other_product_id, order_count) " +
+            "SELECT a.product_id, b.product_id, COUNT(*) " +
+            "FROM order_items a JOIN order_items b ON a.order_id = b.order_id AND a.product_id <> b.product_id " +
+            "JOIN orders o ON o.id = a.order_id " +
+            "WHERE o.order_date < :to AND o.status = 'ORDER' " +
+            "GROUP BY a.product_id, b.product_id " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count)", nativeQuery = true)
+    int rebuildBefore(@Param("to") LocalDateTime to);
+}
@@ -0,0 +1,39 @@
+package com.hyodream.backend.product.repository;
+
+import com.hyodream.backend.product.domain.ProductDailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductDailySalesRepository extends JpaRepository<ProductDailySales, ProductDailySales.Key> {
+
+    // [Backfill] 주문 이력에서 [from, to) 기간의 일자별 판매량을 계산해 적재 (취소 주문 제외, 이미 있는 행은 합산)
+    @Modifying
+    @Query(value = "INSERT INTO product_daily_sales (sales_date, product_id, quantity, revenue) " +
+            "SELECT DATE(o.order_date), oi.product_id, SUM(oi.count), SUM(oi.count * oi.order_price) " +
+            "FROM order_items oi JOIN orders o ON o.id = oi.order_id " +
+            "WHERE o.order_date >= :from AND o.order_date < :to AND o.status = 'ORDER' " +
+            "GROUP BY DATE(o.order_date), oi.product_id " +
+            "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), revenue = revenue + VALUES(revenue)",
+            nativeQuery = true)
+    int rebuildBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // [Analytics] 일자별 전체 판매량/매출 (row: [salesDate, quantity, revenue])
+    @Query("SELECT s.salesDate, SUM(s.quantity), SUM(s.revenue) FROM ProductDailySales s " +
+            "WHERE s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.salesDate ORDER BY s.salesDate")
+    List<Object[]> sumByDate(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // [Analytics] 기간 내 상품별 판매량 순위 (row: [productId, quantity, revenue])
+    @Query(value = "SELECT s.product_id, SUM(s.quantity) AS qty, SUM(s.revenue) AS rev " +
+            "FROM product_daily_sales s WHERE s.sales_date BETWEEN :from AND :to " +
+            "GROUP BY s.product_id HAVING qty > 0 " +
+            "ORDER BY qty DESC, s.product_id DESC LIMIT :limit", nativeQuery = true)
+    List<Object[]> findTopProducts(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                   @Param("limit") int limit);
+}
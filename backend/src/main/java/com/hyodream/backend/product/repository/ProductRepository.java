@@ -8,8 +8,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -21,6 +23,33 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     Optional<Product> findByNaverProductId(String naverProductId);
 
+    // [판매량 Rollup] 최근 판매량을 product_daily_sales의 since 이후 행으로 한 번에 갱신 (판매 없는 상품은 0)
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "UPDATE products p " +
+            "LEFT JOIN (SELECT product_id, SUM(quantity) AS qty FROM product_daily_sales " +
+            "           WHERE sales_date >= :since GROUP BY product_id) s ON s.product_id = p.id " +
+            "SET p.recent_sales = GREATEST(COALESCE(s.qty, 0), 0)", nativeQuery = true)
+    int refreshRecentSalesNative(@Param("since") LocalDate since);
+
+    // [Lookup] 상품 요약만 일괄 조회 (row: [id, name, price, imageUrl]) - EntityGraph/EAGER 컬렉션 로딩 없음
+    @Query("SELECT p.id, p.name, p.price, p.imageUrl FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // [판매량 Rollup] 상품 대분류만 일괄 조회 (row: [id, category1])
+    @Query("SELECT p.id, p.category1 FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findCategoriesByIds(@Param("ids") Collection<Long> ids);
+
+    // [Event] 관심 키워드 일괄 조회: [상품ID, 키워드] (EntityGraph/EAGER 컬렉션 로딩 없음, 맵에 없는 ID만 IN 쿼리 1회)
+    @Query("SELECT p.id, p.interestKeyword FROM Product p WHERE p.id IN :ids AND p.interestKeyword IS NOT NULL")
+    List<Object[]> findInterestKeywordsByIds(@Param("ids") Collection<Long> ids);
+
+    // [Event] 관심 키워드 맵 적재용: [상품ID, 키워드]
+    @Query("SELECT p.id, p.interestKeyword FROM Product p WHERE p.interestKeyword IS NOT NULL")
+    List<Object[]> findAllInterestKeywords();
+
+    // 관심 키워드가 아직 계산되지 않은 상품 (기존 데이터 보정용)
+    List<Product> findByInterestKeywordIsNull();
+
     // 업데이트된 지 오래된 상품 조회 (배치 처리용)
     List<Product> findByUpdatedAtBefore(LocalDateTime dateTime);
 
@@ -85,19 +114,13 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             Pageable pageable);
 
     // 연관 상품 추천 (함께 많이 산 상품 TOP 5, 취소된 주문 제외)
+    // product_co_purchases Rollup의 (product_id, order_count) 인덱스만 읽음 (order_items 자기 조인 X)
     @Query(value = """
-                SELECT p.* FROM products p
-                JOIN order_items oi_other ON p.id = oi_other.product_id
-                JOIN orders o ON oi_other.order_id = o.id
-                WHERE oi_other.order_id IN (
-                    SELECT oi_target.order_id
-                    FROM order_items oi_target
-                    WHERE oi_target.product_id = :targetProductId
-                )
-                AND p.id != :targetProductId
-                AND o.status = 'ORDER'
-                GROUP BY p.id
-                ORDER BY COUNT(p.id) DESC
+                SELECT p.* FROM product_co_purchases cp
+                JOIN products p ON p.id = cp.other_product_id
+                WHERE cp.product_id = :targetProductId
+                AND cp.order_count > 0
+                ORDER BY cp.order_count DESC, p.id DESC
                 LIMIT 5
             """, nativeQuery = true)
     List<Product> findFrequentlyBoughtTogether(@Param("targetProductId") Long targetProductId);
@@ -120,18 +143,13 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findSimilarProductsByBenefits(@Param("targetId") Long targetId);
 
     // [New] 특정 지병(diseaseName)을 가진 유저들이 많이 구매한 상품 TOP 3 (알레르기 필터링 추가)
+    // disease_product_sales Rollup만 읽음 (orders/order_items/user_diseases 조인 X)
     @Query(value = """
             SELECT p.* 
-            FROM products p
-            JOIN order_items oi ON p.id = oi.product_id
-            JOIN orders o ON oi.order_id = o.id
-            WHERE o.user_id IN (
-                -- 해당 지병을 가진 유저들의 ID 목록
-                SELECT ud.user_id 
-                FROM user_diseases ud
-                JOIN diseases d ON ud.disease_id = d.id
-                WHERE d.name = :diseaseName
-            )
+            FROM disease_product_sales ds
+            JOIN products p ON p.id = ds.product_id
+            WHERE ds.disease_name = :diseaseName
+            AND ds.order_count > 0
             AND (
                  :isLogin = false 
                  OR NOT EXISTS (
@@ -140,8 +158,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
                      AND pa.allergen IN :userAllergies
                  )
             )
-            GROUP BY p.id
-            ORDER BY COUNT(oi.id) DESC
+            ORDER BY ds.order_count DESC, p.id DESC
             LIMIT 3
             """, nativeQuery = true)
     List<Product> findTopSellingProductsByDiseaseWithAllergyCheck(
@@ -179,6 +196,11 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p LEFT JOIN FETCH p.analysis WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    // [Batch Analysis] 여러 상품을 한 번에 비관적 락으로 조회 (id 순서로 잠가 교착 방지)
+    @Lock(jakarta.persistence.LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.analysis WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdWithLock(@Param("ids") Collection<Long> ids);
+
     // [Concurrency Fix] JPA를 거치지 않고 DB 레벨에서 원자적으로 동기화 상태 선점 (Upsert)
     // 리턴값: 1 이상이면 내가 선점(Insert or Update 성공), 0이면 이미 진행 중(선점 실패)
     @org.springframework.data.jpa.repository.Modifying
@@ -190,4 +212,33 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     """, nativeQuery = true)
     int startSyncNative(@Param("productId") Long productId);
 
+    // [Review Ingestion] 리뷰 수집 대상 (스마트스토어 링크가 있고 오래 수집되지 않은 상품 순, row: [id, itemUrl])
+    @Query("SELECT p.id, p.itemUrl FROM Product p " +
+            "WHERE p.itemUrl LIKE '%smartstore.naver.com%' " +
+            "AND (p.reviewCrawledAt IS NULL OR p.reviewCrawledAt < :threshold) " +
+            "ORDER BY p.reviewCrawledAt ASC, p.id ASC")
+    List<Object[]> findReviewCrawlTargets(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    // [Review Ingestion] 리뷰 수/평균 평점을 DB에서 한 번에 재집계 + 수집 시각 기록
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = """
+        UPDATE products p
+        LEFT JOIN (
+            SELECT product_id, COUNT(*) AS cnt, ROUND(AVG(score), 1) AS avg_score
+            FROM reviews
+            WHERE product_id = :productId
+            GROUP BY product_id
+        ) s ON s.product_id = p.id
+        SET p.review_count = COALESCE(s.cnt, 0),
+            p.average_rating = COALESCE(s.avg_score, 0),
+            p.review_crawled_at = :crawledAt
+        WHERE p.id = :productId
+    """, nativeQuery = true)
+    int refreshReviewStatsNative(@Param("productId") Long productId, @Param("crawledAt") LocalDateTime crawledAt);
+
+    // [Review Ingestion] 크롤링 실패 시 수집 시각만 기록 (재시도 시점 조절용)
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(value = "UPDATE products SET review_crawled_at = :crawledAt WHERE id = :productId", nativeQuery = true)
+    int markReviewCrawledNative(@Param("productId") Long productId, @Param("crawledAt") LocalDateTime crawledAt);
+
 }
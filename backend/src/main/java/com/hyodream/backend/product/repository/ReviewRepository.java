@@ -1,7 +1,18 @@
 package com.hyodream.backend.product.repository;
 
 import com.hyodream.backend.product.domain.Review;
+import com.hyodream.backend.product.domain.ReviewSentiment;
+import com.hyodream.backend.product.domain.ReviewSource;
+import com.hyodream.backend.product.dto.ReviewResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -9,6 +20,58 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // 특정 상품의 리뷰 목록 조회
     List<Review> findByProductId(Long productId);
 
+    // [Incremental Analysis] 아직 감성 분류되지 않은 리뷰 본문만 조회 (row: [reviewId, productId, content])
+    @Query("SELECT r.id, r.productId, r.content FROM Review r " +
+            "WHERE r.productId IN :productIds AND r.sentiment IS NULL " +
+            "AND r.content IS NOT NULL AND r.content <> ''")
+    List<Object[]> findUnlabeledContentsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    // 상품별/감성별 분류된 리뷰 수 (row: [productId, sentiment, count]) - 집계 정합성 검증용
+    @Query("SELECT r.productId, r.sentiment, COUNT(r) FROM Review r " +
+            "WHERE r.productId IN :productIds AND r.sentiment IS NOT NULL " +
+            "GROUP BY r.productId, r.sentiment")
+    List<Object[]> countSentimentsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    // 분류 결과 일괄 저장 (감성별 UPDATE 1회)
+    @Modifying
+    @Query("UPDATE Review r SET r.sentiment = :sentiment WHERE r.id IN :ids")
+    int updateSentiment(@Param("ids") Collection<Long> ids, @Param("sentiment") ReviewSentiment sentiment);
+
+    // [Projection] 상품별 리뷰 페이지 조회 (최신순, 점수/출처 필터는 null이면 미적용)
+    @Query(value = "SELECT new com.hyodream.backend.product.dto.ReviewResponseDto(" +
+            "r.id, r.productId, r.userId, r.authorName, r.source, r.productOption, r.content, r.score, r.rating, r.createdAt) " +
+            "FROM Review r WHERE r.productId = :productId " +
+            "AND (:score IS NULL OR r.score = :score) " +
+            "AND (:source IS NULL OR r.source = :source) " +
+            "ORDER BY r.createdAt DESC, r.id DESC",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.productId = :productId " +
+                    "AND (:score IS NULL OR r.score = :score) " +
+                    "AND (:source IS NULL OR r.source = :source)")
+    Page<ReviewResponseDto> findPageByProductId(@Param("productId") Long productId,
+                                                @Param("score") Integer score,
+                                                @Param("source") ReviewSource source,
+                                                Pageable pageable);
+
+    // [Keyset] 커서(마지막 행의 createdAt, id) 이후 리뷰 조회 - idx_review_product_created 인덱스 범위 탐색
+    @Query("SELECT new com.hyodream.backend.product.dto.ReviewResponseDto(" +
+            "r.id, r.productId, r.userId, r.authorName, r.source, r.productOption, r.content, r.score, r.rating, r.createdAt) " +
+            "FROM Review r WHERE r.productId = :productId " +
+            "AND (:score IS NULL OR r.score = :score) " +
+            "AND (:source IS NULL OR r.source = :source) " +
+            "AND (:cursorCreatedAt IS NULL OR r.createdAt < :cursorCreatedAt " +
+            "     OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewResponseDto> findSliceByProductId(@Param("productId") Long productId,
+                                                 @Param("score") Integer score,
+                                                 @Param("source") ReviewSource source,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    // 페이지에 포함된 리뷰들의 이미지를 한 번에 조회 (row: [reviewId, imageUrl]) - 리뷰마다 지연 로딩(N+1) 방지
+    @Query("SELECT r.id, i FROM Review r JOIN r.images i WHERE r.id IN :reviewIds")
+    List<Object[]> findImagesByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+
     // 내가 쓴 리뷰 목록 조회 (마이페이지용)
     List<Review> findByUserId(Long userId);
 
@@ -17,4 +80,12 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     // 중복 수집 방지용 (외부 리뷰)
     boolean existsByExternalReviewId(String externalReviewId);
+
+    // [Review Ingestion] 이미 저장된 외부 리뷰 ID만 한 번에 조회 (IN 1회)
+    @Query("SELECT r.externalReviewId FROM Review r WHERE r.externalReviewId IN :externalIds")
+    List<String> findExistingExternalReviewIds(@Param("externalIds") Collection<String> externalIds);
+
+    // [Review Ingestion] 저장된 외부 리뷰의 PK 조회 (이미지 일괄 저장용, row: [id, externalReviewId])
+    @Query("SELECT r.id, r.externalReviewId FROM Review r WHERE r.externalReviewId IN :externalIds")
+    List<Object[]> findIdsByExternalReviewIds(@Param("externalIds") Collection<String> externalIds);
 }
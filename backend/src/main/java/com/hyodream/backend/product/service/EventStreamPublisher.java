@@ -0,0 +1,162 @@
+package com.hyodream.backend.product.service;
+
+import com.hyodream.backend.product.dto.EventBufferStatsDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [Fire-and-forget] 이벤트 버퍼 + Redis Stream 일괄 발행기
+ * - 요청 스레드는 고정 크기 버퍼(Ring)에 적재만 하고 즉시 반환
+ * - 전용 발행 스레드가 버퍼를 비우며 XADD를 파이프라인으로 묶어 전송 (왕복 횟수 최소화)
+ * - 버퍼가 가득 차면 새 이벤트는 버리고 카운트 (Redis가 느려도 API 스레드는 막히지 않음)
+ */
+@Slf4j
+@Component
+public class EventStreamPublisher {
+
+    public static final String STREAM_KEY = "product-view-stream";
+
+    private final StringRedisTemplate redisTemplate;
+    private final BlockingQueue<Map<String, String>> buffer;
+    private final int capacity;
+    private final int flushBatchSize;
+
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private volatile long lastFlushMillis = 0;
+
+    private volatile boolean running = true;
+    private Thread flushThread;
+
+    public EventStreamPublisher(StringRedisTemplate redisTemplate,
+            @Value("${event.buffer.capacity:10000}") int capacity,
+            @Value("${event.buffer.flush-batch-size:500}") int flushBatchSize) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = capacity;
+        this.flushBatchSize = flushBatchSize;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        flushThread = new Thread(this::flushLoop, "event-stream-publisher");
+        flushThread.setDaemon(true);
+        flushThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flushThread.interrupt();
+        flushThread.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 직전 남은 이벤트 발행 시도
+        drainAndPublish();
+    }
+
+    /**
+     * 이벤트 적재 (Non-blocking)
+     * @return 실제로 적재된 개수 (나머지는 버퍼 포화로 버려짐)
+     */
+    public int offerAll(List<Map<String, String>> events) {
+        int accepted = 0;
+        for (Map<String, String> event : events) {
+            if (buffer.offer(event)) {
+                accepted++;
+            }
+        }
+        acceptedCount.addAndGet(accepted);
+        droppedCount.addAndGet(events.size() - accepted);
+        return accepted;
+    }
+
+    /**
+     * 즉시 발행 (Blocking) - 호출 측이 발행 완료를 기다려야 하는 경우 (SyntheticDataGenerator)
+     * - 버퍼를 거치지 않고 파이프라인 XADD 1회, 실패 시 예외를 던져 호출 측이 재시도
+     */
+    public void publishNow(List<Map<String, String>> events) {
+        if (events.isEmpty())
+            return;
+        xAddPipelined(events);
+        publishedCount.addAndGet(events.size());
+    }
+
+    public EventBufferStatsDto getStats() {
+        return new EventBufferStatsDto(
+                capacity,
+                buffer.size(),
+                acceptedCount.get(),
+                droppedCount.get(),
+                publishedCount.get(),
+                failedCount.get(),
+                lastFlushMillis);
+    }
+
+    private void flushLoop() {
+        while (running) {
+            try {
+                // 첫 이벤트가 올 때까지 대기 후 쌓인 만큼 한 번에 발행
+                Map<String, String> first = buffer.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+
+                List<Map<String, String>> batch = new ArrayList<>(flushBatchSize);
+                batch.add(first);
+                buffer.drainTo(batch, flushBatchSize - 1);
+                publish(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("⚠️ Event flush loop error: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void drainAndPublish() {
+        List<Map<String, String>> batch = new ArrayList<>(flushBatchSize);
+        while (buffer.drainTo(batch, flushBatchSize) > 0) {
+            publish(batch);
+            batch = new ArrayList<>(flushBatchSize);
+        }
+    }
+
+    // XADD 파이프라이닝: N개의 이벤트를 한 번의 왕복으로 전송
+    private void publish(List<Map<String, String>> batch) {
+        long start = System.currentTimeMillis();
+        try {
+            xAddPipelined(batch);
+            publishedCount.addAndGet(batch.size());
+        } catch (Exception e) {
+            failedCount.addAndGet(batch.size());
+            log.error("⚠️ Failed to publish {} events to Redis Stream: {}", batch.size(), e.getMessage());
+        } finally {
+            lastFlushMillis = System.currentTimeMillis() - start;
+        }
+    }
+
+    private void xAddPipelined(List<Map<String, String>> batch) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Map<String, String> fields : batch) {
+                stringConnection.xAdd(STREAM_KEY, fields);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package com.hyodream.backend.product.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * [실시간 관심사] 시간 감쇠(Exponential Decay) 점수 엔진
+ *
+ * 점수 모델: 관심도 = Σ weight * exp(-λ * (now - eventTime))
+ * - ZSET에는 로그 공간 값 ln(weight) + λ * (eventTime - epoch) 를 저장
+ * - 같은 키의 모든 멤버가 동일한 epoch 기준이므로 "지금 시점의 감쇠 관심도" 순서와 ZSET 순서가 같음
+ *   -> 오래된 항목을 재계산하지 않아도 reverseRange(key, 0, 0)이 그대로 최신 관심사를 반환 (O(log n))
+ * - 같은 멤버에 점수 누적은 log-sum-exp로 Lua 스크립트 안에서 원자적으로 처리
+ * - 로그 값은 시간이 지날수록 커지므로 주기적으로 epoch를 현재로 당기고(Rebase) 미미한 항목을 정리
+ */
+@Slf4j
+@Component
+public class InterestScoreEngine {
+
+    public static final String INTEREST_KEY_PREFIX = "interest:user:";
+    public static final String EPOCH_KEY_PREFIX = "interest:epoch:";
+
+    // KEYS[1]=관심사 ZSET, KEYS[2]=epoch(초)
+    // ARGV[1]=member, ARGV[2]=ln(weight), ARGV[3]=이벤트 시각(초), ARGV[4]=λ(1/초), ARGV[5]=현재 시각(초), ARGV[6]=TTL(초)
+    private static final String RECORD_SCRIPT = """
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                -- epoch가 없는 키는 선형 누적 방식의 이전 데이터이므로 초기화
+                redis.call('DEL', KEYS[1])
+                epoch = tonumber(ARGV[5])
+                redis.call('SET', KEYS[2], ARGV[5])
+            end
+            local s = tonumber(ARGV[2]) + tonumber(ARGV[4]) * (tonumber(ARGV[3]) - epoch)
+            local cur = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if cur then
+                cur = tonumber(cur)
+                local hi = math.max(cur, s)
+                local lo = math.min(cur, s)
+                s = hi + math.log(1 + math.exp(lo - hi))
+            end
+            redis.call('ZADD', KEYS[1], s, ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[6])
+            redis.call('EXPIRE', KEYS[2], ARGV[6])
+            return 1
+            """;
+
+    // KEYS[1]=관심사 ZSET, KEYS[2]=epoch(초)
+    // ARGV[1]=현재 시각(초), ARGV[2]=λ(1/초), ARGV[3]=정리 기준 ln(minScore)
+    private static final String REBASE_SCRIPT = """
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then return 0 end
+            local now = tonumber(ARGV[1])
+            local shift = tonumber(ARGV[2]) * (now - epoch)
+            local floor = tonumber(ARGV[3])
+            local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+            for i = 1, #entries, 2 do
+                local v = tonumber(entries[i + 1]) - shift
+                if v < floor then
+                    redis.call('ZREM', KEYS[1], entries[i])
+                else
+                    redis.call('ZADD', KEYS[1], v, entries[i])
+                end
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('DEL', KEYS[2])
+            else
+                redis.call('SET', KEYS[2], ARGV[1], 'KEEPTTL')
+            end
+            return #entries / 2
+            """;
+
+    private final StringRedisTemplate redisTemplate;
+    private final DefaultRedisScript<Long> recordScript = new DefaultRedisScript<>(RECORD_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> rebaseScript = new DefaultRedisScript<>(REBASE_SCRIPT, Long.class);
+
+    private final double lambdaPerSecond;
+    private final long rebaseAfterSeconds;
+    private final double pruneBelowLog;
+    private final Duration ttl;
+
+    public InterestScoreEngine(StringRedisTemplate redisTemplate,
+            @Value("${interest.decay.half-life-hours:12}") double halfLifeHours,
+            @Value("${interest.decay.rebase-after-hours:24}") long rebaseAfterHours,
+            @Value("${interest.decay.prune-below:0.1}") double pruneBelow,
+            @Value("${interest.ttl-hours:36}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.lambdaPerSecond = Math.log(2) / (halfLifeHours * 3600);
+        this.rebaseAfterSeconds = rebaseAfterHours * 3600;
+        this.pruneBelowLog = Math.log(pruneBelow);
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 관심 이벤트 반영 (원자적 log-sum-exp 누적)
+     * @param eventTimeMillis 이벤트 발생 시각 (과거 이벤트도 시간에 맞게 감쇠되어 반영됨)
+     */
+    public void record(String userId, String member, double weight, long eventTimeMillis) {
+        if (weight <= 0)
+            return;
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        long eventSeconds = Math.min(eventTimeMillis / 1000, nowSeconds);
+
+        redisTemplate.execute(recordScript,
+                List.of(INTEREST_KEY_PREFIX + userId, EPOCH_KEY_PREFIX + userId),
+                member,
+                String.valueOf(Math.log(weight)),
+                String.valueOf(eventSeconds),
+                String.valueOf(lambdaPerSecond),
+                String.valueOf(nowSeconds),
+                String.valueOf(ttl.getSeconds()));
+    }
+
+    // 1시간마다: epoch가 오래된 키를 현재 시각 기준으로 Rebase + 감쇠된 항목 정리
+    @Scheduled(fixedDelayString = "${interest.decay.compaction-interval-ms:3600000}")
+    public void compact() {
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        int rebased = 0;
+
+        ScanOptions options = ScanOptions.scanOptions().match(EPOCH_KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String epochKey = cursor.next();
+                String epochValue = redisTemplate.opsForValue().get(epochKey);
+                if (epochValue == null || nowSeconds - Long.parseLong(epochValue) < rebaseAfterSeconds)
+                    continue;
+
+                String userId = epochKey.substring(EPOCH_KEY_PREFIX.length());
+                redisTemplate.execute(rebaseScript,
+                        List.of(INTEREST_KEY_PREFIX + userId, epochKey),
+                        String.valueOf(nowSeconds),
+                        String.valueOf(lambdaPerSecond),
+                        String.valueOf(pruneBelowLog));
+                rebased++;
+            }
+        } catch (Exception e) {
+            log.error("⚠️ Interest score compaction failed: {}", e.getMessage());
+        }
+        if (rebased > 0) {
+            log.info("🧹 [관심사] {}개 키 Rebase 완료", rebased);
+        }
+    }
+}
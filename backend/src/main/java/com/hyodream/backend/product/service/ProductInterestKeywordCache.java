@@ -0,0 +1,209 @@
+package com.hyodream.backend.product.service;
+
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.naver.service.NaverShoppingService;
+import com.hyodream.backend.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [이벤트 수집용] 상품 ID -> 관심 키워드 인메모리 맵
+ * - 클릭 이벤트마다 상품 엔티티(EntityGraph + EAGER 태그)를 조회하지 않도록 미리 계산된 키워드를 보관
+ * - 키워드 종류는 효능/카테고리 수준으로 적기 때문에 문자열 인스턴스를 공유하여 메모리를 절약
+ * - 최근 사용 순(LRU)으로 최대 max-entries개 보관, ttl-ms가 지나면 다시 조회
+ *   (다른 인스턴스에서 바뀐/삭제된 상품도 TTL 안에 반영)
+ * - 맵에 없는 ID는 요청당 IN 쿼리 1회로 일괄 조회, DB에도 없는 ID는 negative-ttl-ms 동안 기본 키워드로 응답
+ *   (존재하지 않는 상품 ID로 이벤트를 반복 전송해도 요청마다 DB를 조회하지 않도록)
+ */
+@Slf4j
+@Component
+public class ProductInterestKeywordCache {
+
+    public static final String DEFAULT_KEYWORD = "기타";
+
+    // keyword == null: DB에 없는(또는 키워드가 없는) 상품
+    private record CachedKeyword(String keyword, long expiresAt) {
+    }
+
+    private final ProductRepository productRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+
+    private final Map<Long, CachedKeyword> keywords;
+    // 동일 키워드 문자열 공유용 (예: "눈 건강" 인스턴스 하나만 유지)
+    private final Map<String, String> canonical = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public ProductInterestKeywordCache(ProductRepository productRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${product.interest-keyword.max-entries:50000}") int maxEntries,
+            @Value("${product.interest-keyword.ttl-ms:600000}") long ttlMillis,
+            @Value("${product.interest-keyword.negative-ttl-ms:60000}") long negativeTtlMillis) {
+        this.productRepository = productRepository;
+        this.transactionManager = transactionManager;
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        // accessOrder=true -> 가장 오래 사용되지 않은 항목부터 제거
+        this.keywords = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedKeyword> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // 서버 기동 완료 후: 키워드가 없는 기존 상품 보정 + 맵 적재 (max-entries까지)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+            Integer backfilled = txTemplate.execute(status -> {
+                List<Product> missing = productRepository.findByInterestKeywordIsNull();
+                for (Product p : missing) {
+                    p.setInterestKeyword(NaverShoppingService.resolveInterestKeyword(p));
+                }
+                return missing.size();
+            });
+
+            List<Object[]> rows = productRepository.findAllInterestKeywords();
+            for (Object[] row : rows) {
+                put((Long) row[0], (String) row[1]);
+            }
+            log.info("✅ 관심 키워드 맵 적재 완료 (상품: {}개, 보정: {}개)", size(), backfilled);
+        } catch (Exception e) {
+            log.error("⚠️ 관심 키워드 맵 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    // 상품의 관심 키워드 단건 조회
+    public String getKeyword(Long productId) {
+        return getKeywords(List.of(productId)).getOrDefault(productId, DEFAULT_KEYWORD);
+    }
+
+    /**
+     * 상품들의 관심 키워드 일괄 조회
+     * - 맵에 있으면 DB 접근 없이 반환
+     * - 없거나 만료되었으면 (다른 인스턴스에서 등록된 상품 등) 키워드 컬럼만 IN 쿼리 1회로 조회 후 적재
+     * - DB에도 없는 ID는 기본 키워드 (negative 항목으로 기록)
+     */
+    public Map<Long, String> getKeywords(Collection<Long> productIds) {
+        Map<Long, String> result = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (keywords) {
+            for (Long productId : productIds) {
+                if (productId == null || result.containsKey(productId))
+                    continue;
+                CachedKeyword cached = keywords.get(productId);
+                if (cached != null && cached.expiresAt() > now) {
+                    result.put(productId, (cached.keyword() != null) ? cached.keyword() : DEFAULT_KEYWORD);
+                } else {
+                    misses.add(productId);
+                }
+            }
+        }
+        hitCount.addAndGet(result.size());
+        missCount.addAndGet(misses.size());
+
+        if (!misses.isEmpty()) {
+            List<Object[]> rows = productRepository.findInterestKeywordsByIds(misses);
+            synchronized (keywords) {
+                for (Object[] row : rows) {
+                    Long productId = (Long) row[0];
+                    String keyword = canonical.computeIfAbsent((String) row[1], k -> k);
+                    keywords.put(productId, new CachedKeyword(keyword, now + ttlMillis));
+                    result.put(productId, keyword);
+                }
+                for (Long productId : misses) {
+                    if (!result.containsKey(productId)) {
+                        keywords.put(productId, new CachedKeyword(null, now + negativeTtlMillis));
+                        result.put(productId, DEFAULT_KEYWORD);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public void put(Long productId, String keyword) {
+        if (productId == null || keyword == null || keyword.isEmpty())
+            return;
+        CachedKeyword cached = new CachedKeyword(canonical.computeIfAbsent(keyword, k -> k),
+                System.currentTimeMillis() + ttlMillis);
+        synchronized (keywords) {
+            keywords.put(productId, cached);
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 반영
+    public void putAllAfterCommit(Collection<Product> products) {
+        if (products.isEmpty())
+            return;
+        Runnable apply = () -> products.forEach(p -> put(p.getId(), p.getInterestKeyword()));
+        runAfterCommit(apply);
+    }
+
+    public void evict(Long productId) {
+        synchronized (keywords) {
+            keywords.remove(productId);
+        }
+    }
+
+    // 트랜잭션 안에서 호출: 커밋 이후에 제거 (커밋 전에 제거하면 다른 요청이 삭제 전 키워드를 다시 읽어 TTL 동안 캐시함)
+    public void evictAfterCommit(Collection<Long> productIds) {
+        if (productIds.isEmpty())
+            return;
+        List<Long> ids = List.copyOf(productIds);
+        runAfterCommit(() -> ids.forEach(this::evict));
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        synchronized (keywords) {
+            return keywords.size();
+        }
+    }
+
+    // --- Private Methods ---
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
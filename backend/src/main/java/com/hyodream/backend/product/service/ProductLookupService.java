@@ -0,0 +1,138 @@
+package com.hyodream.backend.product.service;
+
+import com.hyodream.backend.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [Lookup Cache] 상품 이름/요약 조회 공용 서비스
+ * - 주문 내역, 내 리뷰 등 "상품명만 필요한" 화면에서 상품 엔티티(분석 EntityGraph + EAGER 태그 컬렉션)를 로딩하지 않도록 함
+ * - 최근 사용 순(LRU)으로 최대 max-entries개 보관, ttl-ms가 지나면 다시 조회
+ * - 캐시에 없는 ID는 IN 쿼리 1회로 일괄 조회 (id, name, price, imageUrl만)
+ */
+@Service
+public class ProductLookupService {
+
+    public record ProductSummary(Long id, String name, int price, String imageUrl) {
+    }
+
+    private record CachedSummary(ProductSummary summary, long expiresAt) {
+    }
+
+    private final ProductRepository productRepository;
+    private final long ttlMillis;
+    private final Map<Long, CachedSummary> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public ProductLookupService(ProductRepository productRepository,
+            @Value("${product.lookup-cache.max-entries:5000}") int maxEntries,
+            @Value("${product.lookup-cache.ttl-ms:600000}") long ttlMillis) {
+        this.productRepository = productRepository;
+        this.ttlMillis = ttlMillis;
+        // accessOrder=true -> 가장 오래 사용되지 않은 항목부터 제거
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedSummary> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // 상품명 단건 조회 (없으면 null)
+    public String getName(Long productId) {
+        ProductSummary summary = getSummaries(List.of(productId)).get(productId);
+        return (summary != null) ? summary.name() : null;
+    }
+
+    // 상품명 일괄 조회 (존재하지 않는 상품은 결과에 없음)
+    public Map<Long, String> getNames(Collection<Long> productIds) {
+        Map<Long, String> names = new HashMap<>();
+        getSummaries(productIds).forEach((id, summary) -> names.put(id, summary.name()));
+        return names;
+    }
+
+    // 상품 요약 일괄 조회
+    public Map<Long, ProductSummary> getSummaries(Collection<Long> productIds) {
+        Map<Long, ProductSummary> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            for (Long id : productIds) {
+                if (id == null || result.containsKey(id))
+                    continue;
+                CachedSummary cached = cache.get(id);
+                if (cached != null && cached.expiresAt() > now) {
+                    result.put(id, cached.summary());
+                } else {
+                    misses.add(id);
+                }
+            }
+        }
+        hitCount.addAndGet(result.size());
+        missCount.addAndGet(misses.size());
+
+        if (!misses.isEmpty()) {
+            List<Object[]> rows = productRepository.findSummariesByIds(misses);
+            synchronized (cache) {
+                for (Object[] row : rows) {
+                    ProductSummary summary = new ProductSummary(
+                            (Long) row[0], (String) row[1], (Integer) row[2], (String) row[3]);
+                    result.put(summary.id(), summary);
+                    cache.put(summary.id(), new CachedSummary(summary, now + ttlMillis));
+                }
+            }
+        }
+        return result;
+    }
+
+    // 상품 정보가 바뀌거나 삭제되면 호출
+    public void evict(Collection<Long> productIds) {
+        synchronized (cache) {
+            productIds.forEach(cache::remove);
+        }
+    }
+
+    // 트랜잭션 안에서 호출: 커밋 이후에 제거 (커밋 전에 제거하면 다른 요청이 이전 값을 다시 읽어 TTL 동안 캐시함)
+    public void evictAfterCommit(Collection<Long> productIds) {
+        if (productIds.isEmpty())
+            return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> ids = List.copyOf(productIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(ids);
+                }
+            });
+        } else {
+            evict(productIds);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.hyodream.backend.product.service;
+
+import com.hyodream.backend.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [판매량 집계] 상품 판매량 일괄 반영
+ * - 상품 엔티티를 조회/수정하지 않고 원자적 UPDATE (total_sales = total_sales + ?)를 JDBC Batch로 1회 전송
+ * - 같은 배치에서 일자별 Rollup(상품별 product_daily_sales, 대분류별 category_daily_sales)도 UPSERT
+ *   -> 최근 30일 집계/관리자 통계는 주문 이력 대신 Rollup만 읽음
+ * - 주문 트랜잭션이 상품 행 락을 잡지 않도록 OrderOutboxRelay가 릴레이 트랜잭션 안에서 호출
+ *   (이벤트 처리 완료 표시와 같은 트랜잭션이므로 중복 반영되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSalesCounter {
+
+    public static final String DEFAULT_CATEGORY = "기타";
+
+    // 판매량/금액 변화량 (주문: 양수, 취소: 음수), salesDate는 원 주문 일자
+    public record SalesDelta(Long productId, LocalDate salesDate, int quantity, long amount) {
+    }
+
+    private record DailyKey(LocalDate salesDate, Object target) {
+    }
+
+    // 취소로 음수가 되지 않도록 0 하한
+    private static final String UPDATE_SALES_SQL = """
+            UPDATE products
+            SET total_sales = GREATEST(total_sales + ?, 0),
+                recent_sales = GREATEST(recent_sales + ?, 0)
+            WHERE id = ?
+            """;
+
+    private static final String UPSERT_PRODUCT_DAILY_SQL = """
+            INSERT INTO product_daily_sales (sales_date, product_id, quantity, revenue)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE quantity = GREATEST(quantity + VALUES(quantity), 0),
+                                    revenue = GREATEST(revenue + VALUES(revenue), 0)
+            """;
+
+    private static final String UPSERT_CATEGORY_DAILY_SQL = """
+            INSERT INTO category_daily_sales (sales_date, category, quantity, revenue)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE quantity = GREATEST(quantity + VALUES(quantity), 0),
+                                    revenue = GREATEST(revenue + VALUES(revenue), 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+
+    public void apply(List<SalesDelta> deltas) {
+        if (deltas.isEmpty())
+            return;
+
+        // 배치 상품들의 대분류 일괄 조회 (1회)
+        Map<Long, String> categories = new HashMap<>();
+        List<Long> productIds = deltas.stream().map(SalesDelta::productId).distinct().toList();
+        for (Object[] row : productRepository.findCategoriesByIds(productIds)) {
+            String category = (String) row[1];
+            categories.put((Long) row[0], (category == null || category.isBlank()) ? DEFAULT_CATEGORY : category);
+        }
+
+        // 상품별 / (일자, 상품)별 / (일자, 대분류)별로 먼저 합산해 행 수를 줄임
+        Map<Long, Integer> byProduct = new HashMap<>();
+        Map<DailyKey, long[]> byProductDay = new HashMap<>();
+        Map<DailyKey, long[]> byCategoryDay = new HashMap<>();
+        for (SalesDelta delta : deltas) {
+            byProduct.merge(delta.productId(), delta.quantity(), Integer::sum);
+            accumulate(byProductDay, new DailyKey(delta.salesDate(), delta.productId()), delta);
+            String category = categories.getOrDefault(delta.productId(), DEFAULT_CATEGORY);
+            accumulate(byCategoryDay, new DailyKey(delta.salesDate(), category), delta);
+        }
+
+        List<Object[]> productRows = new ArrayList<>();
+        byProduct.forEach((productId, quantity) -> {
+            if (quantity != 0) {
+                productRows.add(new Object[] { quantity, quantity, productId });
+            }
+        });
+
+        if (!productRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SALES_SQL, productRows);
+        }
+        jdbcTemplate.batchUpdate(UPSERT_PRODUCT_DAILY_SQL, toDailyRows(byProductDay));
+        jdbcTemplate.batchUpdate(UPSERT_CATEGORY_DAILY_SQL, toDailyRows(byCategoryDay));
+    }
+
+    private static void accumulate(Map<DailyKey, long[]> totals, DailyKey key, SalesDelta delta) {
+        long[] sum = totals.computeIfAbsent(key, k -> new long[2]);
+        sum[0] += delta.quantity();
+        sum[1] += delta.amount();
+    }
+
+    private static List<Object[]> toDailyRows(Map<DailyKey, long[]> totals) {
+        List<Object[]> rows = new ArrayList<>();
+        totals.forEach((key, sum) -> {
+            if (sum[0] != 0 || sum[1] != 0) {
+                rows.add(new Object[] { Date.valueOf(key.salesDate()), key.target(), sum[0], sum[1] });
+            }
+        });
+        return rows;
+    }
+}
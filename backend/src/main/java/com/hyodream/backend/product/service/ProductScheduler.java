@@ -1,60 +1,68 @@
 package com.hyodream.backend.product.service;
 
-import com.hyodream.backend.order.repository.OrderItemRepository;
 import com.hyodream.backend.product.domain.Product;
 import com.hyodream.backend.product.domain.ProductStatus;
 import com.hyodream.backend.product.domain.SearchLog;
 import com.hyodream.backend.product.naver.service.NaverShoppingService;
 import com.hyodream.backend.product.repository.ProductRepository;
 import com.hyodream.backend.product.repository.SearchLogRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProductScheduler {
 
     private final ProductRepository productRepository;
-    private final OrderItemRepository orderItemRepository;
     private final SearchLogRepository searchLogRepository;
     private final NaverShoppingService naverShoppingService;
+    private final ProductInterestKeywordCache interestKeywordCache;
+    private final ProductLookupService productLookupService;
+    private final TaskExecutor importExecutor;
+    private final int recentSalesDays; // 인기순 정렬 기준 기간
+
+    public ProductScheduler(ProductRepository productRepository,
+            SearchLogRepository searchLogRepository,
+            NaverShoppingService naverShoppingService,
+            ProductInterestKeywordCache interestKeywordCache,
+            ProductLookupService productLookupService,
+            @Qualifier("importExecutor") TaskExecutor importExecutor,
+            @Value("${sales.recent-days:30}") int recentSalesDays) {
+        this.productRepository = productRepository;
+        this.searchLogRepository = searchLogRepository;
+        this.naverShoppingService = naverShoppingService;
+        this.interestKeywordCache = interestKeywordCache;
+        this.productLookupService = productLookupService;
+        this.importExecutor = importExecutor;
+        this.recentSalesDays = recentSalesDays;
+    }
 
     // 매일 자정: 최근 판매량 집계
+    // 주문 이력(order_items JOIN orders) 대신 일자별 Rollup 30일치만 읽어 UPDATE 1회로 갱신
     @Scheduled(cron = "0 0 0 * * *")
     @Transactional
     public void updateRecentSales() {
         log.info("🔄 [스케줄러] 최근 한 달 판매량 업데이트 시작...");
 
-        List<Product> allProducts = productRepository.findAll();
-        for (Product p : allProducts) {
-            p.setRecentSales(0);
-        }
-
-        LocalDateTime oneMonthAgo = LocalDateTime.now().minusDays(30);
-        List<Object[]> salesData = orderItemRepository.countSalesByProductSince(oneMonthAgo);
-
-        for (Object[] row : salesData) {
-            Long productId = (Long) row[0];
-            Long countLong = (Long) row[1];
-            int count = countLong.intValue();
+        LocalDate since = LocalDate.now().minusDays(recentSalesDays);
+        int updated = productRepository.refreshRecentSalesNative(since);
 
-            productRepository.findById(productId).ifPresent(product -> {
-                product.setRecentSales(count);
-            });
-        }
-        log.info("✅ [스케줄러] 판매량 업데이트 완료!");
+        log.info("✅ [스케줄러] 판매량 업데이트 완료! ({}개 상품)", updated);
     }
 
     // 매일 새벽 3시: 오래된 검색어 재검색 (데이터 최신화)
+    // Import는 전용 풀(importExecutor)에 넘겨 스케줄러 스레드가 오래 점유되지 않도록 함
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void refreshOldKeywords() {
         log.info("🔄 [스케줄러] 오래된 검색어 데이터 최신화 시작...");
         
@@ -62,24 +70,38 @@ public class ProductScheduler {
         LocalDateTime threshold = LocalDateTime.now().minusDays(3);
         List<SearchLog> oldLogs = searchLogRepository.findByLastApiCallAtBefore(threshold);
 
-        int updatedCount = 0;
+        int submittedCount = 0;
         for (SearchLog logEntry : oldLogs) {
+            String keyword = logEntry.getKeyword();
             try {
-                // API 호출 및 DB 갱신
-                naverShoppingService.importNaverProducts(logEntry.getKeyword());
-                
-                // 시간 갱신
-                logEntry.recordApiCall();
-                updatedCount++;
-                
-                // API 호출 제한 고려하여 약간의 딜레이 (선택사항)
-                Thread.sleep(100); 
-                
-            } catch (Exception e) {
-                log.error("Failed to refresh keyword: {}", logEntry.getKeyword(), e);
+                importExecutor.execute(() -> refreshKeyword(keyword));
+                submittedCount++;
+            } catch (RejectedExecutionException e) {
+                log.warn("Import queue full, skipped keyword: {}", keyword);
             }
         }
-        log.info("✅ [스케줄러] {}개 키워드 최신화 완료!", updatedCount);
+        log.info("✅ [스케줄러] {}개 키워드 최신화 요청 완료!", submittedCount);
+    }
+
+    private void refreshKeyword(String keyword) {
+        try {
+            // API 호출 및 DB 갱신
+            naverShoppingService.importNaverProducts(keyword);
+
+            // 시간 갱신
+            searchLogRepository.findById(keyword).ifPresent(logEntry -> {
+                logEntry.recordApiCall();
+                searchLogRepository.save(logEntry);
+            });
+
+            // API 호출 제한 고려하여 약간의 딜레이 (선택사항)
+            Thread.sleep(100);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Failed to refresh keyword: {}", keyword, e);
+        }
     }
 
     // 매일 새벽 4시: 오랫동안 업데이트 안 된 상품 정리 (Garbage Collection)
@@ -103,6 +125,8 @@ public class ProductScheduler {
                 }
             } else {
                 productRepository.delete(p);
+                interestKeywordCache.evictAfterCommit(List.of(p.getId()));
+                productLookupService.evictAfterCommit(List.of(p.getId()));
                 deletedCount++;
             }
         }
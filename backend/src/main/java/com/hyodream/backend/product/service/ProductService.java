@@ -1,6 +1,6 @@
 package com.hyodream.backend.product.service;
 
-import com.hyodream.backend.global.client.AiClient;
+import com.hyodream.backend.global.client.AiClientGateway;
 import com.hyodream.backend.global.client.crawler.CrawlerClient;
 import com.hyodream.backend.global.client.crawler.dto.CrawlerResponseDto;
 import com.hyodream.backend.global.client.review.AiReviewClient;
@@ -10,6 +10,7 @@ import com.hyodream.backend.product.domain.AnalysisStatus;
 import com.hyodream.backend.product.domain.Product;
 import com.hyodream.backend.product.domain.ReviewAnalysis;
 import com.hyodream.backend.product.domain.SearchLog;
+import com.hyodream.backend.product.dto.AiCandidateSnapshotDto;
 import com.hyodream.backend.product.dto.AiRecommendationRequestDto;
 import com.hyodream.backend.product.dto.ProductRequestDto;
 import com.hyodream.backend.product.dto.ProductResponseDto;
@@ -20,6 +21,8 @@ import com.hyodream.backend.product.repository.SearchLogRepository;
 import com.hyodream.backend.user.domain.User;
 import com.hyodream.backend.user.dto.HealthInfoRequestDto;
 import com.hyodream.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -27,7 +30,6 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -42,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -52,12 +55,20 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final SearchLogRepository searchLogRepository;
     private final NaverShoppingService naverShoppingService;
-    private final AiClient aiClient; // Recommendation
-    private final ProductSyncService productSyncService; // Async Sync Service
+    private final AiClientGateway aiClientGateway; // Recommendation (Timeout/Circuit Breaker/Bulkhead)
+    private final RecommendationCandidateService recommendationCandidateService;
+    private final ReviewAnalysisScheduler reviewAnalysisScheduler; // Batched AI Review Analysis
+    private final ProductInterestKeywordCache interestKeywordCache;
+    private final UserInterestNearCache userInterestNearCache;
 
     private final UserRepository userRepository;
-    private final StringRedisTemplate redisTemplate;
     private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    // 추천 섹션 결과 (recommendation.section 태그)
+    private static final String SECTION_FILLED = "filled";
+    private static final String SECTION_EMPTY = "empty";
+    private static final String SECTION_ERROR = "error";
 
     // 상품 등록 (관리자용)
     @Transactional
@@ -87,7 +98,9 @@ public class ProductService {
                 product.addAllergen(allergen);
             }
         }
+        product.setInterestKeyword(NaverShoppingService.resolveInterestKeyword(product));
         productRepository.save(product);
+        interestKeywordCache.putAllAfterCommit(List.of(product));
     }
 
     // 전체 상품 목록 조회
@@ -111,37 +124,40 @@ public class ProductService {
         Pageable pageable = PageRequest.of(page, size, sortCondition);
         Page<Product> productPage = productRepository.findAllWithPersonalization(isLogin, userAllergies, pageable);
 
-        List<Product> originalList = productPage.getContent();
-        List<Product> resultList = new ArrayList<>(originalList);
-
+        List<Product> interestProducts = List.of();
         if (page == 0 && identifier != null && !identifier.equals("unknown")) {
-            String redisKey = "interest:user:" + identifier;
-            Set<String> topInterests = redisTemplate.opsForZSet().reverseRange(redisKey, 0, 0);
+            // [Near-Cache] 짧은 TTL 로컬 캐시 우선 조회 (미스일 때만 Redis 왕복)
+            String interestCategory = userInterestNearCache.getTopInterest(identifier);
 
-            if (topInterests != null && !topInterests.isEmpty()) {
-                String interestCategory = topInterests.iterator().next();
-                List<Product> interestProducts = productRepository
+            if (interestCategory != null) {
+                interestProducts = productRepository
                         .findByKeywordInBenefitsOrCategoriesWithAllergyCheck(interestCategory, isLogin, userAllergies);
-
-                if (interestProducts.size() > 3) {
-                    interestProducts = interestProducts.subList(0, 3);
-                }
-                for (int i = interestProducts.size() - 1; i >= 0; i--) {
-                    resultList.add(0, interestProducts.get(i));
-                }
             }
         }
 
-        List<Long> addedIds = new ArrayList<>();
-        List<ProductResponseDto> finalDtos = new ArrayList<>();
-        for (Product p : resultList) {
-            if (!addedIds.contains(p.getId())) {
-                finalDtos.add(new ProductResponseDto(p));
-                addedIds.add(p.getId());
+        List<ProductResponseDto> finalDtos = mergeInterestFirst(interestProducts, productPage.getContent(), size);
+        return new PageImpl<>(finalDtos, pageable, productPage.getTotalElements());
+    }
+
+    // 관심사 상품(최대 3개)을 앞에 붙이고 중복 상품은 한 번만 담아 size개까지 DTO 변환 (ProductMergeBenchmark 측정 대상)
+    static List<ProductResponseDto> mergeInterestFirst(List<Product> interestProducts, List<Product> pageProducts, int size) {
+        Set<Long> addedIds = new HashSet<>();
+        List<ProductResponseDto> dtos = new ArrayList<>(size);
+        int interestCount = Math.min(3, interestProducts.size());
+        for (int i = 0; i < interestCount && dtos.size() < size; i++) {
+            Product p = interestProducts.get(i);
+            if (addedIds.add(p.getId())) {
+                dtos.add(new ProductResponseDto(p));
             }
-            if (finalDtos.size() >= size) break;
         }
-        return new PageImpl<>(finalDtos, pageable, productPage.getTotalElements());
+        for (Product p : pageProducts) {
+            if (dtos.size() >= size)
+                break;
+            if (addedIds.add(p.getId())) {
+                dtos.add(new ProductResponseDto(p));
+            }
+        }
+        return dtos;
     }
 
     // [Modified] 상품 상세 조회 (비동기 AI 분석 적용)
@@ -156,10 +172,10 @@ public class ProductService {
 
         if (needAnalysis) {
             try {
-                productSyncService.analyzeProductReviews(product.getId());
-                log.info("🚀 Triggered async review analysis for ID: {}", id);
+                reviewAnalysisScheduler.enqueue(product.getId());
+                log.info("🚀 Queued review analysis for ID: {}", id);
             } catch (Exception e) {
-                log.error("Failed to trigger async analysis: {}", e.getMessage());
+                log.error("Failed to queue review analysis: {}", e.getMessage());
             }
         }
 
@@ -200,12 +216,12 @@ public class ProductService {
         log.info("🔍 Recommendation Debug - User: {}, Allergies: {}, hasAllergies: {}", identifier, userAllergies, hasAllergies);
 
         // Real-time
+        long sectionStart = System.nanoTime();
+        String outcome = SECTION_EMPTY;
         try {
-            String redisKey = "interest:user:" + identifier;
-            Set<String> topInterests = redisTemplate.opsForZSet().reverseRange(redisKey, 0, 0);
+            String hotCategory = userInterestNearCache.getTopInterest(identifier);
             
-            if (topInterests != null && !topInterests.isEmpty()) {
-                String hotCategory = topInterests.iterator().next();
+            if (hotCategory != null) {
                 log.info("🔥 Real-time Interest Detected for user '{}': {}", identifier, hotCategory);
                 
                 // [Modified] Use Allergy Check
@@ -228,6 +244,7 @@ public class ProductService {
                     response.setRealTime(new com.hyodream.backend.product.dto.RecommendationSection(
                             "최근 보신 '" + hotCategory + "' 관련 상품", sectionProducts));
                     log.info("   -> Added Real-time section with {} products", sectionProducts.size());
+                    outcome = SECTION_FILLED;
                 } else {
                     log.warn("   -> Real-time candidates were found but filtered out (duplicates or empty).");
                 }
@@ -235,7 +252,10 @@ public class ProductService {
                 log.info("ℹ️ No Real-time Interest found in Redis for user '{}' (Key: {})", identifier, redisKey);
             }
         } catch (Exception e) {
+            outcome = SECTION_ERROR;
             log.error("⚠️ Real-time recommendation error: {}", e.getMessage());
+        } finally {
+            recordSection("real-time", sectionStart, outcome);
         }
 
         response.setHealthGoals(new ArrayList<>());
@@ -247,6 +267,7 @@ public class ProductService {
                         .orElseThrow(() -> new RuntimeException("사용자 없음"));
 
                 // Health Goals
+                sectionStart = System.nanoTime();
                 if (user.getHealthGoals() != null) {
                     for (var userGoal : user.getHealthGoals()) {
                         String goalName = userGoal.getHealthGoal().getName();
@@ -273,8 +294,10 @@ public class ProductService {
                         }
                     }
                 }
+                recordSection("health-goals", sectionStart, response.getHealthGoals().isEmpty() ? SECTION_EMPTY : SECTION_FILLED);
 
                 // Diseases
+                sectionStart = System.nanoTime();
                 if (user.getDiseases() != null) {
                     for (var userDisease : user.getDiseases()) {
                         String diseaseName = userDisease.getDisease().getName();
@@ -299,37 +322,26 @@ public class ProductService {
                         }
                     }
                 }
+                recordSection("diseases", sectionStart, response.getDiseases().isEmpty() ? SECTION_EMPTY : SECTION_FILLED);
 
                 // AI
+                long aiStart = System.nanoTime();
+                String aiOutcome = SECTION_EMPTY;
                 try {
-                    // 1. 후보군 생성 (인기 80 + 신규 20, 알레르기 필터링 없이 전달 -> AI가 판단)
-                    List<Product> popular = productRepository.findTop80ByOrderByRecentSalesDesc();
-                    List<Product> newProducts = productRepository.findTop20ByOrderByCreatedAtDesc();
-
-                    Set<Product> candidatePool = new HashSet<>(popular);
-                    candidatePool.addAll(newProducts);
-
-                    List<AiRecommendationRequestDto.CandidateProductDto> candidateDtos = candidatePool.stream()
-                            .map(p -> new AiRecommendationRequestDto.CandidateProductDto(
-                                    p.getId(),
-                                    p.getName(),
-                                    p.getHealthBenefits(),
-                                    p.getAllergens(),
-                                    p.getCategory1()
-                            ))
-                            .toList();
+                    // 후보군(인기 80 + 신규 20)은 스냅샷으로 AI 서버에 한 번만 등록, 요청에는 버전만 전달
+                    AiCandidateSnapshotDto snapshot = recommendationCandidateService.getSnapshot();
 
                     AiRecommendationRequestDto requestDto = AiRecommendationRequestDto.builder()
                             .diseaseNames(user.getDiseases().stream().map(d -> d.getDisease().getName()).toList())
                             .allergyNames(user.getAllergies().stream().map(a -> a.getAllergy().getName()).toList())
                             .healthGoalNames(user.getHealthGoals().stream().map(h -> h.getHealthGoal().getName()).toList())
-                            .candidates(candidateDtos)
+                            .snapshotVersion(snapshot.getVersion())
                             .build();
 
-                    var aiResponse = aiClient.getRecommendations(requestDto);
-                    List<Long> aiProductIds = aiResponse.productIds();
+                    // 장애/회로 열림 시 빈 목록 -> AI 섹션만 생략하고 나머지 섹션은 그대로 응답
+                    List<Long> aiProductIds = aiClientGateway.recommend(requestDto, snapshot);
 
-                    if (aiProductIds != null && !aiProductIds.isEmpty()) {
+                    if (!aiProductIds.isEmpty()) {
                         List<Product> aiCandidates = productRepository.findAllById(aiProductIds);
                         Map<Long, Product> productMap = aiCandidates.stream()
                                 .collect(Collectors.toMap(Product::getId, p -> p));
@@ -350,16 +362,28 @@ public class ProductService {
                         if (!sectionProducts.isEmpty()) {
                             response.setAi(new com.hyodream.backend.product.dto.RecommendationSection(
                                     "AI가 분석한 맞춤 상품", sectionProducts));
+                            aiOutcome = SECTION_FILLED;
                         }
                     }
                 } catch (Exception e) {
+                    aiOutcome = SECTION_ERROR;
                     log.error("AI Recommendation Error: {}", e.getMessage());
+                } finally {
+                    recordSection("ai", aiStart, aiOutcome);
                 }
             } catch (Exception e) {}
         }
         return response;
     }
 
+    // 섹션별 소요 시간: recommendation.section{section, outcome=filled|empty|error}
+    private void recordSection(String section, long startNanos, String outcome) {
+        Timer.builder("recommendation.section")
+                .tags("section", section, "outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
     // 상품 검색
     @Transactional
     public Page<ProductResponseDto> searchProducts(String keyword, int page, int size, String sort) {
@@ -379,13 +403,17 @@ public class ProductService {
                 }
             }
 
+            // 검색 로그 Cache-aside 적중률: 24시간 내 수집된 키워드면 hit, 네이버 재수집이면 miss
+            meterRegistry.counter("cache.gets", "cache", "search-log", "result", needApiCall ? "miss" : "hit")
+                    .increment();
+
             if (needApiCall) {
                 naverShoppingService.importNaverProducts(keyword);
                 log.recordApiCall();
             }
             searchLogRepository.save(log);
         } catch (Exception e) {
-            System.err.println("⚠️ Naver Import Failed: " + e.getMessage());
+            log.warn("⚠️ Naver Import Failed: {}", e.getMessage());
         }
 
         boolean isLogin = false;
@@ -420,33 +448,4 @@ public class ProductService {
         }
         return relatedProducts.stream().map(ProductResponseDto::new).collect(Collectors.toList());
     }
-
-    @Transactional
-    public void increaseTotalSales(Long productId, int count) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("상품 없음"));
-        product.setTotalSales(product.getTotalSales() + count);
-        // [Real-time] 인기순 정렬의 즉각적인 반응을 위해 recentSales도 함께 증가
-        product.setRecentSales(product.getRecentSales() + count);
-    }
-
-    @Transactional
-    public void decreaseTotalSales(Long productId, int count) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("상품 없음"));
-        
-        // 전체 판매량 감소
-        if (product.getTotalSales() >= count) {
-            product.setTotalSales(product.getTotalSales() - count);
-        } else {
-            product.setTotalSales(0);
-        }
-
-        // [Real-time] 최근 판매량도 감소 (주문 취소 시 순위 하락 반영)
-        if (product.getRecentSales() >= count) {
-            product.setRecentSales(product.getRecentSales() - count);
-        } else {
-            product.setRecentSales(0);
-        }
-    }
-}
\ No newline at end of file
+}
@@ -1,24 +1,25 @@
 package com.hyodream.backend.product.service;
 
-import com.hyodream.backend.global.client.review.AiReviewClient;
-import com.hyodream.backend.global.client.review.dto.ReviewAnalysisRequestDto;
-import com.hyodream.backend.global.client.review.dto.ReviewAnalysisResponseDto;
+import com.hyodream.backend.global.client.AiClientGateway;
+import com.hyodream.backend.global.client.review.dto.ReviewBatchAnalysisRequestDto;
+import com.hyodream.backend.global.client.review.dto.ReviewBatchAnalysisResponseDto;
 import com.hyodream.backend.product.domain.AnalysisStatus;
 import com.hyodream.backend.product.domain.Product;
-import com.hyodream.backend.product.domain.Review;
 import com.hyodream.backend.product.domain.ReviewAnalysis;
+import com.hyodream.backend.product.domain.ReviewSentiment;
 import com.hyodream.backend.product.repository.ProductRepository;
 import com.hyodream.backend.product.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -27,122 +28,177 @@ public class ProductSyncService {
 
     private final ProductRepository productRepository;
     private final ReviewRepository reviewRepository;
-    private final AiReviewClient aiReviewClient;
+    private final AiClientGateway aiClientGateway;
     private final PlatformTransactionManager transactionManager;
 
     /**
-     * [비동기] 상품 리뷰 AI 분석 수행
-     * - DB에 저장된 리뷰를 가져와 AI 서버로 전송
-     * - 분석 결과를 ReviewAnalysis 테이블에 저장
+     * [배치] 여러 상품의 리뷰 AI 분석 수행 (ReviewAnalysisScheduler가 호출)
+     * - 상품별 분석 상태를 선점한 뒤, 선점한 상품들의 "미분류" 리뷰만 모아 AI 서버에 1회 요청
+     * - 리뷰별 감성은 Review.sentiment에 저장하고, 상품 집계에는 신규 분류분만 합산
+     * - 분석 결과는 배치 단위 트랜잭션 1개로 저장
      */
-    @Async
-    public void analyzeProductReviews(Long productId) {
-        log.info("🧠 [Async] Starting AI analysis for product ID: {}", productId);
+    public void analyzeProductReviewsBatch(List<Long> productIds) {
+        log.info("🧠 [Batch] Starting AI analysis for {} products", productIds.size());
 
         TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
         txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
 
         // 1. [Native Query] DB 레벨에서 원자적으로 분석 상태 선점 (status='PROGRESS')
+        List<Long> acquiredIds;
         try {
-            int updatedRows = txTemplate.execute(status -> productRepository.startSyncNative(productId));
-            
-            if (updatedRows > 0) {
-                log.info("🏁 [Async] Acquired analysis lock for ID: {}", productId);
-            } else {
-                log.info("✋ [Async] Analysis already in progress for ID: {}. Skipping.", productId);
-                return;
-            }
+            acquiredIds = txTemplate.execute(status -> {
+                List<Long> acquired = new ArrayList<>();
+                for (Long productId : productIds) {
+                    if (productRepository.startSyncNative(productId) > 0) {
+                        acquired.add(productId);
+                    }
+                }
+                return acquired;
+            });
         } catch (Exception e) {
-            log.error("⚠️ [Async] DB Error during analysis setup: {}", e.getMessage());
+            log.error("⚠️ [Batch] DB Error during analysis setup: {}", e.getMessage());
+            return;
+        }
+
+        if (acquiredIds == null || acquiredIds.isEmpty()) {
+            log.info("✋ [Batch] All {} products already in progress. Skipping.", productIds.size());
             return;
         }
 
         try {
-            // 2. [No Transaction] 리뷰 데이터 조회 및 AI 요청
+            // 2. [No Transaction] 아직 분류되지 않은 리뷰만 조회 및 AI 요청 (증분 분석)
             // 트랜잭션을 길게 잡지 않기 위해 여기서 수행
-            List<Review> reviews = reviewRepository.findByProductId(productId);
-            List<String> reviewContents = reviews.stream()
-                    .map(Review::getContent)
-                    .filter(c -> c != null && !c.isBlank())
-                    .collect(Collectors.toList());
-
-            if (reviewContents.isEmpty()) {
-                log.info("ℹ️ [Async] No reviews to analyze for ID: {}", productId);
-                txTemplate.execute(status -> {
-                    completeSyncLogic(productId, null); // 빈 결과로 완료 처리
-                    return null;
-                });
-                return;
+            Map<Long, List<Long>> reviewIdsByProduct = new HashMap<>();
+            Map<Long, List<String>> contentsByProduct = new HashMap<>();
+            for (Object[] row : reviewRepository.findUnlabeledContentsByProductIds(acquiredIds)) {
+                String content = (String) row[2];
+                if (content.isBlank())
+                    continue;
+                Long productId = (Long) row[1];
+                reviewIdsByProduct.computeIfAbsent(productId, k -> new ArrayList<>()).add((Long) row[0]);
+                contentsByProduct.computeIfAbsent(productId, k -> new ArrayList<>()).add(content);
             }
 
-            // AI 서버 호출
-            ReviewAnalysisResponseDto analysisResult = aiReviewClient.analyzeReviews(
-                    new ReviewAnalysisRequestDto(reviewContents));
+            Map<Long, ReviewBatchAnalysisResponseDto.Result> resultMap = new HashMap<>();
+            if (!contentsByProduct.isEmpty()) {
+                List<ReviewBatchAnalysisRequestDto.Item> items = new ArrayList<>();
+                contentsByProduct.forEach((id, contents) -> items.add(new ReviewBatchAnalysisRequestDto.Item(id, contents)));
+
+                // AI 서버 호출 (배치 1회, 신규 리뷰만 전송)
+                ReviewBatchAnalysisResponseDto response = aiClientGateway.analyzeReviewsBatch(
+                        new ReviewBatchAnalysisRequestDto(items));
+                for (ReviewBatchAnalysisResponseDto.Result result : response.getResults()) {
+                    resultMap.put(result.getProductId(), result);
+                }
+            }
 
-            // 3. [Transaction] 결과 저장
+            // 3. [Transaction] 리뷰별 분류 저장 + 상품별 집계 병합 (배치 단위 1회)
             txTemplate.execute(status -> {
-                completeSyncLogic(productId, analysisResult);
+                List<Long> positiveIds = new ArrayList<>();
+                List<Long> negativeIds = new ArrayList<>();
+                Map<Long, int[]> newCounts = new HashMap<>(); // productId -> [pos, neg]
+
+                resultMap.forEach((productId, result) -> {
+                    List<Long> reviewIds = reviewIdsByProduct.get(productId);
+                    if (reviewIds == null || result.getLabels().size() != reviewIds.size())
+                        return; // 응답 형식 불일치 -> 아래에서 실패 처리
+                    int[] counts = new int[2];
+                    for (int i = 0; i < reviewIds.size(); i++) {
+                        if (ReviewSentiment.POSITIVE.name().equals(result.getLabels().get(i))) {
+                            positiveIds.add(reviewIds.get(i));
+                            counts[0]++;
+                        } else {
+                            negativeIds.add(reviewIds.get(i));
+                            counts[1]++;
+                        }
+                    }
+                    newCounts.put(productId, counts);
+                });
+
+                // 상품 행 잠금을 리뷰 행 갱신보다 먼저 (ReviewService.updateReview와 같은 잠금 순서 -> 교착 방지)
+                List<Product> lockedProducts = productRepository.findAllByIdWithLock(acquiredIds);
+
+                if (!positiveIds.isEmpty())
+                    reviewRepository.updateSentiment(positiveIds, ReviewSentiment.POSITIVE);
+                if (!negativeIds.isEmpty())
+                    reviewRepository.updateSentiment(negativeIds, ReviewSentiment.NEGATIVE);
+
+                // 저장 후 DB 기준 분류 수 (집계 정합성 검증용)
+                Map<Long, int[]> labeledCounts = new HashMap<>();
+                for (Object[] row : reviewRepository.countSentimentsByProductIds(acquiredIds)) {
+                    int[] counts = labeledCounts.computeIfAbsent((Long) row[0], k -> new int[2]);
+                    counts[row[1] == ReviewSentiment.POSITIVE ? 0 : 1] = ((Long) row[2]).intValue();
+                }
+
+                for (Product product : lockedProducts) {
+                    Long id = product.getId();
+                    if (contentsByProduct.containsKey(id) && !newCounts.containsKey(id)) {
+                        failSyncLogic(product); // 응답에서 누락된 상품
+                    } else {
+                        completeSyncLogic(product,
+                                newCounts.getOrDefault(id, new int[2]),
+                                labeledCounts.getOrDefault(id, new int[2]));
+                    }
+                }
+                productRepository.flush();
                 return null;
             });
 
         } catch (Exception e) {
-            log.error("⚠️ [Async] Error during AI analysis: {}", e.getMessage());
-            txTemplate.execute(status -> {
-                failSyncLogic(productId);
-                return null;
-            });
+            log.error("⚠️ [Batch] Error during AI analysis: {}", e.getMessage());
+            try {
+                txTemplate.execute(status -> {
+                    productRepository.findAllByIdWithLock(acquiredIds).forEach(this::failSyncLogic);
+                    productRepository.flush();
+                    return null;
+                });
+            } catch (Exception ex) {
+                log.error("Failed to mark as FAILED: {}", ex.getMessage());
+            }
         }
     }
 
-    private void completeSyncLogic(Long productId, ReviewAnalysisResponseDto result) {
-        // [Critical] 종료 시에도 비관적 락 사용 (데이터 정합성 보장)
-        Product product = productRepository.findByIdWithLock(productId)
-                .orElseThrow(() -> new RuntimeException("Product not found during completeSync"));
-
+    /**
+     * 분석 완료 처리
+     * @param newCounts 이번에 새로 분류된 [긍정, 부정] 수
+     * @param labeledCounts DB에 저장된 전체 분류 [긍정, 부정] 수 (이번 분류 포함)
+     */
+    private void completeSyncLogic(Product product, int[] newCounts, int[] labeledCounts) {
+        // [Critical] 종료 시에도 비관적 락으로 조회한 엔티티 사용 (데이터 정합성 보장)
         ReviewAnalysis analysis = product.getAnalysis();
         if (analysis == null) {
             analysis = new ReviewAnalysis(product);
             product.setAnalysis(analysis);
         }
 
-        if (result != null) {
-            analysis.updateResult(
-                    result.getPositiveCount(),
-                    result.getNegativeCount(),
-                    result.getPositivePercent(),
-                    result.getNegativePercent(),
-                    result.getTotalReviews()
-            );
-            log.info("✅ [Async] Analysis completed for ID: {} (Pos: {}%, Neg: {}%)", 
-                    productId, result.getPositivePercent(), result.getNegativePercent());
+        int storedTotal = analysis.getPositiveCount() + analysis.getNegativeCount();
+        int labeledTotal = labeledCounts[0] + labeledCounts[1];
+
+        if (storedTotal + newCounts[0] + newCounts[1] == labeledTotal) {
+            // 기존 집계가 DB 분류 결과와 일치 -> 신규 분류분만 합산
+            analysis.mergeResult(newCounts[0], newCounts[1]);
         } else {
-            // 리뷰가 없어서 분석 못한 경우도 COMPLETED로 처리하되 값은 0
-            analysis.setStatus(AnalysisStatus.COMPLETED);
-            analysis.setAnalyzedReviewCount(0);
-            log.info("✅ [Async] Analysis completed (Empty) for ID: {}", productId);
+            // 불일치 (분류 도입 이전 집계, 동시 삭제 등) -> 저장된 분류 기준으로 재구성
+            analysis.updateResult(0, 0, 0.0, 0.0, 0);
+            analysis.mergeResult(labeledCounts[0], labeledCounts[1]);
+            log.info("🔁 [Batch] Rebuilt sentiment counts for ID: {} (stored {}, labeled {})",
+                    product.getId(), storedTotal, labeledTotal);
         }
 
-        productRepository.saveAndFlush(product);
+        log.info("✅ [Batch] Analysis completed for ID: {} (+{} reviews, Pos: {}%, Neg: {}%)",
+                product.getId(), newCounts[0] + newCounts[1], analysis.getPositiveRatio(), analysis.getNegativeRatio());
     }
 
-    private void failSyncLogic(Long productId) {
-        try {
-            Product product = productRepository.findByIdWithLock(productId).orElse(null);
-            if (product != null) {
-                ReviewAnalysis analysis = product.getAnalysis();
-                if (analysis == null) {
-                    analysis = new ReviewAnalysis(product);
-                    product.setAnalysis(analysis);
-                }
-                
-                // 이미 완료된 상태라면 덮어쓰지 않음
-                if (analysis.getStatus() == AnalysisStatus.COMPLETED) return;
-                
-                analysis.setStatus(AnalysisStatus.FAILED);
-                productRepository.saveAndFlush(product);
-            }
-        } catch (Exception e) {
-            log.error("Failed to mark as FAILED: {}", e.getMessage());
+    private void failSyncLogic(Product product) {
+        ReviewAnalysis analysis = product.getAnalysis();
+        if (analysis == null) {
+            analysis = new ReviewAnalysis(product);
+            product.setAnalysis(analysis);
         }
+
+        // 이미 완료된 상태라면 덮어쓰지 않음
+        if (analysis.getStatus() == AnalysisStatus.COMPLETED) return;
+
+        analysis.setStatus(AnalysisStatus.FAILED);
     }
 }
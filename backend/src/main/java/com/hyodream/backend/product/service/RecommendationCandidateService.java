@@ -0,0 +1,96 @@
+package com.hyodream.backend.product.service;
+
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.dto.AiCandidateSnapshotDto;
+import com.hyodream.backend.product.dto.AiRecommendationRequestDto;
+import com.hyodream.backend.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [AI 추천] 후보 상품 스냅샷 관리
+ * - 후보군(인기 80 + 신규 20)은 유저와 무관하고 자주 바뀌지 않으므로 주기적으로만 재구성
+ * - 버전은 후보 목록 내용의 해시 -> 내용이 같으면 인스턴스가 여러 개여도 같은 버전
+ * - 추천 요청에는 버전만 실어 보내고, AI 서버 등록/재등록은 AiClientGateway가 담당
+ */
+@Slf4j
+@Component
+public class RecommendationCandidateService {
+
+    private final ProductRepository productRepository;
+    private final long refreshMillis;
+
+    private volatile AiCandidateSnapshotDto snapshot;
+    private volatile long builtAt = 0;
+
+    public RecommendationCandidateService(ProductRepository productRepository,
+            @Value("${ai.server.snapshot-refresh-ms:600000}") long refreshMillis) {
+        this.productRepository = productRepository;
+        this.refreshMillis = refreshMillis;
+    }
+
+    // 현재 후보 스냅샷 (만료 시 재구성)
+    public AiCandidateSnapshotDto getSnapshot() {
+        AiCandidateSnapshotDto current = snapshot;
+        if (current != null && System.currentTimeMillis() - builtAt < refreshMillis) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    private synchronized AiCandidateSnapshotDto rebuild() {
+        // 다른 스레드가 먼저 재구성했으면 그 결과 사용
+        if (snapshot != null && System.currentTimeMillis() - builtAt < refreshMillis) {
+            return snapshot;
+        }
+
+        // 후보군 생성 (인기 80 + 신규 20, 알레르기 필터링 없이 전달 -> AI가 판단)
+        Map<Long, Product> pool = new LinkedHashMap<>();
+        productRepository.findTop80ByOrderByRecentSalesDesc().forEach(p -> pool.put(p.getId(), p));
+        productRepository.findTop20ByOrderByCreatedAtDesc().forEach(p -> pool.putIfAbsent(p.getId(), p));
+
+        List<AiRecommendationRequestDto.CandidateProductDto> candidates = pool.values().stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .map(p -> new AiRecommendationRequestDto.CandidateProductDto(
+                        p.getId(),
+                        p.getName(),
+                        List.copyOf(p.getHealthBenefits()),
+                        List.copyOf(p.getAllergens()),
+                        p.getCategory1()
+                ))
+                .toList();
+
+        String version = computeVersion(candidates);
+        if (snapshot == null || !version.equals(snapshot.getVersion())) {
+            log.info("📦 [AI 추천] 후보 스냅샷 갱신: {} ({}개)", version, candidates.size());
+        }
+
+        snapshot = new AiCandidateSnapshotDto(version, candidates);
+        builtAt = System.currentTimeMillis();
+        return snapshot;
+    }
+
+    private static String computeVersion(List<AiRecommendationRequestDto.CandidateProductDto> candidates) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (AiRecommendationRequestDto.CandidateProductDto c : candidates) {
+                String line = c.getId() + "|" + c.getName() + "|" + c.getBenefits() + "|"
+                        + c.getAllergens() + "|" + c.getCategory() + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.hyodream.backend.product.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * [Request Coalescing] 리뷰 AI 분석 요청 스케줄러
+ * - 상세 조회/리뷰 작성 시 상품 ID만 큐에 적재 (같은 상품은 대기 중 1번만 유지)
+ * - 주기적으로 큐를 비우며 최대 batch-size 단위로 묶어 AI 서버에 배치 요청
+ * - 동시에 실행되는 배치 수는 Semaphore로 제한 (대량 Import 직후에도 AI 서버 보호)
+ */
+@Slf4j
+@Component
+public class ReviewAnalysisScheduler {
+
+    private final ProductSyncService productSyncService;
+    private final TaskExecutor taskExecutor;
+    private final int maxBatchSize;
+    private final Semaphore inFlight;
+
+    private final Queue<Long> queue = new ConcurrentLinkedQueue<>();
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public ReviewAnalysisScheduler(ProductSyncService productSyncService,
+            @Qualifier("aiAnalysisExecutor") TaskExecutor taskExecutor,
+            @Value("${ai.review.batch.max-size:50}") int maxBatchSize,
+            @Value("${ai.review.batch.max-concurrency:2}") int maxConcurrency,
+            MeterRegistry meterRegistry) {
+        this.productSyncService = productSyncService;
+        this.taskExecutor = taskExecutor;
+        this.maxBatchSize = maxBatchSize;
+        this.inFlight = new Semaphore(maxConcurrency);
+
+        // 배치로 묶이기 전 대기 중인 상품 수 (실행기 큐에 들어가기 전 단계)
+        Gauge.builder("review.analysis.pending", pending, Set::size).register(meterRegistry);
+        // 실행 중인 분석 배치 수 (max-concurrency에 붙어 있으면 AI 서버 처리량이 병목)
+        Gauge.builder("review.analysis.inflight", inFlight, permits -> maxConcurrency - permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 분석 요청 적재 (중복 제거)
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 적재 (아직 커밋되지 않은 리뷰를 놓치지 않도록)
+     */
+    public void enqueue(Long productId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(productId);
+                }
+            });
+            return;
+        }
+        offer(productId);
+    }
+
+    public int getQueuedCount() {
+        return pending.size();
+    }
+
+    private void offer(Long productId) {
+        if (pending.add(productId)) {
+            queue.offer(productId);
+        }
+    }
+
+    // 1초마다: 대기 중인 상품을 배치로 묶어 실행 (동시 실행 한도 내에서만)
+    @Scheduled(fixedDelayString = "${ai.review.batch.flush-interval-ms:1000}")
+    public void drain() {
+        while (!queue.isEmpty() && inFlight.tryAcquire()) {
+            List<Long> batch = new ArrayList<>(maxBatchSize);
+            Long id;
+            while (batch.size() < maxBatchSize && (id = queue.poll()) != null) {
+                pending.remove(id);
+                batch.add(id);
+            }
+            if (batch.isEmpty()) {
+                inFlight.release();
+                return;
+            }
+
+            try {
+                taskExecutor.execute(() -> {
+                    try {
+                        productSyncService.analyzeProductReviewsBatch(batch);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (Exception e) {
+                // 실행기 포화 시 다음 주기에 다시 시도
+                inFlight.release();
+                batch.forEach(this::offer);
+                log.warn("⚠️ Review analysis batch rejected, requeued {} products: {}", batch.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+}
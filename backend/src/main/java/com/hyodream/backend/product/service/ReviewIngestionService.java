@@ -0,0 +1,275 @@
+package com.hyodream.backend.product.service;
+
+import com.hyodream.backend.global.client.AiClientGateway;
+import com.hyodream.backend.global.client.crawler.CrawlerClient;
+import com.hyodream.backend.global.client.crawler.dto.CrawlerResponseDto;
+import com.hyodream.backend.product.domain.ReviewRating;
+import com.hyodream.backend.product.domain.ReviewSource;
+import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.product.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * [외부 리뷰 수집] 크롤러 기반 리뷰 Ingestion 파이프라인
+ * 1. 스케줄러가 오래 수집되지 않은 상품을 골라 crawlExecutor에 크롤링 작업 등록
+ * 2. 크롤러 응답(네이버 리뷰 원본)을 batch-size 단위로 잘라 처리
+ *    - 외부 리뷰 ID 중복은 IN 쿼리 1회로 확인 (행마다 exists 조회 X)
+ *    - 신규 리뷰/이미지는 JDBC Batch Insert
+ * 3. 상품 리뷰 수/평균 평점은 DB 집계 UPDATE 1회로 갱신, AI 분석은 상품당 1번만 요청
+ */
+@Slf4j
+@Service
+public class ReviewIngestionService {
+
+    private static final String INSERT_REVIEW_SQL = """
+            INSERT INTO reviews (product_id, source, external_review_id, author_name, product_option,
+                                 content, score, rating, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_REVIEW_IMAGE_SQL =
+            "INSERT INTO review_images (review_id, image_url) VALUES (?, ?)";
+
+    private final ProductRepository productRepository;
+    private final ReviewRepository reviewRepository;
+    private final AiClientGateway aiClientGateway;
+    private final ReviewAnalysisScheduler reviewAnalysisScheduler;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+    private final TaskExecutor crawlExecutor;
+
+    private final int productsPerRun;
+    private final int maxPages;
+    private final int batchSize;
+    private final long recrawlAfterHours;
+    private final long retryAfterFailureHours;
+
+    // 크롤링 진행 중인 상품 (스케줄 주기가 겹쳐도 중복 등록 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ReviewIngestionService(ProductRepository productRepository,
+            ReviewRepository reviewRepository,
+            AiClientGateway aiClientGateway,
+            ReviewAnalysisScheduler reviewAnalysisScheduler,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("crawlExecutor") TaskExecutor crawlExecutor,
+            @Value("${review.ingestion.products-per-run:10}") int productsPerRun,
+            @Value("${review.ingestion.max-pages:5}") int maxPages,
+            @Value("${review.ingestion.batch-size:200}") int batchSize,
+            @Value("${review.ingestion.recrawl-after-hours:72}") long recrawlAfterHours,
+            @Value("${review.ingestion.retry-after-failure-hours:6}") long retryAfterFailureHours) {
+        this.productRepository = productRepository;
+        this.reviewRepository = reviewRepository;
+        this.aiClientGateway = aiClientGateway;
+        this.reviewAnalysisScheduler = reviewAnalysisScheduler;
+        this.jdbcTemplate = jdbcTemplate;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.crawlExecutor = crawlExecutor;
+        this.productsPerRun = productsPerRun;
+        this.maxPages = maxPages;
+        this.batchSize = batchSize;
+        this.recrawlAfterHours = recrawlAfterHours;
+        this.retryAfterFailureHours = Math.min(retryAfterFailureHours, recrawlAfterHours);
+    }
+
+    // 10분마다: 수집 대상 상품을 골라 크롤링 작업 등록
+    @Scheduled(fixedDelayString = "${review.ingestion.interval-ms:600000}",
+            initialDelayString = "${review.ingestion.initial-delay-ms:60000}")
+    public void scheduleCrawls() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(recrawlAfterHours);
+        List<Object[]> targets = productRepository.findReviewCrawlTargets(threshold, PageRequest.of(0, productsPerRun));
+
+        int submitted = 0;
+        for (Object[] row : targets) {
+            Long productId = (Long) row[0];
+            String url = (String) row[1];
+            if (!inFlight.add(productId))
+                continue;
+            try {
+                crawlExecutor.execute(() -> {
+                    try {
+                        ingest(productId, url);
+                    } finally {
+                        inFlight.remove(productId);
+                    }
+                });
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(productId);
+                log.warn("⚠️ [리뷰 수집] 크롤링 큐 포화, 다음 주기에 재시도 (상품 ID: {})", productId);
+                break;
+            }
+        }
+        if (submitted > 0) {
+            log.info("🕷️ [리뷰 수집] {}개 상품 크롤링 등록", submitted);
+        }
+    }
+
+    /**
+     * 상품 1개의 외부 리뷰 수집
+     * @return 새로 저장된 리뷰 수
+     */
+    public int ingest(Long productId, String url) {
+        CrawlerResponseDto response;
+        try {
+            response = aiClientGateway.crawlProduct(new CrawlerClient.CrawlRequest(url, maxPages));
+        } catch (Exception e) {
+            // 회로 열림(Fallback) 포함
+            log.error("⚠️ [리뷰 수집] 크롤링 실패 (상품 ID: {}): {}", productId, e.getMessage());
+            markCrawlFailed(productId);
+            return 0;
+        }
+        if (response.getError() != null) {
+            log.warn("⚠️ [리뷰 수집] 크롤러 오류 (상품 ID: {}): {}", productId, response.getError());
+            markCrawlFailed(productId);
+            return 0;
+        }
+
+        int inserted = 0;
+        if (response.getReviews() != null) {
+            List<Map<String, Object>> reviews = response.getReviews();
+            for (int from = 0; from < reviews.size(); from += batchSize) {
+                List<Map<String, Object>> chunk = reviews.subList(from, Math.min(from + batchSize, reviews.size()));
+                Integer saved = txTemplate.execute(status -> insertChunk(productId, chunk));
+                inserted += (saved != null) ? saved : 0;
+            }
+        }
+
+        // 리뷰 통계는 DB 집계 1회로 갱신 + 수집 시각 기록
+        txTemplate.execute(status -> productRepository.refreshReviewStatsNative(productId, LocalDateTime.now()));
+
+        if (inserted > 0) {
+            // 배치 단위로 1번만 분석 요청 (미분류 리뷰만 증분 분석됨)
+            reviewAnalysisScheduler.enqueue(productId);
+            log.info("✅ [리뷰 수집] 상품 ID {}: 신규 리뷰 {}건 저장", productId, inserted);
+        }
+        return inserted;
+    }
+
+    // --- Private Methods ---
+
+    // 실패해도 수집 시각을 기록 -> 실패 상품이 매 주기 맨 앞에 다시 선택되어 다른 상품을 막지 않도록
+    // (수집 시각을 앞당겨 기록해 recrawl-after-hours가 아닌 retry-after-failure-hours 뒤에 재시도)
+    private void markCrawlFailed(Long productId) {
+        LocalDateTime crawledAt = LocalDateTime.now().minusHours(recrawlAfterHours - retryAfterFailureHours);
+        try {
+            txTemplate.execute(status -> productRepository.markReviewCrawledNative(productId, crawledAt));
+        } catch (Exception e) {
+            log.error("⚠️ [리뷰 수집] 수집 시각 기록 실패 (상품 ID: {}): {}", productId, e.getMessage());
+        }
+    }
+
+    private int insertChunk(Long productId, List<Map<String, Object>> rawReviews) {
+        // 1. 응답 안의 중복 제거 (외부 ID 기준)
+        Map<String, Map<String, Object>> byExternalId = new LinkedHashMap<>();
+        for (Map<String, Object> raw : rawReviews) {
+            Object id = raw.get("id");
+            if (id != null) {
+                byExternalId.putIfAbsent(String.valueOf(id), raw);
+            }
+        }
+        if (byExternalId.isEmpty())
+            return 0;
+
+        // 2. 이미 저장된 리뷰 제외 (IN 쿼리 1회)
+        Set<String> existing = new HashSet<>(reviewRepository.findExistingExternalReviewIds(byExternalId.keySet()));
+        List<String> newIds = byExternalId.keySet().stream().filter(id -> !existing.contains(id)).toList();
+        if (newIds.isEmpty())
+            return 0;
+
+        // 3. 리뷰 Batch Insert
+        jdbcTemplate.batchUpdate(INSERT_REVIEW_SQL, newIds, newIds.size(), (ps, externalId) -> {
+            Map<String, Object> raw = byExternalId.get(externalId);
+            int score = toScore(raw.get("reviewScore"));
+            ps.setLong(1, productId);
+            ps.setString(2, ReviewSource.NAVER.name());
+            ps.setString(3, externalId);
+            ps.setString(4, toStringOrNull(raw.get("writerMemberId")));
+            ps.setString(5, toStringOrNull(raw.get("productOptionContent")));
+            ps.setString(6, toStringOrNull(raw.get("reviewContent")));
+            ps.setInt(7, score);
+            ps.setString(8, ReviewRating.fromScore(score).name());
+            ps.setTimestamp(9, Timestamp.valueOf(toCreatedAt(raw.get("createDate"))));
+        });
+
+        // 4. 이미지 Batch Insert (생성된 PK는 외부 ID로 1회 조회)
+        List<Object[]> imageRows = new ArrayList<>();
+        Map<String, List<String>> imagesByExternalId = new HashMap<>();
+        for (String externalId : newIds) {
+            List<String> images = toImageUrls(byExternalId.get(externalId).get("reviewAttaches"));
+            if (!images.isEmpty()) {
+                imagesByExternalId.put(externalId, images);
+            }
+        }
+        if (!imagesByExternalId.isEmpty()) {
+            for (Object[] row : reviewRepository.findIdsByExternalReviewIds(imagesByExternalId.keySet())) {
+                for (String imageUrl : imagesByExternalId.get((String) row[1])) {
+                    imageRows.add(new Object[] { row[0], imageUrl });
+                }
+            }
+            jdbcTemplate.batchUpdate(INSERT_REVIEW_IMAGE_SQL, imageRows);
+        }
+
+        return newIds.size();
+    }
+
+    private static int toScore(Object value) {
+        if (value instanceof Number number) {
+            return Math.max(1, Math.min(5, number.intValue()));
+        }
+        return 5;
+    }
+
+    private static String toStringOrNull(Object value) {
+        return (value != null) ? String.valueOf(value) : null;
+    }
+
+    // 네이버 createDate 예: "2024-05-01T12:34:56.000+00:00"
+    private static LocalDateTime toCreatedAt(Object value) {
+        if (value != null) {
+            try {
+                return OffsetDateTime.parse(String.valueOf(value))
+                        .atZoneSameInstant(ZoneId.systemDefault())
+                        .toLocalDateTime();
+            } catch (Exception ignored) {
+                // 형식이 다르면 수집 시각으로 대체
+            }
+        }
+        return LocalDateTime.now();
+    }
+
+    private static List<String> toImageUrls(Object attaches) {
+        List<String> urls = new ArrayList<>();
+        if (attaches instanceof List<?> list) {
+            for (Object item : list) {
+                if (item instanceof Map<?, ?> attach && attach.get("attachUrl") != null) {
+                    urls.add(String.valueOf(attach.get("attachUrl")));
+                }
+            }
+        }
+        return urls;
+    }
+}
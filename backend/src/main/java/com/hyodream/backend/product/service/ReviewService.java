@@ -1,5 +1,7 @@
 package com.hyodream.backend.product.service;
 
+import com.hyodream.backend.global.dto.CursorPageResponseDto;
+import com.hyodream.backend.global.util.KeysetCursor;
 import com.hyodream.backend.order.repository.OrderItemRepository;
 import com.hyodream.backend.product.domain.*;
 import com.hyodream.backend.product.dto.ReviewRequestDto;
@@ -10,11 +12,17 @@ import com.hyodream.backend.user.domain.User;
 import com.hyodream.backend.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -25,7 +33,10 @@ public class ReviewService {
     private final OrderItemRepository orderItemRepository;
     private final UserService userService;
     private final ProductRepository productRepository;
-    private final ProductSyncService productSyncService;
+    private final ReviewAnalysisScheduler reviewAnalysisScheduler;
+    private final ProductLookupService productLookupService;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     // 1. [내부] 리뷰 작성 (구매 인증 필요)
     @Transactional
@@ -68,20 +79,52 @@ public class ReviewService {
         updateProductStatsAndTriggerAnalysis(product, 1, newScore);
     }
 
-    // 상품별 리뷰 조회
+    // 상품별 리뷰 조회 (전체)
     @Transactional(readOnly = true)
     public List<ReviewResponseDto> getReviewsByProductId(Long productId) {
-        List<Review> reviews = reviewRepository.findByProductId(productId);
+        List<ReviewResponseDto> dtos = reviewRepository.findSliceByProductId(
+                productId, null, null, null, null, Pageable.unpaged());
+        fillPageData(productId, dtos);
+        return dtos;
+    }
 
-        String productName = productRepository.findById(productId)
-                .map(Product::getName)
-                .orElse("알 수 없는 상품");
+    // 상품별 리뷰 페이지 조회 (OFFSET 방식, 총 개수 포함)
+    @Transactional(readOnly = true)
+    public Page<ReviewResponseDto> getReviewPage(Long productId, int page, int size, Integer score, ReviewSource source) {
+        // size 1~MAX_PAGE_SIZE, page 0 이상으로 보정 (음수면 PageRequest.of가 예외)
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        Page<ReviewResponseDto> result = reviewRepository.findPageByProductId(productId, score, source, pageable);
+        fillPageData(productId, result.getContent());
+        return result;
+    }
 
-        List<ReviewResponseDto> dtos = new ArrayList<>();
-        for (Review review : reviews) {
-            dtos.add(new ReviewResponseDto(review, productName));
+    // 상품별 리뷰 커서 조회 (Keyset 방식, 깊은 페이지도 일정한 비용)
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<ReviewResponseDto> getReviewSlice(Long productId, String cursor, int size,
+            Integer score, ReviewSource source) {
+        // size 0 이하면 hasNext 계산과 마지막 행 조회가 깨지므로 1 이상으로 보정
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor keyset = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<ReviewResponseDto> rows = new ArrayList<>(reviewRepository.findSliceByProductId(
+                productId, score, source,
+                keyset != null ? keyset.timestamp() : null,
+                keyset != null ? keyset.id() : null,
+                PageRequest.of(0, pageSize + 1)));
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
         }
-        return dtos;
+        fillPageData(productId, rows);
+
+        String nextCursor = null;
+        if (hasNext) {
+            ReviewResponseDto last = rows.get(rows.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponseDto<>(rows, nextCursor, hasNext);
     }
 
     // 리뷰 수정 (내부 회원만)
@@ -97,12 +140,24 @@ public class ReviewService {
         }
 
         int oldScore = review.getScore();
+        boolean contentChanged = !Objects.equals(review.getContent(), dto.getContent());
         review.setContent(dto.getContent());
         
         if (dto.getScore() > 0) {
             review.setScore(dto.getScore());
         }
         
+        // 본문이 바뀌었다면 기존 감성 분류를 집계에서 빼고 재분류 대상으로 되돌림
+        if (contentChanged && review.getSentiment() != null) {
+            productRepository.findByIdWithLock(review.getProductId()).ifPresent(product -> {
+                if (product.getAnalysis() != null) {
+                    product.getAnalysis().removeSentiment(review.getSentiment());
+                }
+            });
+            review.setSentiment(null);
+            reviewAnalysisScheduler.enqueue(review.getProductId());
+        }
+
         // 점수가 바뀌었다면 통계 재계산 필요
         if (oldScore != review.getScore()) {
             Product product = productRepository.findById(review.getProductId()).orElse(null);
@@ -126,8 +181,13 @@ public class ReviewService {
 
         reviewRepository.delete(review);
         
-        Product product = productRepository.findById(review.getProductId()).orElse(null);
+        // 분석 결과 갱신과 겹치지 않도록 비관적 락으로 조회
+        Product product = productRepository.findByIdWithLock(review.getProductId()).orElse(null);
         if (product != null) {
+             // 분류된 리뷰였다면 감성 집계에서도 제외
+             if (review.getSentiment() != null && product.getAnalysis() != null) {
+                 product.getAnalysis().removeSentiment(review.getSentiment());
+             }
              // 통계 업데이트 (감소)
              updateProductStatsAndTriggerAnalysis(product, -1, -review.getScore());
              // 혹은 정확성을 위해 전체 재계산
@@ -141,19 +201,50 @@ public class ReviewService {
         User user = userService.getCurrentUser();
         List<Review> reviews = reviewRepository.findByUserId(user.getId());
 
+        // 상품명 일괄 조회 (리뷰마다 상품 엔티티를 조회하지 않음)
+        Map<Long, String> productNames = productLookupService.getNames(
+                reviews.stream().map(Review::getProductId).toList());
+
         List<ReviewResponseDto> dtos = new ArrayList<>();
         for (Review review : reviews) {
-            String productName = productRepository.findById(review.getProductId())
-                    .map(Product::getName)
-                    .orElse("삭제된 상품");
-
+            String productName = productNames.getOrDefault(review.getProductId(), "삭제된 상품");
             dtos.add(new ReviewResponseDto(review, productName));
         }
+        // 첨부 이미지 일괄 조회 (리뷰마다 images 지연 로딩 방지)
+        fillImages(dtos);
         return dtos;
     }
 
     // --- Private Methods ---
 
+    // 페이지 단위로 상품명/이미지 채우기 (상품 1회 + 이미지 1회 조회)
+    private void fillPageData(Long productId, List<ReviewResponseDto> dtos) {
+        if (dtos.isEmpty())
+            return;
+
+        String productName = Objects.requireNonNullElse(productLookupService.getName(productId), "알 수 없는 상품");
+        for (ReviewResponseDto dto : dtos) {
+            dto.setProductName(productName);
+        }
+        fillImages(dtos);
+    }
+
+    // 리뷰 목록의 첨부 이미지를 쿼리 1회로 채우기
+    private void fillImages(List<ReviewResponseDto> dtos) {
+        if (dtos.isEmpty())
+            return;
+
+        Map<Long, List<String>> imagesByReview = new HashMap<>();
+        List<Long> reviewIds = dtos.stream().map(ReviewResponseDto::getId).toList();
+        for (Object[] row : reviewRepository.findImagesByReviewIds(reviewIds)) {
+            imagesByReview.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        for (ReviewResponseDto dto : dtos) {
+            dto.setImages(imagesByReview.getOrDefault(dto.getId(), new ArrayList<>()));
+        }
+    }
+
     private void updateProductStatsAndTriggerAnalysis(Product product, int countDelta, int scoreDelta) {
         long currentCount = product.getReviewCount() + countDelta;
         // countDelta가 양수일 때만 점수 합산, 삭제 시는 재계산 권장되지만 여기선 약식 구현 가능
@@ -163,12 +254,12 @@ public class ReviewService {
         product.setReviewCount(Math.max(0, currentCount));
         recalculateProductStats(product); // 평점 및 카운트 정확도 보정
 
-        // AI 재분석 트리거 (신규 리뷰가 5개 이상 쌓였을 때)
+        // AI 재분석 트리거 (신규 리뷰가 5개 이상 쌓였을 때, 분석은 미분류 리뷰만 대상으로 증분 수행)
         ReviewAnalysis analysis = product.getAnalysis();
         int analyzedCount = (analysis != null) ? analysis.getAnalyzedReviewCount() : 0;
         
         if (product.getReviewCount() - analyzedCount >= 5 || analysis == null) {
-            productSyncService.analyzeProductReviews(product.getId());
+            reviewAnalysisScheduler.enqueue(product.getId());
         }
     }
     
@@ -0,0 +1,207 @@
+package com.hyodream.backend.product.service;
+
+import com.hyodream.backend.global.domain.SeedState;
+import com.hyodream.backend.global.repository.SeedStateRepository;
+import com.hyodream.backend.product.repository.CategoryDailySalesRepository;
+import com.hyodream.backend.product.repository.DiseaseProductSalesRepository;
+import com.hyodream.backend.product.repository.ProductCoPurchaseRepository;
+import com.hyodream.backend.product.repository.ProductDailySalesRepository;
+import com.hyodream.backend.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+/**
+ * [랭킹 Rollup] 주문 기반 랭킹 집계 테이블 관리
+ * - product_co_purchases: 함께 구매된 상품 쌍 (연관 상품 추천)
+ * - disease_product_sales: 지병별 상품 구매 횟수 (같은 지병 환우들의 선택)
+ * - OrderOutboxRelay가 주문/취소 이벤트 배치마다 호출 (릴레이 트랜잭션 안에서 UPSERT)
+ * - 서버 시작 시 테이블별로 1회만 주문 이력으로 채움 (일자별 판매량 Rollup 포함)
+ *   - "비어 있음"이 아니라 seed_state의 완료 표시 행으로 판단 (릴레이가 먼저 UPSERT해도 건너뛰지 않음)
+ *   - 초기 적재가 끝나기 전에는 OrderOutboxRelay가 대기 (취소 이벤트가 이력 집계와 이중 반영되지 않도록)
+ */
+@Slf4j
+@Service
+public class SalesRollupService {
+
+    // 주문 1건의 상품 목록 (sign: 주문 +1, 취소 -1)
+    // diseases: 주문 당시 주문자 지병명 (null이면 현재 지병으로 대체 - 지병 정보가 없던 이전 이벤트)
+    public record OrderLines(Long userId, Collection<Long> productIds, Collection<String> diseases, int sign) {
+    }
+
+    private static final String UPSERT_CO_PURCHASE_SQL = """
+            INSERT INTO product_co_purchases (product_id, other_product_id, order_count)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE order_count = GREATEST(order_count + VALUES(order_count), 0)
+            """;
+
+    private static final String UPSERT_DISEASE_SALES_SQL = """
+            INSERT INTO disease_product_sales (disease_name, product_id, order_count)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE order_count = GREATEST(order_count + VALUES(order_count), 0)
+            """;
+
+    private record PairKey(Object left, Long productId) {
+    }
+
+    // 초기 적재 완료 표시 (seed_state.name), 적재 규칙이 바뀌면 BACKFILL_VERSION을 올림
+    private static final String BACKFILL_MARKER_PREFIX = "rollup-backfill:";
+    private static final String BACKFILL_VERSION = "rollup-backfill:v1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final ProductDailySalesRepository productDailySalesRepository;
+    private final CategoryDailySalesRepository categoryDailySalesRepository;
+    private final ProductCoPurchaseRepository productCoPurchaseRepository;
+    private final DiseaseProductSalesRepository diseaseProductSalesRepository;
+    private final SeedStateRepository seedStateRepository;
+    private final TransactionTemplate txTemplate;
+    private final int backfillDays;
+    private final int recentSalesDays;
+
+    private volatile boolean backfillCompleted = false;
+
+    public SalesRollupService(JdbcTemplate jdbcTemplate,
+            ProductRepository productRepository,
+            ProductDailySalesRepository productDailySalesRepository,
+            CategoryDailySalesRepository categoryDailySalesRepository,
+            ProductCoPurchaseRepository productCoPurchaseRepository,
+            DiseaseProductSalesRepository diseaseProductSalesRepository,
+            SeedStateRepository seedStateRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${sales.rollup.backfill-days:365}") int backfillDays,
+            @Value("${sales.recent-days:30}") int recentSalesDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.productDailySalesRepository = productDailySalesRepository;
+        this.categoryDailySalesRepository = categoryDailySalesRepository;
+        this.productCoPurchaseRepository = productCoPurchaseRepository;
+        this.diseaseProductSalesRepository = diseaseProductSalesRepository;
+        this.seedStateRepository = seedStateRepository;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.backfillDays = backfillDays;
+        this.recentSalesDays = recentSalesDays;
+    }
+
+    // 주문/취소 배치 반영 (호출 측 트랜잭션에 참여)
+    public void applyOrders(List<OrderLines> orders) {
+        if (orders.isEmpty())
+            return;
+
+        // 주문 당시 지병이 없는 (이전 형식) 주문자만 현재 지병 일괄 조회 (1회)
+        Map<Long, List<String>> diseasesByUser = new HashMap<>();
+        List<Long> userIds = orders.stream()
+                .filter(order -> order.diseases() == null)
+                .map(OrderLines::userId)
+                .distinct()
+                .toList();
+        if (!userIds.isEmpty()) {
+            for (Object[] row : diseaseProductSalesRepository.findDiseaseNamesByUserIds(userIds)) {
+                diseasesByUser.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        Map<PairKey, Integer> coPurchases = new HashMap<>();
+        Map<PairKey, Integer> diseaseSales = new HashMap<>();
+        for (OrderLines order : orders) {
+            Set<Long> productIds = Set.copyOf(order.productIds());
+            for (Long productId : productIds) {
+                for (Long otherId : productIds) {
+                    if (!productId.equals(otherId)) {
+                        coPurchases.merge(new PairKey(productId, otherId), order.sign(), Integer::sum);
+                    }
+                }
+                Collection<String> diseases = (order.diseases() != null)
+                        ? order.diseases()
+                        : diseasesByUser.getOrDefault(order.userId(), List.of());
+                for (String disease : diseases) {
+                    diseaseSales.merge(new PairKey(disease, productId), order.sign(), Integer::sum);
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_CO_PURCHASE_SQL, toRows(coPurchases));
+        jdbcTemplate.batchUpdate(UPSERT_DISEASE_SALES_SQL, toRows(diseaseSales));
+    }
+
+    // 초기 적재가 끝났는지 (OrderOutboxRelay는 그 전까지 대기)
+    public boolean isBackfillCompleted() {
+        return backfillCompleted;
+    }
+
+    // 서버 시작 시 테이블별 1회 주문 이력 적재
+    // 오늘 주문은 Outbox 릴레이가 반영할 것이므로 어제까지만 채움 (중복 집계 방지)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        LocalDateTime from = today.minusDays(backfillDays);
+
+        backfill("product_daily_sales", productDailySalesRepository, () -> {
+            int rows = productDailySalesRepository.rebuildBetween(from, today);
+            productRepository.refreshRecentSalesNative(LocalDate.now().minusDays(recentSalesDays));
+            return rows;
+        });
+        backfill("category_daily_sales", categoryDailySalesRepository,
+                () -> categoryDailySalesRepository.rebuildBetween(from, today));
+        backfill("product_co_purchases", productCoPurchaseRepository,
+                () -> productCoPurchaseRepository.rebuildBefore(today));
+        backfill("disease_product_sales", diseaseProductSalesRepository,
+                () -> diseaseProductSalesRepository.rebuildBefore(today));
+        backfillCompleted = true;
+    }
+
+    private static List<Object[]> toRows(Map<PairKey, Integer> deltas) {
+        List<Object[]> rows = new ArrayList<>();
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                rows.add(new Object[] { key.left(), key.productId(), delta });
+            }
+        });
+        return rows;
+    }
+
+    // 완료 표시 행과 적재를 한 트랜잭션으로 (표시 행이 있으면 적재하지 않음)
+    private void backfill(String table, CrudRepository<?, ?> repository, IntSupplier rebuild) {
+        String marker = BACKFILL_MARKER_PREFIX + table;
+        if (seedStateRepository.existsById(marker))
+            return;
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            txTemplate.executeWithoutResult(status -> {
+                // 표시 행을 먼저 INSERT: 동시에 기동한 다른 인스턴스는 여기서 대기 후 중복 키로 실패 -> 이중 적재 없음
+                SeedState state = seedStateRepository.saveAndFlush(
+                        SeedState.create(marker, BACKFILL_VERSION, "rollup-backfill", 0));
+                // 완료 표시 도입 전 버전에서 이미 채운 테이블은 표시만 남김
+                int rows = (repository.count() == 0) ? rebuild.getAsInt() : 0;
+                state.setDurationMs(System.currentTimeMillis() - startedAt);
+                logBackfill(table, rows);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.info("ℹ️ [Rollup] {} 초기 적재는 다른 인스턴스가 이미 수행했습니다.", table);
+        }
+    }
+
+    private static void logBackfill(String table, int rows) {
+        if (rows > 0) {
+            log.info("✅ [Rollup] {} 초기 적재 완료 ({}행)", table, rows);
+        }
+    }
+}
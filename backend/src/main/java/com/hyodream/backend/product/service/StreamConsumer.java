@@ -1,24 +1,63 @@
 package com.hyodream.backend.product.service;
 
 import com.hyodream.backend.product.domain.EventType;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.stream.MapRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * [관심사 이벤트 소비] product-view-stream -> 시간 감쇠 관심사 점수
+ *
+ * [Metrics]
+ * - interest.events.consumed{outcome=scored|no_category|duplicate}: 처리량
+ * - interest.events.lag: XADD 시각(Record ID) ~ 소비 시각 (발행 버퍼 + 스트림 대기 지연)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class StreamConsumer implements StreamListener<String, MapRecord<String, String, String>> {
 
+    private final InterestScoreEngine interestScoreEngine;
+    private final UserInterestNearCache userInterestNearCache;
     private final StringRedisTemplate redisTemplate;
 
+    private final Counter scoredCounter;
+    private final Counter noCategoryCounter;
+    private final Counter duplicateCounter;
+    private final Timer lagTimer;
+
+    public StreamConsumer(InterestScoreEngine interestScoreEngine,
+            UserInterestNearCache userInterestNearCache,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry) {
+        this.interestScoreEngine = interestScoreEngine;
+        this.userInterestNearCache = userInterestNearCache;
+        this.redisTemplate = redisTemplate;
+        this.scoredCounter = consumedCounter(meterRegistry, "scored");
+        this.noCategoryCounter = consumedCounter(meterRegistry, "no_category");
+        this.duplicateCounter = consumedCounter(meterRegistry, "duplicate");
+        this.lagTimer = Timer.builder("interest.events.lag")
+                .description("Time from XADD to consumption")
+                .register(meterRegistry);
+    }
+
+    // Outbox 이벤트 중복 제거 키 (At-least-once 전달이므로 같은 eventId가 다시 올 수 있음)
+    private static final String DEDUPE_KEY_PREFIX = "stream:dedupe:";
+    private static final Duration DEDUPE_TTL = Duration.ofDays(1);
+
     // 스트림에서 메시지가 오면 실행되는 함수
     @Override
     public void onMessage(MapRecord<String, String, String> message) {
+        recordLag(message);
         Map<String, String> event = message.getValue();
         String userId = event.get("userId");
         String category = event.get("category"); // 예: "관절염"
@@ -26,7 +65,17 @@ public class StreamConsumer implements StreamListener<String, MapRecord<String,
 
         // 카테고리가 없거나 비어있으면 -> 점수 집계 안 하고 종료 (방어 로직)
         if (category == null || category.trim().isEmpty() || "null".equals(category)) {
-            System.out.println("Event Ignored: No Category (UserId: " + userId + ")");
+            log.debug("Event Ignored: No Category (UserId: {})", userId);
+            noCategoryCounter.increment();
+            return;
+        }
+
+        // 서버 발행 이벤트(eventId 있음)는 처음 본 경우에만 집계
+        String eventId = event.get("eventId");
+        if (eventId != null
+                && !Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(DEDUPE_KEY_PREFIX + eventId, "1", DEDUPE_TTL))) {
+            log.debug("Event Ignored: Duplicate (EventId: {})", eventId);
+            duplicateCounter.increment();
             return;
         }
 
@@ -37,16 +86,38 @@ public class StreamConsumer implements StreamListener<String, MapRecord<String,
             EventType type = EventType.valueOf(typeStr);
             score = type.getScore();
         } catch (Exception e) {
-            System.err.println("알 수 없는 이벤트 타입: " + typeStr);
+            log.warn("알 수 없는 이벤트 타입: {}", typeStr);
         }
 
-        System.out.println("Event Consumed: " + userId + " / " + category + " / +" + score + "점");
+        // 이벤트마다 호출되는 경로이므로 콘솔 출력 대신 debug 로그
+        log.debug("Event Consumed: {} / {} / +{}점", userId, category, score);
 
-        // Redis ZSet에 점수 누적
-        String key = "interest:user:" + userId;
-        redisTemplate.opsForZSet().incrementScore(key, category, score);
+        // 이벤트 발생 시각 기준으로 시간 감쇠 점수 누적 (TTL 36시간은 엔진에서 갱신)
+        long eventTime = System.currentTimeMillis();
+        try {
+            if (event.get("timestamp") != null) {
+                eventTime = Long.parseLong(event.get("timestamp"));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 이벤트 시각: {}", event.get("timestamp"));
+        }
+        interestScoreEngine.record(userId, category, score, eventTime);
+        // 점수가 바뀌었으므로 로컬 캐시 무효화 (다음 조회 시 Redis에서 재적재)
+        userInterestNearCache.invalidate(userId);
+        scoredCounter.increment();
+    }
+
+    // Record ID 앞부분 = XADD 시각 (ms, Redis 서버 시계 기준)
+    private void recordLag(MapRecord<String, String, String> message) {
+        RecordId id = message.getId();
+        if (id == null || id.shouldBeAutoGenerated())
+            return;
+        lagTimer.record(Math.max(0, System.currentTimeMillis() - id.getTimestamp()), TimeUnit.MILLISECONDS);
+    }
 
-        // TTL 설정: 36시간 (어르신 맞춤형)
-        redisTemplate.expire(key, Duration.ofHours(36));
+    private static Counter consumedCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("interest.events.consumed")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 }
\ No newline at end of file
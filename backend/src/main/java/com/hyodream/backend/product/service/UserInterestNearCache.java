@@ -0,0 +1,99 @@
+package com.hyodream.backend.product.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [Near-Cache] 유저별 상위 관심사 로컬 캐시
+ * - 상품 목록(page 0) / 추천 API가 요청마다 Redis ZSET을 조회하지 않도록 짧은 TTL로 보관
+ * - StreamConsumer가 점수를 갱신하면 해당 유저 항목을 무효화 (모든 인스턴스가 같은 스트림을 구독하므로 인스턴스별로 무효화됨)
+ */
+@Slf4j
+@Component
+public class UserInterestNearCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final int topN;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<String, CachedInterests> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private record CachedInterests(List<String> interests, long expiresAt) {
+    }
+
+    public UserInterestNearCache(StringRedisTemplate redisTemplate,
+            @Value("${interest.near-cache.top-n:3}") int topN,
+            @Value("${interest.near-cache.ttl-ms:5000}") long ttlMillis,
+            @Value("${interest.near-cache.max-entries:10000}") int maxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.topN = topN;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    // 가장 높은 관심사 1개 (없으면 null)
+    public String getTopInterest(String identifier) {
+        List<String> interests = getTopInterests(identifier);
+        return interests.isEmpty() ? null : interests.get(0);
+    }
+
+    // 상위 N개 관심사 (점수 내림차순)
+    public List<String> getTopInterests(String identifier) {
+        long now = System.currentTimeMillis();
+        CachedInterests cached = entries.get(identifier);
+        if (cached != null && cached.expiresAt() > now) {
+            hitCount.incrementAndGet();
+            return cached.interests();
+        }
+        missCount.incrementAndGet();
+
+        Set<String> top = redisTemplate.opsForZSet()
+                .reverseRange(InterestScoreEngine.INTEREST_KEY_PREFIX + identifier, 0, topN - 1);
+        List<String> interests = (top != null) ? List.copyOf(new ArrayList<>(top)) : List.of();
+
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+        }
+        entries.put(identifier, new CachedInterests(interests, now + ttlMillis));
+        return interests;
+    }
+
+    public void invalidate(String identifier) {
+        if (identifier != null) {
+            entries.remove(identifier);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료 항목 정리 후에도 가득 차 있으면 전체 비움 (짧은 TTL 캐시라 재적재 비용이 작음)
+    private void evictExpired(long now) {
+        entries.values().removeIf(c -> c.expiresAt() <= now);
+        if (entries.size() >= maxEntries) {
+            log.debug("Interest near-cache full ({}), clearing", entries.size());
+            entries.clear();
+        }
+    }
+}
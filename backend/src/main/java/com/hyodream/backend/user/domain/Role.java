@@ -0,0 +1,6 @@
+package com.hyodream.backend.user.domain;
+
+public enum Role {
+    USER, // 일반 회원 (회원가입 시 기본값)
+    ADMIN // 관리자 (관리자 API 접근, DB에서 직접 지정)
+}
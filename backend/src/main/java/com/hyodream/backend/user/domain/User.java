@@ -27,6 +27,11 @@ public class User {
     @Column(nullable = false)
     private String name; // 실명
 
+    // 권한 (회원가입은 항상 USER, 관리자는 DB에서 직접 지정)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Role role = Role.USER;
+
     // 개인 신상 정보
     private String phone; // 전화번호
 
@@ -49,6 +54,11 @@ public class User {
     private List<UserHealthGoal> healthGoals = new ArrayList<>();
 
     // -- 편의 메서드 --
+    // 권한 컬럼 추가 전 가입자(null)는 일반 회원
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+
     // 지병 추가할 때 씀
     public void addDisease(UserDisease userDisease) {
         this.diseases.add(userDisease);
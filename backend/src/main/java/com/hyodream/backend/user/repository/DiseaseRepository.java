@@ -1,11 +1,18 @@
 package com.hyodream.backend.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.hyodream.backend.user.domain.Disease;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface DiseaseRepository extends JpaRepository<Disease, Long> {
     Optional<Disease> findByName(String name);
+
+    // 유저의 지병명 목록 (주문 시점 기록용, 엔티티/컬렉션 로딩 없음)
+    @Query("SELECT ud.disease.name FROM UserDisease ud WHERE ud.user.id = :userId ORDER BY ud.disease.name")
+    List<String> findNamesByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
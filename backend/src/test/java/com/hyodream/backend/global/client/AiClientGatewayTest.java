@@ -0,0 +1,179 @@
+package com.hyodream.backend.global.client;
+
+import com.hyodream.backend.global.client.crawler.CrawlerClient;
+import com.hyodream.backend.global.client.crawler.dto.CrawlerResponseDto;
+import com.hyodream.backend.global.client.review.dto.ReviewBatchAnalysisRequestDto;
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.dto.RecommendationResponseDto;
+import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.product.service.ProductService;
+import com.hyodream.backend.support.IntegrationTestSupport;
+import com.hyodream.backend.user.domain.HealthGoal;
+import com.hyodream.backend.user.domain.User;
+import com.hyodream.backend.user.domain.UserHealthGoal;
+import com.hyodream.backend.user.repository.HealthGoalRepository;
+import com.hyodream.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * [Resilience] AiClientGateway를 Stub 서버에 연결해 Timeout / Circuit Breaker / Bulkhead / Metrics 검증
+ * - 회로 상태는 클라이언트(label)별로 유지되므로 검증 항목마다 다른 클라이언트를 사용
+ *   (recommend: 회로, review: Read Timeout, crawler: Bulkhead - 한도 초과는 회로를 열지 않으므로 같은 클라이언트 공유 가능)
+ */
+@TestPropertySource(properties = {
+        "spring.cloud.openfeign.client.config.ai-review-client.read-timeout=300",
+        "ai.resilience.circuit.failure-threshold=3",
+        "ai.resilience.circuit.open-timeout-ms=60000",
+        "ai.resilience.circuit.reset-timeout-ms=60000",
+        "ai.resilience.bulkhead.crawler=1"
+})
+class AiClientGatewayTest extends IntegrationTestSupport {
+
+    private static final String HEALTH_GOAL = "회로 테스트 관절 건강";
+
+    @Autowired
+    private AiClientGateway aiClientGateway;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private HealthGoalRepository healthGoalRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readTimeoutFailsFastAndRecordsError() {
+        STUB.respond("/analyze/batch", 200, "{\"results\":[]}");
+        STUB.delay("/analyze/batch", 2000);
+
+        ReviewBatchAnalysisRequestDto request = new ReviewBatchAnalysisRequestDto(
+                List.of(new ReviewBatchAnalysisRequestDto.Item(1L, List.of("좋아요"))));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> aiClientGateway.analyzeReviewsBatch(request))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("AI 리뷰 분석 서버를 사용할 수 없습니다");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // read-timeout(300ms) 안팎에서 실패, Stub 응답(2초)을 기다리지 않음
+        assertThat(elapsedMillis).isLessThan(1500);
+        assertThat(timerCount("review", "error")).isEqualTo(1);
+        assertThat(fallbackCount("review")).isEqualTo(1);
+    }
+
+    @Test
+    void openCircuitSkipsAiServerAndKeepsNonAiSections() {
+        STUB.respond("/candidates/snapshot", 200, "{}");
+        STUB.respond("/recommend", 500, "{\"detail\":\"boom\"}");
+        String username = createUserWithHealthGoal();
+
+        for (int i = 0; i < 6; i++) {
+            RecommendationResponseDto response = productService.getRecommendedProducts(username, true);
+
+            // AI 섹션만 빠지고 기대효과 섹션은 그대로 응답
+            assertThat(response.getAi()).isNull();
+            assertThat(response.getHealthGoals()).hasSize(1);
+            assertThat(response.getHealthGoals().get(0).getProducts()).isNotEmpty();
+        }
+
+        // failure-threshold(3)번 실패 후 회로가 열려 나머지 호출은 AI 서버로 가지 않음
+        assertThat(STUB.requests("/recommend")).hasSize(3);
+        assertThat(timerCount("recommend", "error")).isEqualTo(3);
+        assertThat(fallbackCount("recommend")).isEqualTo(6);
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverLimit() {
+        STUB.respond("/crawl", 200, "{\"reviews\":[]}");
+        STUB.delay("/crawl", 1000);
+        CrawlerClient.CrawlRequest request = crawlRequest();
+        long successBefore = timerCount("crawler", "success");
+        long rejectedBefore = timerCount("crawler", "bulkhead_full");
+
+        // 한도(1)를 첫 호출이 점유한 상태에서 두 번째 호출
+        CompletableFuture<CrawlerResponseDto> first = CompletableFuture.supplyAsync(() -> aiClientGateway.crawlProduct(request));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> STUB.requests("/crawl").size() == 1);
+
+        assertThatThrownBy(() -> aiClientGateway.crawlProduct(request))
+                .isInstanceOf(AiClientGateway.BulkheadFullException.class)
+                .hasMessageContaining("동시 호출 한도를 초과했습니다: crawler");
+
+        assertThat(first.join().getReviews()).isEmpty();
+        assertThat(STUB.requests("/crawl")).hasSize(1);
+        assertThat(timerCount("crawler", "success") - successBefore).isEqualTo(1);
+        assertThat(timerCount("crawler", "bulkhead_full") - rejectedBefore).isEqualTo(1);
+    }
+
+    @Test
+    void bulkheadRejectionsDoNotOpenCircuit() {
+        STUB.respond("/crawl", 200, "{\"reviews\":[]}");
+        STUB.delay("/crawl", 1000);
+        CrawlerClient.CrawlRequest request = crawlRequest();
+
+        // 한도를 점유한 채 failure-threshold(3)보다 많이 거절
+        CompletableFuture<CrawlerResponseDto> first = CompletableFuture.supplyAsync(() -> aiClientGateway.crawlProduct(request));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> STUB.requests("/crawl").size() == 1);
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> aiClientGateway.crawlProduct(request))
+                    .isInstanceOf(AiClientGateway.BulkheadFullException.class);
+        }
+        first.join();
+
+        // 회로가 닫혀 있으므로 다음 호출은 크롤러 서버까지 전달됨 (Fallback 아님)
+        STUB.delay("/crawl", 0);
+        assertThat(aiClientGateway.crawlProduct(request).getReviews()).isEmpty();
+        assertThat(STUB.requests("/crawl")).hasSize(2);
+    }
+
+    private static CrawlerClient.CrawlRequest crawlRequest() {
+        return new CrawlerClient.CrawlRequest("https://smartstore.naver.com/test/products/1", 1);
+    }
+
+    private String createUserWithHealthGoal() {
+        HealthGoal goal = healthGoalRepository.findByName(HEALTH_GOAL).orElseGet(() -> {
+            HealthGoal created = new HealthGoal();
+            created.setName(HEALTH_GOAL);
+            return healthGoalRepository.save(created);
+        });
+
+        Product product = new Product();
+        product.setName("회로 테스트 상품");
+        product.setPrice(15000);
+        product.addBenefit(HEALTH_GOAL);
+        productRepository.save(product);
+
+        User user = new User();
+        user.setUsername("circuit-" + System.nanoTime());
+        user.setPassword("unused");
+        user.setName("회로테스트");
+        user.addHealthGoal(UserHealthGoal.createUserHealthGoal(goal));
+        userRepository.save(user);
+        return user.getUsername();
+    }
+
+    private long timerCount(String client, String outcome) {
+        Timer timer = meterRegistry.find("ai.client.requests").tags("client", client, "outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double fallbackCount(String client) {
+        Counter counter = meterRegistry.find("ai.client.fallbacks").tag("client", client).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
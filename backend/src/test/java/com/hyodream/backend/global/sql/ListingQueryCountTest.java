@@ -0,0 +1,118 @@
+package com.hyodream.backend.global.sql;
+
+import com.hyodream.backend.order.domain.Order;
+import com.hyodream.backend.order.domain.OrderItem;
+import com.hyodream.backend.order.repository.OrderRepository;
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.domain.Review;
+import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.product.repository.ReviewRepository;
+import com.hyodream.backend.support.IntegrationTestSupport;
+import com.hyodream.backend.user.domain.User;
+import com.hyodream.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * [N+1 회귀 방지] 목록 API의 요청당 SQL 수가 항목 수와 무관하게 고정되는지 검증
+ * - 상품 12개 / 리뷰 12개(이미지 포함) / 주문 12건(주문당 상품 2개)을 만든 뒤 10개 페이지 조회
+ * - N+1이 생기면 SQL 수가 항목 수(10) 이상으로 늘어 실패 (실패 메시지에 반복 SQL 출력)
+ */
+@AutoConfigureMockMvc
+class ListingQueryCountTest extends IntegrationTestSupport {
+
+    private static final String USERNAME = "query-count-user";
+    private static final int ITEMS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void seed() {
+        if (userRepository.findByUsername(USERNAME).isPresent()) {
+            return;
+        }
+        User user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword("unused");
+        user.setName("쿼리수");
+        Long userId = userRepository.save(user).getId();
+
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            Product product = new Product();
+            product.setName("쿼리 수 상품 " + i);
+            product.setPrice(10000 + i);
+            product.addBenefit("면역력");
+            product.addAllergen("대두");
+            productIds.add(productRepository.save(product).getId());
+        }
+
+        List<Review> reviews = new ArrayList<>();
+        for (Long productId : productIds) {
+            Review review = new Review();
+            review.setUserId(userId);
+            review.setProductId(productId);
+            review.setContent("쿼리 수 리뷰");
+            review.setScore(4);
+            review.getImages().add("https://example.com/review-" + productId + ".jpg");
+            reviews.add(review);
+        }
+        reviewRepository.saveAll(reviews);
+
+        for (int i = 0; i < ITEMS; i++) {
+            orderRepository.save(Order.createOrder(userId, List.of(
+                    OrderItem.createOrderItem(productIds.get(i), 10000, 1),
+                    OrderItem.createOrderItem(productIds.get((i + 1) % ITEMS), 10000, 2))));
+        }
+    }
+
+    @Test
+    void productListUsesFixedQueries() throws Exception {
+        // 상품 페이지 1 + count 1 + 효능/알레르기 컬렉션 Batch 조회 각 1
+        mockMvc.perform(get("/api/products").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(10))
+                .andExpect(QueryCountAssertions.maxQueries(4));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    void myReviewsUseFixedQueries() throws Exception {
+        // 사용자 1 + 리뷰 1 + 상품명 1 + 이미지 1
+        mockMvc.perform(get("/api/reviews/my"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ITEMS))
+                .andExpect(QueryCountAssertions.maxQueries(4));
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME)
+    void orderCursorUsesFixedQueries() throws Exception {
+        // 사용자 1 + 주문 1 + 주문 상품 1 + 상품명 1
+        mockMvc.perform(get("/api/orders/cursor").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(10))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(QueryCountAssertions.maxQueries(4));
+    }
+}
@@ -0,0 +1,70 @@
+package com.hyodream.backend.global.sql;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.function.Supplier;
+
+/**
+ * [N+1 회귀 방지] SQL 수 검증 도우미
+ *
+ * MockMvc (SqlMetricsFilter가 요청 속성에 남긴 범위 사용):
+ *   mockMvc.perform(get("/api/products")).andExpect(QueryCountAssertions.maxQueries(3));
+ *
+ * 서비스 메서드 단위:
+ *   QueryCountAssertions.assertMaxQueries(2, () -> reviewService.getMyReviews());
+ *
+ * 실패 메시지에 반복 실행된 SQL(N+1 후보)이 함께 출력됨
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static ResultMatcher maxQueries(int max) {
+        return result -> check(requestScope(result.getRequest().getAttribute(SqlMetricsFilter.REQUEST_ATTRIBUTE)), max);
+    }
+
+    public static ResultMatcher exactQueries(int expected) {
+        return result -> {
+            SqlQueryScope scope = requestScope(result.getRequest().getAttribute(SqlMetricsFilter.REQUEST_ATTRIBUTE));
+            if (scope.getStatements() != expected) {
+                throw new AssertionError("SQL " + expected + "회를 예상했지만 " + scope.describe(5));
+            }
+        };
+    }
+
+    public static <T> T assertMaxQueries(int max, Supplier<T> action) {
+        if (SqlQueryScope.current() != null) {
+            throw new IllegalStateException("이미 열린 SQL 범위 안에서는 개별 검증을 할 수 없습니다.");
+        }
+        SqlQueryScope scope = SqlQueryScope.open("assertMaxQueries");
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            scope.close();
+        }
+        check(scope, max);
+        return result;
+    }
+
+    public static void assertMaxQueries(int max, Runnable action) {
+        assertMaxQueries(max, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private static SqlQueryScope requestScope(Object attribute) {
+        if (!(attribute instanceof SqlQueryScope scope)) {
+            throw new AssertionError("SQL 범위가 없습니다. SqlMetricsFilter가 등록되었는지 확인하세요. (@AutoConfigureMockMvc, sql.metrics.enabled)");
+        }
+        return scope;
+    }
+
+    private static void check(SqlQueryScope scope, int max) {
+        if (scope.getStatements() > max) {
+            throw new AssertionError("SQL 최대 " + max + "회를 예상했지만 " + scope.describe(5));
+        }
+    }
+}
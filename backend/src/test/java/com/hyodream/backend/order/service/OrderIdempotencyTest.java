@@ -0,0 +1,165 @@
+package com.hyodream.backend.order.service;
+
+import com.hyodream.backend.order.dto.OrderRequestDto;
+import com.hyodream.backend.order.repository.OrderRepository;
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.support.IntegrationTestSupport;
+import com.hyodream.backend.user.domain.User;
+import com.hyodream.backend.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * [주문 Idempotency-Key] OrderService + OrderIdempotencyService를 실제 Redis/MySQL에 연결해 검증
+ * - 같은 키 + 같은 주문 내용(순서/분할 무관) 재요청은 기존 주문 ID 반환, 주문은 1건
+ * - 같은 키 + 다른 주문 내용은 KeyReusedException (Redis 값 비교, Redis 키 유실 후에는 orders.request_hash 비교)
+ * - 처리 중(PENDING)인 키로 들어온 요청은 거절
+ */
+class OrderIdempotencyTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Long productA;
+    private Long productB;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser("idem-" + UUID.randomUUID());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of()));
+        productA = createProduct("멱등 상품 A");
+        productB = createProduct("멱등 상품 B");
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void replaysSameRequestWithoutNewOrder() {
+        String key = UUID.randomUUID().toString();
+
+        Long orderId = orderService.order(List.of(item(productA, 2), item(productB, 1)), key);
+        // 같은 내용을 다른 순서/분할로 재전송
+        Long replayed = orderService.order(List.of(item(productB, 1), item(productA, 1), item(productA, 1)), key);
+
+        assertThat(replayed).isEqualTo(orderId);
+        assertThat(orderCountOf(key)).isEqualTo(1);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getRequestHash()).hasSize(64);
+    }
+
+    @Test
+    void rejectsSameKeyWithDifferentItems() {
+        String key = UUID.randomUUID().toString();
+        Long orderId = orderService.order(List.of(item(productA, 1)), key);
+
+        assertThatThrownBy(() -> orderService.order(List.of(item(productA, 3)), key))
+                .isInstanceOf(OrderIdempotencyService.KeyReusedException.class);
+        assertThatThrownBy(() -> orderService.order(List.of(item(productB, 1)), key))
+                .isInstanceOf(OrderIdempotencyService.KeyReusedException.class);
+
+        // 거절된 요청이 완료된 키를 지우지 않음
+        assertThat(orderService.order(List.of(item(productA, 1)), key)).isEqualTo(orderId);
+        assertThat(orderCountOf(key)).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsConcurrentRequestWhilePending() {
+        String key = UUID.randomUUID().toString();
+        List<OrderRequestDto> items = List.of(item(productA, 1));
+
+        // 다른 요청이 같은 키를 처리 중인 상태
+        assertThat(orderIdempotencyService.reserve(user.getId(), key, OrderService.requestHash(items))).isNull();
+
+        assertThatThrownBy(() -> orderService.order(items, key))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("처리 중");
+        assertThat(orderCountOf(key)).isZero();
+
+        // 처리 중이던 요청이 실패해 키를 해제하면 다시 주문 가능
+        orderIdempotencyService.release(user.getId(), key);
+        assertThat(orderService.order(items, key)).isNotNull();
+        assertThat(orderCountOf(key)).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackToOrdersTableAfterRedisKeyLost() {
+        String key = UUID.randomUUID().toString();
+        Long orderId = orderService.order(List.of(item(productA, 2)), key);
+
+        redisTemplate.delete(redisKey(key));
+
+        // 같은 내용 -> DB에서 기존 주문을 찾아 반환하고 Redis 값 복구
+        assertThat(orderService.order(List.of(item(productA, 2)), key)).isEqualTo(orderId);
+        assertThat(redisTemplate.opsForValue().get(redisKey(key))).startsWith(orderId + ":");
+        assertThat(orderCountOf(key)).isEqualTo(1);
+
+        // 다른 내용 -> orders.request_hash와 비교해 거절, 키는 해제되어 PENDING으로 남지 않음
+        redisTemplate.delete(redisKey(key));
+        assertThatThrownBy(() -> orderService.order(List.of(item(productB, 2)), key))
+                .isInstanceOf(OrderIdempotencyService.KeyReusedException.class);
+        assertThat(redisTemplate.hasKey(redisKey(key))).isFalse();
+        assertThat(orderCountOf(key)).isEqualTo(1);
+    }
+
+    private String redisKey(String key) {
+        return "order:idem:" + user.getId() + ":" + key;
+    }
+
+    private int orderCountOf(String key) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM orders WHERE user_id = ? AND idempotency_key = ?", Integer.class, user.getId(), key);
+        return (count != null) ? count : 0;
+    }
+
+    private static OrderRequestDto item(Long productId, int count) {
+        OrderRequestDto dto = new OrderRequestDto();
+        dto.setProductId(productId);
+        dto.setCount(count);
+        return dto;
+    }
+
+    private Long createProduct(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(12000);
+        product.setItemUrl("https://smartstore.naver.com/test/products/" + UUID.randomUUID());
+        return productRepository.save(product).getId();
+    }
+
+    private User createUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("encoded");
+        user.setName("멱등 테스트");
+        return userRepository.save(user);
+    }
+}
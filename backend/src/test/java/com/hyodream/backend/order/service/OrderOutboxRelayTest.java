@@ -0,0 +1,275 @@
+package com.hyodream.backend.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyodream.backend.order.domain.Order;
+import com.hyodream.backend.order.domain.OrderItem;
+import com.hyodream.backend.order.domain.OutboxEvent;
+import com.hyodream.backend.order.domain.OutboxEventType;
+import com.hyodream.backend.order.domain.OutboxStatus;
+import com.hyodream.backend.order.event.OrderOutboxPayload;
+import com.hyodream.backend.order.repository.OrderRepository;
+import com.hyodream.backend.order.repository.OutboxEventRepository;
+import com.hyodream.backend.payment.service.PaymentService;
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.product.service.EventStreamPublisher;
+import com.hyodream.backend.product.service.ProductInterestKeywordCache;
+import com.hyodream.backend.product.service.ProductSalesCounter;
+import com.hyodream.backend.product.service.SalesRollupService;
+import com.hyodream.backend.product.service.SalesRollupService.OrderLines;
+import com.hyodream.backend.support.IntegrationTestSupport;
+import com.hyodream.backend.user.domain.User;
+import com.hyodream.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * [Transactional Outbox] OrderOutboxRelay를 실제 MySQL(FOR UPDATE SKIP LOCKED)에 연결해 검증
+ * - 배치 전달: 결제 기록 + 판매량 반영 + 이벤트 PROCESSED가 한 트랜잭션으로 커밋
+ * - 배치 일괄 반영(Rollup) 실패 시 이벤트 단위로 다시 처리해 문제 이벤트만 격리
+ * - max-attempts(2) 초과 시 FAILED, 같은 주문 이벤트가 다시 와도 결제는 1번만 기록
+ * - 동시 주문 취소 요청은 비관적 락으로 줄 세워 취소 이벤트를 1번만 기록
+ */
+class OrderOutboxRelayTest extends IntegrationTestSupport {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private ProductSalesCounter productSalesCounter;
+    @Autowired
+    private SalesRollupService salesRollupService;
+    @Autowired
+    private ProductInterestKeywordCache interestKeywordCache;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SalesRollupService rollupSpy;
+    private OrderOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        rollupSpy = Mockito.spy(salesRollupService);
+        doReturn(true).when(rollupSpy).isBackfillCompleted();
+        relay = new OrderOutboxRelay(outboxEventRepository, paymentService, productSalesCounter, rollupSpy,
+                Mockito.mock(EventStreamPublisher.class), interestKeywordCache, objectMapper,
+                transactionManager, new SimpleMeterRegistry(), 200, 10, MAX_ATTEMPTS, 0, 7);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void dispatchesBatchAndRecordsPayment() {
+        Long productId = createProduct("릴레이 배치 상품");
+        int salesBefore = salesCountOf(productId);
+
+        List<OutboxEvent> events = new ArrayList<>();
+        for (long orderId : List.of(nextOrderId(), nextOrderId(), nextOrderId())) {
+            events.add(appendPlaced(orderId, productId, 2));
+        }
+
+        relay.relay();
+
+        for (OutboxEvent event : events) {
+            assertThat(statusOf(event)).isEqualTo(OutboxStatus.PROCESSED);
+            assertThat(paymentCountOf(event.getAggregateId())).isEqualTo(1);
+        }
+        assertThat(salesCountOf(productId)).isEqualTo(salesBefore + 6);
+    }
+
+    @Test
+    void isolatesPoisonEventAfterBatchRollback() {
+        Long productId = createProduct("릴레이 정상 상품");
+        Long poisonId = createProduct("릴레이 문제 상품");
+        int salesBefore = salesCountOf(productId);
+
+        // 문제 상품이 포함된 주문이 있으면 배치 Rollup 반영이 실패 (배치 전체 롤백)
+        doThrow(new RuntimeException("Rollup 반영 실패"))
+                .when(rollupSpy).applyOrders(argThat(orders -> orders.stream()
+                        .map(OrderLines::productIds)
+                        .anyMatch(ids -> ids.contains(poisonId))));
+
+        OutboxEvent first = appendPlaced(nextOrderId(), productId, 1);
+        OutboxEvent poison = appendPlaced(nextOrderId(), poisonId, 1);
+        OutboxEvent last = appendPlaced(nextOrderId(), productId, 1);
+
+        relay.relay();
+
+        // 정상 이벤트는 이벤트 단위 재처리로 전달, 문제 이벤트만 시도 횟수 증가
+        assertThat(statusOf(first)).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(statusOf(last)).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(salesCountOf(productId)).isEqualTo(salesBefore + 2);
+
+        OutboxEvent reloaded = outboxEventRepository.findById(poison.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(reloaded.getAttempts()).isEqualTo(1);
+        assertThat(paymentCountOf(poison.getAggregateId())).isZero();
+
+        // max-attempts 도달 -> FAILED로 격리되어 더 이상 선택되지 않음
+        relay.relay();
+        reloaded = outboxEventRepository.findById(poison.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(reloaded.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(reloaded.getLastError()).contains("Rollup 반영 실패");
+        assertThat(paymentCountOf(poison.getAggregateId())).isZero();
+    }
+
+    @Test
+    void marksUnreadablePayloadFailedAfterMaxAttempts() {
+        OutboxEvent broken = outboxEventRepository.save(
+                OutboxEvent.create(OutboxEventType.ORDER_PLACED, nextOrderId(), "{not-json"));
+
+        relay.relay();
+        assertThat(outboxEventRepository.findById(broken.getId()).orElseThrow().getAttempts()).isEqualTo(1);
+
+        relay.relay();
+        OutboxEvent reloaded = outboxEventRepository.findById(broken.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(reloaded.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void recordsPaymentExactlyOnceForRedeliveredEvent() {
+        Long productId = createProduct("릴레이 중복 상품");
+        long orderId = nextOrderId();
+
+        OutboxEvent placed = appendPlaced(orderId, productId, 1);
+        relay.relay();
+
+        // 같은 주문의 이벤트가 다시 기록되어도 (재전송 등) 결제는 1건
+        OutboxEvent redelivered = appendPlaced(orderId, productId, 1);
+        relay.relay();
+
+        assertThat(statusOf(placed)).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(statusOf(redelivered)).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(paymentCountOf(orderId)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCancelsAppendSingleCancelEvent() throws Exception {
+        Long productId = createProduct("동시 취소 상품");
+        User user = createUser("cancel-" + System.nanoTime());
+        Long orderId = orderRepository.save(Order.createOrder(user.getId(),
+                List.of(OrderItem.createOrderItem(productId, 12000, 1)))).getId();
+
+        int threads = 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of()));
+                start.await();
+                try {
+                    orderService.cancelOrder(orderId);
+                    return true;
+                } catch (RuntimeException e) {
+                    return false;
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(10, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded).isEqualTo(1);
+        Integer cancelEvents = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ? AND type = 'ORDER_CANCELED'",
+                Integer.class, orderId);
+        assertThat(cancelEvents).isEqualTo(1);
+    }
+
+    private OutboxEvent appendPlaced(long orderId, Long productId, int count) {
+        OrderOutboxPayload payload = new OrderOutboxPayload(orderId, 1L, "relay-test", 12000 * count, "CARD",
+                Map.of(productId, count), Map.of(productId, 12000L * count), System.currentTimeMillis(), List.of());
+        try {
+            return outboxEventRepository.save(OutboxEvent.create(OutboxEventType.ORDER_PLACED, orderId,
+                    objectMapper.writeValueAsString(payload)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 실제 주문 행 없이 이벤트만 만드는 테스트용 주문 ID (다른 테스트의 주문 ID와 겹치지 않게 큰 값 사용)
+    private static long nextOrderId() {
+        return 1_000_000_000L + System.nanoTime() % 1_000_000_000L;
+    }
+
+    private OutboxStatus statusOf(OutboxEvent event) {
+        return outboxEventRepository.findById(event.getId()).orElseThrow().getStatus();
+    }
+
+    private int paymentCountOf(Long orderId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM payments WHERE order_id = ?", Integer.class, orderId);
+        return (count != null) ? count : 0;
+    }
+
+    private int salesCountOf(Long productId) {
+        return productRepository.findById(productId).orElseThrow().getTotalSales();
+    }
+
+    private Long createProduct(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(12000);
+        product.setItemUrl("https://smartstore.naver.com/test/products/" + name.hashCode());
+        return productRepository.save(product).getId();
+    }
+
+    private User createUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("encoded");
+        user.setName("취소 테스트");
+        return userRepository.save(user);
+    }
+}
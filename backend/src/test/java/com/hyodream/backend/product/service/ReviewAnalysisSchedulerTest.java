@@ -0,0 +1,207 @@
+package com.hyodream.backend.product.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hyodream.backend.global.client.AiClientGateway;
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.domain.Review;
+import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.product.repository.ReviewRepository;
+import com.hyodream.backend.support.IntegrationTestSupport;
+import com.hyodream.backend.support.StubHttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [Request Coalescing] ReviewAnalysisScheduler + ProductSyncService를 Stub /analyze/batch에 연결해 검증
+ * - 같은 상품 중복 적재 -> 1번만 분석
+ * - max-size(3) 단위로 묶어 요청, 동시 배치 수는 max-concurrency(2) 이하
+ * - 배치마다 트랜잭션 2개만 커밋 (상태 선점 1 + 결과 저장 1, 상품 수와 무관)
+ */
+class ReviewAnalysisSchedulerTest extends IntegrationTestSupport {
+
+    private static final int MAX_BATCH_SIZE = 3;
+    private static final int MAX_CONCURRENCY = 2;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private AiClientGateway aiClientGateway;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private CommitCountingTransactionManager countingTransactionManager;
+    private final List<Thread> batchThreads = new CopyOnWriteArrayList<>();
+    private ReviewAnalysisScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        countingTransactionManager = new CommitCountingTransactionManager(transactionManager);
+        ProductSyncService productSyncService = new ProductSyncService(
+                productRepository, reviewRepository, aiClientGateway, countingTransactionManager);
+
+        // 배치마다 새 스레드 -> 스레드 이름으로 배치별 커밋 수 집계
+        AtomicInteger sequence = new AtomicInteger();
+        scheduler = new ReviewAnalysisScheduler(productSyncService, task -> {
+            Thread thread = new Thread(task, "review-batch-" + sequence.incrementAndGet());
+            batchThreads.add(thread);
+            thread.start();
+        }, MAX_BATCH_SIZE, MAX_CONCURRENCY, new SimpleMeterRegistry());
+
+        STUB.respond("/analyze/batch", this::labelAllPositive);
+        STUB.delay("/analyze/batch", 300); // 배치가 겹쳐 실행되도록
+    }
+
+    @Test
+    void coalescesQueuedProductsIntoBoundedBatches() throws Exception {
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            productIds.add(createProductWithReviews("분석 배치 상품 " + i, 2));
+        }
+
+        // 1. 같은 상품을 여러 번 적재해도 대기 큐에는 1번만
+        productIds.forEach(scheduler::enqueue);
+        productIds.forEach(scheduler::enqueue);
+        assertThat(scheduler.getQueuedCount()).isEqualTo(7);
+
+        // 2. 동시 실행 한도(2)만큼만 배치 시작 -> 3 + 3, 나머지 1개는 대기
+        scheduler.drain();
+        assertThat(batchThreads).hasSize(MAX_CONCURRENCY);
+        assertThat(scheduler.getQueuedCount()).isEqualTo(1);
+        joinBatches();
+
+        scheduler.drain();
+        assertThat(scheduler.getQueuedCount()).isZero();
+        joinBatches();
+
+        // 3. AI 요청은 배치당 1번, 상품은 각각 1번씩만 전송
+        List<StubHttpServer.Request> requests = STUB.requests("/analyze/batch");
+        assertThat(requests).hasSize(3);
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Long> sentIds = new ArrayList<>();
+        for (StubHttpServer.Request request : requests) {
+            JsonNode items = objectMapper.readTree(request.body()).get("items");
+            batchSizes.add(items.size());
+            items.forEach(item -> sentIds.add(item.get("product_id").asLong()));
+        }
+        assertThat(batchSizes).containsExactlyInAnyOrder(3, 3, 1);
+        assertThat(sentIds).containsExactlyInAnyOrderElementsOf(productIds);
+        assertThat(STUB.getMaxInFlight()).isEqualTo(MAX_CONCURRENCY);
+
+        // 4. 배치당 커밋 2번 (상태 선점 + 결과 저장)
+        assertThat(countingTransactionManager.commitsByThread()).hasSize(3)
+                .allSatisfy((thread, commits) -> assertThat(commits.get()).as(thread).isEqualTo(2));
+
+        // 5. 리뷰별 분류와 상품별 집계가 저장됨
+        for (Long productId : productIds) {
+            Map<String, Object> analysis = jdbcTemplate.queryForMap(
+                    "SELECT status, positive_count, negative_count FROM review_analysis WHERE product_id = ?", productId);
+            assertThat(analysis.get("status")).isEqualTo("COMPLETED");
+            assertThat(((Number) analysis.get("positive_count")).intValue()).isEqualTo(2);
+            assertThat(((Number) analysis.get("negative_count")).intValue()).isZero();
+        }
+        Integer unlabeled = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reviews WHERE product_id IN (" + joinIds(productIds) + ") AND sentiment IS NULL",
+                Integer.class);
+        assertThat(unlabeled).isZero();
+    }
+
+    private Long createProductWithReviews(String name, int reviewCount) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(10000);
+        Long productId = productRepository.save(product).getId();
+
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < reviewCount; i++) {
+            Review review = new Review();
+            review.setProductId(productId);
+            review.setContent("효과가 좋아요 " + i);
+            review.setScore(5);
+            reviews.add(review);
+        }
+        reviewRepository.saveAll(reviews);
+        return productId;
+    }
+
+    // 요청한 리뷰 수만큼 POSITIVE 라벨 반환
+    private StubHttpServer.Response labelAllPositive(String body) {
+        try {
+            ObjectNode response = objectMapper.createObjectNode();
+            ArrayNode results = response.putArray("results");
+            for (JsonNode item : objectMapper.readTree(body).get("items")) {
+                ObjectNode result = results.addObject();
+                result.put("product_id", item.get("product_id").asLong());
+                ArrayNode labels = result.putArray("labels");
+                item.get("reviews").forEach(review -> labels.add("POSITIVE"));
+            }
+            return new StubHttpServer.Response(200, objectMapper.writeValueAsString(response));
+        } catch (Exception e) {
+            return new StubHttpServer.Response(400, "{}");
+        }
+    }
+
+    private void joinBatches() throws InterruptedException {
+        for (Thread thread : batchThreads) {
+            thread.join(10_000);
+        }
+    }
+
+    private static String joinIds(List<Long> ids) {
+        return String.join(",", ids.stream().map(String::valueOf).toList());
+    }
+
+    // 커밋을 스레드(= 배치)별로 세는 트랜잭션 매니저
+    private static final class CommitCountingTransactionManager implements PlatformTransactionManager {
+
+        private final PlatformTransactionManager delegate;
+        private final Map<String, AtomicInteger> commits = new ConcurrentHashMap<>();
+
+        private CommitCountingTransactionManager(PlatformTransactionManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return delegate.getTransaction(definition);
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            delegate.commit(status);
+            commits.computeIfAbsent(Thread.currentThread().getName(), k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            delegate.rollback(status);
+        }
+
+        Map<String, AtomicInteger> commitsByThread() {
+            return commits;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.hyodream.backend.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyodream.backend.global.client.AiClientGateway;
+import com.hyodream.backend.global.sql.SqlQueryScope;
+import com.hyodream.backend.product.domain.Product;
+import com.hyodream.backend.product.domain.Review;
+import com.hyodream.backend.product.domain.ReviewSource;
+import com.hyodream.backend.product.repository.ProductRepository;
+import com.hyodream.backend.product.repository.ReviewRepository;
+import com.hyodream.backend.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * [외부 리뷰 수집] ReviewIngestionService를 Stub /crawl에 연결해 검증
+ * - batch-size(3) 단위 처리: 외부 ID 중복 확인은 묶음당 IN 쿼리 1회, 신규 리뷰는 묶음당 Batch Insert 1회
+ * - 리뷰 수/평균 평점/수집 시각 갱신, AI 분석 요청은 상품당 1번
+ * - 크롤링 실패 시 retry-after-failure-hours 뒤에 다시 선택되도록 수집 시각 기록
+ */
+class ReviewIngestionServiceTest extends IntegrationTestSupport {
+
+    private static final int BATCH_SIZE = 3;
+    private static final long RECRAWL_AFTER_HOURS = 72;
+    private static final long RETRY_AFTER_FAILURE_HOURS = 6;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private AiClientGateway aiClientGateway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private JdbcTemplate jdbcSpy;
+    private ReviewAnalysisScheduler reviewAnalysisScheduler;
+    private ReviewIngestionService ingestionService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcSpy = Mockito.spy(jdbcTemplate);
+        reviewAnalysisScheduler = Mockito.mock(ReviewAnalysisScheduler.class);
+        ingestionService = new ReviewIngestionService(productRepository, reviewRepository, aiClientGateway,
+                reviewAnalysisScheduler, jdbcSpy, transactionManager, Runnable::run,
+                10, 1, BATCH_SIZE, RECRAWL_AFTER_HOURS, RETRY_AFTER_FAILURE_HOURS);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ingestsNewReviewsInBatches() throws Exception {
+        Long productId = createProduct("수집 테스트 상품");
+        String prefix = "ingest-" + productId + "-";
+
+        // 이미 저장된 외부 리뷰 1건
+        Review existing = new Review();
+        existing.setProductId(productId);
+        existing.setSource(ReviewSource.NAVER);
+        existing.setExternalReviewId(prefix + 1);
+        existing.setContent("이미 수집된 리뷰");
+        existing.setScore(5);
+        reviewRepository.save(existing);
+
+        // 응답: 1(기존), 2(응답 안 중복), 3~6(신규) -> 묶음 [1,2,2] [3,4,5] [6]
+        List<Map<String, Object>> reviews = new ArrayList<>();
+        for (int id : new int[] { 1, 2, 2, 3, 4, 5, 6 }) {
+            reviews.add(Map.of(
+                    "id", prefix + id,
+                    "reviewScore", 4,
+                    "writerMemberId", "user" + id,
+                    "reviewContent", "수집된 리뷰 " + id,
+                    "createDate", "2024-05-01T12:34:56.000+00:00"));
+        }
+        STUB.respond("/crawl", 200, objectMapper.writeValueAsString(Map.of("reviews", reviews)));
+
+        int inserted;
+        SqlQueryScope scope = SqlQueryScope.open("ingest");
+        try {
+            inserted = ingestionService.ingest(productId, "https://smartstore.naver.com/test/products/" + productId);
+        } finally {
+            scope.close();
+        }
+
+        assertThat(inserted).isEqualTo(5);
+
+        // 1. 외부 ID 중복 확인: 묶음당 IN 쿼리 1회 (이미지가 없으므로 PK 재조회도 없음)
+        int externalIdLookups = scope.repeatedStatements(1).stream()
+                .filter(entry -> entry.getKey().toLowerCase().contains("external_review_id in"))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+        assertThat(externalIdLookups).as(scope.describe(5)).isEqualTo(3);
+
+        // 2. 신규 리뷰는 묶음당 Batch Insert 1회 (행마다 INSERT 아님)
+        ArgumentCaptor<Collection<Object>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcSpy, times(3)).batchUpdate(startsWith("INSERT INTO reviews"), batches.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(batches.getAllValues()).extracting(Collection::size).containsExactly(1, 3, 1);
+        verify(jdbcSpy, never()).batchUpdate(argThat((String sql) -> sql.contains("review_images")), anyList());
+
+        // 3. 상품 리뷰 통계 / 수집 시각 갱신 (기존 5점 1건 + 신규 4점 5건)
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(product.getReviewCount()).isEqualTo(6);
+        assertThat(product.getAverageRating()).isEqualTo(4.2);
+        assertThat(product.getReviewCrawledAt()).isCloseTo(LocalDateTime.now(), within(1, ChronoUnit.MINUTES));
+
+        // 4. AI 분석 요청은 상품당 1번
+        verify(reviewAnalysisScheduler, times(1)).enqueue(productId);
+
+        // 다시 수집하면 모두 기존 리뷰 -> 저장/분석 요청 없음
+        assertThat(ingestionService.ingest(productId, "https://smartstore.naver.com/test/products/" + productId)).isZero();
+        verify(reviewAnalysisScheduler, times(1)).enqueue(productId);
+    }
+
+    @Test
+    void recordsRetryTimeWhenCrawlFails() {
+        LocalDateTime expected = LocalDateTime.now().minusHours(RECRAWL_AFTER_HOURS - RETRY_AFTER_FAILURE_HOURS);
+
+        // 크롤러 5xx
+        Long failedId = createProduct("수집 실패 상품");
+        STUB.respond("/crawl", 500, "{\"detail\":\"crawler down\"}");
+        assertThat(ingestionService.ingest(failedId, "https://smartstore.naver.com/test/products/" + failedId)).isZero();
+
+        // 크롤러가 error 필드로 응답
+        Long erroredId = createProduct("수집 오류 상품");
+        STUB.respond("/crawl", 200, "{\"error\":\"blocked\"}");
+        assertThat(ingestionService.ingest(erroredId, "https://smartstore.naver.com/test/products/" + erroredId)).isZero();
+
+        for (Long productId : List.of(failedId, erroredId)) {
+            Product product = productRepository.findById(productId).orElseThrow();
+            assertThat(product.getReviewCount()).isZero();
+            assertThat(product.getReviewCrawledAt()).isCloseTo(expected, within(1, ChronoUnit.MINUTES));
+        }
+        verify(reviewAnalysisScheduler, never()).enqueue(any());
+        verify(jdbcSpy, never()).batchUpdate(startsWith("INSERT INTO reviews"), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private Long createProduct(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(12000);
+        product.setItemUrl("https://smartstore.naver.com/test/products/" + name.hashCode());
+        return productRepository.save(product).getId();
+    }
+}
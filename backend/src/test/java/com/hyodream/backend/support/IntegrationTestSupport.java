@@ -0,0 +1,50 @@
+package com.hyodream.backend.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * [통합 테스트 공통 환경]
+ * - MySQL / Redis: Testcontainers (테스트 JVM당 1번만 기동, 모든 테스트 클래스가 공유)
+ *   네이티브 쿼리(ON DUPLICATE KEY UPDATE, FOR UPDATE SKIP LOCKED 등)를 실제 MySQL에서 검증
+ * - 외부 서비스(AI 추천/리뷰 분석, 크롤러): StubHttpServer 1개로 교체
+ * - 테스트 설정: src/test/resources/application-test.yaml (시딩/주기 작업 끔)
+ *
+ * 컨테이너 DB는 테스트 간 공유되므로, 각 테스트는 자기가 만든 데이터만 기준으로 검증할 것
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class IntegrationTestSupport {
+
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @ServiceConnection(name = "redis")
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    protected static final StubHttpServer STUB = StubHttpServer.start();
+
+    static {
+        MYSQL.start();
+        REDIS.start();
+    }
+
+    @DynamicPropertySource
+    static void externalServices(DynamicPropertyRegistry registry) {
+        registry.add("ai.server.url", STUB::getUrl);
+        registry.add("ai.review.url", STUB::getUrl);
+        registry.add("crawler.url", STUB::getUrl);
+        registry.add("naver.api-url", STUB::getUrl);
+    }
+
+    @BeforeEach
+    void resetStub() {
+        STUB.reset();
+    }
+}
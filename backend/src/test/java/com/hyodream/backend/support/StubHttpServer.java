@@ -0,0 +1,132 @@
+package com.hyodream.backend.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * [테스트용 외부 서비스 Stub] 경로별 응답/지연을 테스트에서 지정하는 로컬 HTTP 서버
+ * - AI 추천/리뷰 분석, 크롤러를 한 포트로 대신함 (IntegrationTestSupport가 URL 주입)
+ * - 받은 요청 본문과 동시 처리 수(최대값)를 기록 -> 배치 크기, 동시 호출 한도 검증용
+ * - 요청 처리는 Virtual Thread (지연 주입 중에도 다른 요청이 막히지 않도록)
+ */
+public class StubHttpServer implements AutoCloseable {
+
+    public record Request(String method, String path, String body) {
+    }
+
+    public record Response(int status, String body) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, Function<String, Response>> routes = new ConcurrentHashMap<>();
+    private final Map<String, Long> delays = new ConcurrentHashMap<>();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private StubHttpServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 128);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    public static StubHttpServer start() {
+        try {
+            StubHttpServer stub = new StubHttpServer();
+            stub.server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("Stub 서버를 시작할 수 없습니다.", e);
+        }
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    // 요청 본문 -> 응답 (경로 단위, 등록되지 않은 경로는 404)
+    public void respond(String path, Function<String, Response> handler) {
+        routes.put(path, handler);
+    }
+
+    public void respond(String path, int status, String body) {
+        respond(path, request -> new Response(status, body));
+    }
+
+    // 응답 전 대기 (Read Timeout, 동시 호출 한도 검증용)
+    public void delay(String path, long millis) {
+        delays.put(path, millis);
+    }
+
+    public List<Request> requests(String path) {
+        return requests.stream().filter(r -> r.path().equals(path)).toList();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    // 테스트 간 상태 초기화 (응답/지연/기록 모두)
+    public void reset() {
+        routes.clear();
+        delays.clear();
+        requests.clear();
+        maxInFlight.set(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.add(new Request(exchange.getRequestMethod(), path, body));
+
+            long delay = delays.getOrDefault(path, 0L);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+
+            Function<String, Response> handler = routes.get(path);
+            Response response = handler != null ? handler.apply(body) : new Response(404, "{}");
+            write(exchange, response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 먼저 끊은 경우 (Read Timeout 검증 시 정상)
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static void write(HttpExchange exchange, Response response) throws IOException {
+        byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}